@@ -0,0 +1,93 @@
+package sample.cafekiosk.spring.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.ProductType;
+import sample.cafekiosk.spring.domain.order.Order;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> 응답 DTO 변환과 ApiResponse JSON 직렬화 비용
+ * ObjectMapper 는 스프링 부트와 같은 기본 설정(Jackson2ObjectMapperBuilder)으로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseBenchmark {
+
+    // 주문 줄 수, 상품 목록 크기
+    @Param({"1", "5", "20", "200"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private Order order;
+    private List<Product> products;
+    private ApiResponse<OrderResponse> orderResponse;
+    private ApiResponse<List<ProductResponse>> productResponses;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        ProductType[] types = ProductType.values();
+        products = new ArrayList<>();
+        Map<Product, Integer> quantities = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            Product product = Product.builder()
+                    .productNumber(String.format("%03d", i + 1))
+                    .type(types[i % types.length])
+                    .sellingStatus(ProductSellingStatus.SELLING)
+                    .name("상품" + i)
+                    .price(1000 + i * 100)
+                    .build();
+            products.add(product);
+            quantities.put(product, 1 + i % 3);
+        }
+        order = Order.create(quantities, LocalDateTime.of(2024, 1, 1, 10, 0));
+
+        orderResponse = ApiResponse.ok(OrderResponse.of(order));
+        productResponses = ApiResponse.ok(products.stream().map(ProductResponse::of).toList());
+    }
+
+    @Benchmark
+    public OrderResponse orderResponseOf() {
+        return OrderResponse.of(order);
+    }
+
+    @Benchmark
+    public List<ProductResponse> productResponseOf() {
+        List<ProductResponse> responses = new ArrayList<>(products.size());
+        for (Product product : products) {
+            responses.add(ProductResponse.of(product));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public byte[] serializeOrderResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(orderResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeProductResponses() throws Exception {
+        return objectMapper.writeValueAsBytes(productResponses);
+    }
+}
@@ -0,0 +1,117 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import sample.cafekiosk.spring.CafekioskApplication;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.ProductRepository;
+import sample.cafekiosk.spring.domain.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.ProductType;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+import sample.cafekiosk.spring.domain.stock.StockReservationRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderService.createOrder 전체 (상품 조회, 재고 차감, 주문 저장, 재고 예약) 를 인메모리 H2 로 측정한다.
+ * 쌓인 주문은 iteration 마다 지운다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderServiceBenchmark {
+
+    private static final int STOCK_QUANTITY = 100_000_000;
+
+    @Param({"1", "5", "20"})
+    private int items;
+
+    @Param({"0.0", "0.5"})
+    private double duplicateRatio;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private OrderCreateServiceRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CafekioskApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:order-benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.show-sql=false",
+                        "spring.sql.init.mode=never",
+                        "logging.level.root=warn"
+                )
+                .run();
+        orderService = context.getBean(OrderService.class);
+
+        ProductType[] types = ProductType.values();
+        int distinct = Math.max(1, (int) Math.round(items * (1 - duplicateRatio)));
+        List<Product> products = new ArrayList<>();
+        List<Stock> stocks = new ArrayList<>();
+        for (int i = 0; i < distinct; i++) {
+            ProductType type = types[i % types.length];
+            String productNumber = String.format("%03d", i + 1);
+            products.add(Product.builder()
+                    .productNumber(productNumber)
+                    .type(type)
+                    .sellingStatus(ProductSellingStatus.SELLING)
+                    .name("상품" + i)
+                    .price(1000 + i * 100)
+                    .build());
+            if (ProductType.containsStockType(type)) {
+                stocks.add(Stock.create(productNumber, STOCK_QUANTITY));
+            }
+        }
+        context.getBean(ProductRepository.class).saveAll(products);
+        context.getBean(StockRepository.class).saveAll(stocks);
+
+        List<String> productNumbers = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            productNumbers.add(products.get(i % distinct).getProductNumber());
+        }
+        request = OrderCreateServiceRequest.builder()
+                .productNumbers(productNumbers)
+                .build();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearOrders() {
+        context.getBean(StockReservationRepository.class).deleteAllInBatch();
+        context.getBean(OrderProductRepository.class).deleteAllInBatch();
+        context.getBean(OrderRepository.class).deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponse createOrder() {
+        return orderService.createOrder(request, LocalDateTime.now());
+    }
+}
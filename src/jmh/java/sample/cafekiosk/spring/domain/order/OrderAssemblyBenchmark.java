@@ -0,0 +1,100 @@
+package sample.cafekiosk.spring.domain.order;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.ProductType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 조립(요청 -> 상품별 수량 -> Order/OrderProduct) 구간의 시간과 할당량
+ * 총액 계산은 Order 생성 시 주문 줄과 함께 이뤄지므로 create 에 포함된다.
+ *
+ * ./gradlew jmh -PjmhIncludes=OrderAssemblyBenchmark
+ * 할당량은 -prof gc 의 gc.alloc.rate.norm (B/op) 로 본다. 변경 전후를 같은 조건에서 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderAssemblyBenchmark {
+
+    private static final LocalDateTime REGISTERED_DATE_TIME = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    // 주문에 담긴 상품 수 (같은 상품 포함)
+    @Param({"1", "5", "20"})
+    private int items;
+
+    // 앞서 담은 상품을 다시 담는 비율 (0.5 면 20개 중 10개가 중복 -> 10줄)
+    @Param({"0.0", "0.5"})
+    private double duplicateRatio;
+
+    private List<Product> products;
+    private Map<Product, Integer> productQuantities;
+    private OrderCreateServiceRequest request;
+
+    @Setup
+    public void setUp() {
+        ProductType[] types = ProductType.values();
+        int distinct = Math.max(1, (int) Math.round(items * (1 - duplicateRatio)));
+        List<Product> catalog = new ArrayList<>();
+        for (int i = 0; i < distinct; i++) {
+            catalog.add(Product.builder()
+                    .productNumber(String.format("%03d", i + 1))
+                    .type(types[i % types.length])
+                    .sellingStatus(ProductSellingStatus.SELLING)
+                    .name("상품" + i)
+                    .price(1000 + i * 100)
+                    .build());
+        }
+
+        products = new ArrayList<>();
+        productQuantities = new LinkedHashMap<>();
+        List<String> productNumbers = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            Product product = catalog.get(i % distinct);
+            products.add(product);
+            productQuantities.merge(product, 1, Integer::sum);
+            productNumbers.add(product.getProductNumber());
+        }
+        request = OrderCreateServiceRequest.builder()
+                .productNumbers(productNumbers)
+                .build();
+    }
+
+    @Benchmark
+    public Order createFromProductQuantities() {
+        return Order.create(productQuantities, REGISTERED_DATE_TIME);
+    }
+
+    @Benchmark
+    public Order createFromProducts() {
+        return Order.create(products, REGISTERED_DATE_TIME);
+    }
+
+    @Benchmark
+    public Map<String, Integer> quantitiesByProductNumber() {
+        return request.getQuantitiesByProductNumber();
+    }
+
+    @Benchmark
+    public void containsStockType(Blackhole blackhole) {
+        for (Product product : products) {
+            blackhole.consume(ProductType.containsStockType(product.getType()));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package sample.cafekiosk.spring.domain.stock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 차감(도메인) 비용. 매 iteration 마다 충분한 재고로 다시 채운다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StockBenchmark {
+
+    private Stock stock;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        stock = Stock.create("001", Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public int deductQuantity() {
+        stock.deductQuantity(1);
+        return stock.getQuantity();
+    }
+
+    @Benchmark
+    public boolean isQuantityLessThan() {
+        return stock.isQuantityLessThan(2);
+    }
+}
@@ -1,26 +1,113 @@
 package sample.cafekiosk.spring.api.controller.order;
 
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.controller.order.request.OrderBatchCreateRequest;
 import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.controller.order.request.OrderExportRequest;
+import sample.cafekiosk.spring.api.controller.order.request.OrderSearchRequest;
+import sample.cafekiosk.spring.api.controller.order.request.OrderStatusChangeRequest;
+import sample.cafekiosk.spring.api.service.order.OrderExportService;
+import sample.cafekiosk.spring.api.service.order.OrderGroupCommitter;
 import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderCreateResult;
+import sample.cafekiosk.spring.api.service.order.response.OrderPageResponse;
 import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @RestController
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final ObjectProvider<OrderGroupCommitter> orderGroupCommitter; // group commit 설정 시에만 존재
+    private final Validator validator;
 
     @PostMapping("/api/v1/orders/new")
     public ApiResponse<OrderResponse> createOrder(@Valid @RequestBody OrderCreateRequest request){
         LocalDateTime registeredDateTime = LocalDateTime.now();
+
+        OrderGroupCommitter groupCommitter = orderGroupCommitter.getIfAvailable();
+        if (groupCommitter != null) {
+            return ApiResponse.ok(groupCommitter.createOrder(request.toServiceRequest(), registeredDateTime));
+        }
         return ApiResponse.ok(orderService.createOrder(request.toServiceRequest(), registeredDateTime));
     }
+
+    /**
+     * 키오스크가 네트워크 장애 동안 쌓아둔 주문을 한번에 등록한다.
+     * 주문별 결과를 요청 순서대로 돌려준다. 검증에 실패하거나 재고가 부족한 주문만 실패하고 나머지 주문은 등록된다.
+     * (주문 리스트 자체가 비었거나 크기를 넘으면, 또는 비어있는 주문이 있으면 전체가 400 이다)
+     */
+    @PostMapping("/api/v1/orders/batch")
+    public ApiResponse<List<OrderCreateResult>> createOrders(@Valid @RequestBody OrderBatchCreateRequest request){
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        List<OrderCreateRequest> orders = request.getOrders();
+
+        OrderCreateResult[] results = new OrderCreateResult[orders.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<OrderCreateServiceRequest> validRequests = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            Set<ConstraintViolation<OrderCreateRequest>> violations = validator.validate(orders.get(i));
+            if (!violations.isEmpty()) {
+                results[i] = OrderCreateResult.failure(violations.iterator().next().getMessage());
+                continue;
+            }
+            validIndexes.add(i);
+            validRequests.add(orders.get(i).toServiceRequest());
+        }
+
+        if (!validRequests.isEmpty()) {
+            List<OrderCreateResult> created = orderService.createOrders(validRequests, registeredDateTime);
+            for (int i = 0; i < validIndexes.size(); i++) {
+                results[validIndexes.get(i)] = created.get(i);
+            }
+        }
+        return ApiResponse.ok(List.of(results));
+    }
+
+    @GetMapping("/api/v1/orders/{orderId}")
+    public ApiResponse<OrderResponse> getOrder(@PathVariable Long orderId) {
+        return ApiResponse.ok(orderService.getOrder(orderId));
+    }
+
+    @GetMapping("/api/v1/orders")
+    public ApiResponse<OrderPageResponse> getOrders(@Valid @ModelAttribute OrderSearchRequest request) {
+        return ApiResponse.ok(orderService.getOrders(request.toServiceRequest()));
+    }
+
+    /**
+     * 기간/상태별 주문을 CSV 로 내려보낸다. 주문을 모두 읽은 뒤 쓰지 않고 읽는 대로 응답 본문에 쓴다.
+     */
+    @GetMapping("/api/v1/orders/export")
+    public void exportOrders(@Valid @ModelAttribute OrderExportRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType("text/csv;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders.csv\"");
+        orderExportService.exportOrders(request.getFrom(), request.getTo(), request.getStatus(), response.getOutputStream());
+    }
+
+    @PostMapping("/api/v1/orders/{orderId}/status")
+    public ApiResponse<OrderResponse> changeOrderStatus(@PathVariable Long orderId,
+                                                        @Valid @RequestBody OrderStatusChangeRequest request) {
+        return ApiResponse.ok(orderService.changeOrderStatus(orderId, request.getOrderStatus()));
+    }
 }
@@ -3,9 +3,13 @@ package sample.cafekiosk.spring.api.controller.order;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import sample.cafekiosk.spring.api.service.mail.MailService;
-import sample.cafekiosk.spring.domain.order.Order;
-import sample.cafekiosk.spring.domain.order.OrderRepository;
-import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.api.service.sales.SalesAggregateService;
+import sample.cafekiosk.spring.api.service.sales.SalesRangeReportService;
+import sample.cafekiosk.spring.api.service.sales.request.SalesReportServiceRequest;
+import sample.cafekiosk.spring.api.service.sales.response.DailySalesResponse;
+import sample.cafekiosk.spring.api.service.sales.response.HourlySalesResponse;
+import sample.cafekiosk.spring.api.service.sales.response.ProductSalesResponse;
+import sample.cafekiosk.spring.api.service.sales.response.SalesReportResponse;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -14,28 +18,41 @@ import java.util.List;
 @Service
 public class OrderStatisticsService { // mail 전송이라는 긴 작업이 있는 service에서는 transactional을 걸지 않는게 좋다.(어차피 repository에 조회용 transacrional 걸려있음)
 
-    private final OrderRepository orderRepository;
+    private final SalesAggregateService salesAggregateService;
+    private final SalesRangeReportService salesRangeReportService;
     private final MailService mailService;
     public boolean sendOrderStatisticsMail(LocalDate orderDate, String email){
-        // 해당일자에 결제완료된 주문들을 가져와서
-        List<Order> orders = orderRepository.findOrdersBy(
-                // 주문 범위로 일시를 조회
-                orderDate.atStartOfDay(),
-                orderDate.plusDays(1).atStartOfDay(),
-                OrderStatus.PAYMENT_COMPLETED
-        );
-
-        // 총 매출 합계를 계산하고
-        int totalAmount = orders.stream()
-                .mapToInt(Order::getTotalPrice)
-                .sum();
+        // 해당일자의 결제완료 매출 집계를 읽어서 (주문을 읽지 않고 시간대별/상품별 집계 행만 읽는다)
+        DailySalesResponse sales = salesAggregateService.getDailySales(orderDate);
 
         // 메일전송
         boolean result = mailService.sendMail(
                 "no-reply@cafekiosk.com",
                 email,
                 String.format("[매출통계] %s", orderDate),
-                String.format("총 매출 합계는 %s원입니다.", totalAmount)
+                toContent(sales.getRevenue(), sales.getOrderCount(), sales.getHours(), sales.getProducts())
+        );
+        if(!result){
+            throw new IllegalArgumentException("매출 통계 메일 전송에 실패했습니다.");
+        }
+
+        return true;
+    }
+
+    /**
+     * 주간/월간/연간 매출 통계 메일. 하루씩 반복하지 않고 기간을 일 단위로 나눠 병렬로 집계한다.
+     */
+    public boolean sendOrderStatisticsMail(LocalDate from, LocalDate to, String email){
+        SalesReportResponse report = salesRangeReportService.getReport(SalesReportServiceRequest.builder()
+                .from(from)
+                .to(to)
+                .build());
+
+        boolean result = mailService.sendMail(
+                "no-reply@cafekiosk.com",
+                email,
+                String.format("[매출통계] %s ~ %s", from, to),
+                toContent(report.getRevenue(), report.getOrderCount(), report.getHours(), report.getProducts())
         );
         if(!result){
             throw new IllegalArgumentException("매출 통계 메일 전송에 실패했습니다.");
@@ -43,4 +60,22 @@ public class OrderStatisticsService { // mail 전송이라는 긴 작업이 있
 
         return true;
     }
+
+    // 첫 줄은 총 매출, 이어서 주문 수와 시간대별/상품별 내역
+    private static String toContent(long revenue, long orderCount, List<HourlySalesResponse> hours, List<ProductSalesResponse> products) {
+        StringBuilder content = new StringBuilder()
+                .append(String.format("총 매출 합계는 %s원입니다.", revenue))
+                .append(String.format("\n총 주문 수는 %s건입니다.", orderCount));
+
+        content.append("\n\n[시간대별 매출]");
+        for (HourlySalesResponse hour : hours) {
+            content.append(String.format("\n%02d시 %s건 %s원", hour.getHour(), hour.getOrderCount(), hour.getRevenue()));
+        }
+
+        content.append("\n\n[상품별 매출]");
+        for (ProductSalesResponse product : products) {
+            content.append(String.format("\n%s %s개 %s원", product.getProductNumber(), product.getQuantity(), product.getRevenue()));
+        }
+        return content.toString();
+    }
 }
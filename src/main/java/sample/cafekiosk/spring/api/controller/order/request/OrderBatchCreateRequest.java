@@ -0,0 +1,24 @@
+package sample.cafekiosk.spring.api.controller.order.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class OrderBatchCreateRequest {
+
+    @NotEmpty(message = "주문 리스트는 필수입니다.")
+    @Size(max = 500, message = "한번에 등록할 수 있는 주문은 500개 이하입니다.")
+    private List<@NotNull(message = "비어있는 주문이 있습니다.") OrderCreateRequest> orders; // 주문별 검증은 주문별 결과로 돌려준다. (OrderController)
+
+    @Builder
+    private OrderBatchCreateRequest(List<OrderCreateRequest> orders) {
+        this.orders = orders;
+    }
+}
@@ -1,6 +1,10 @@
 package sample.cafekiosk.spring.api.controller.order.request;
 
-import jakarta.validation.constraints.NotEmpty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,21 +13,37 @@ import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceReque
 
 import java.util.List;
 
+/**
+ * 상품번호 리스트(같은 상품은 반복) 또는 {상품번호, 수량} 주문 줄로 주문한다. 둘을 함께 보내면 합산한다.
+ */
 @Getter
 @NoArgsConstructor
 public class OrderCreateRequest {
 
-    @NotEmpty(message = "상품 번호 리스트는 필수입니다.")
     private List<String> productNumbers;
 
+    @Size(max = 100, message = "한 주문의 주문 줄은 100개 이하입니다.")
+    private List<@Valid @NotNull(message = "비어있는 주문 줄이 있습니다.") OrderLineRequest> orderLines;
+
     @Builder
-    public OrderCreateRequest(List<String> productNumbers) {
+    public OrderCreateRequest(List<String> productNumbers, List<OrderLineRequest> orderLines) {
         this.productNumbers = productNumbers;
+        this.orderLines = orderLines;
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "상품 번호 리스트는 필수입니다.")
+    public boolean isOrderProductsPresent() {
+        return (productNumbers != null && !productNumbers.isEmpty())
+                || (orderLines != null && !orderLines.isEmpty());
     }
 
     public OrderCreateServiceRequest toServiceRequest() {
         return OrderCreateServiceRequest.builder()
                 .productNumbers(productNumbers)
+                .orderLines(orderLines == null ? null : orderLines.stream()
+                        .map(OrderLineRequest::toServiceRequest)
+                        .toList())
                 .build();
     }
 }
@@ -0,0 +1,51 @@
+package sample.cafekiosk.spring.api.controller.order.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기 조건 (query parameter). 상태를 생략하면 모든 상태의 주문을 내보낸다.
+ * from 이상 to 미만의 주문을 내보내며, 기간은 최대 MAX_DAYS 일이다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class OrderExportRequest {
+
+    public static final int MAX_DAYS = 366;
+
+    @NotNull(message = "조회 시작 일시는 필수입니다.")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @NotNull(message = "조회 종료 일시는 필수입니다.")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    private OrderStatus status;
+
+    @Builder
+    private OrderExportRequest(LocalDateTime from, LocalDateTime to, OrderStatus status) {
+        this.from = from;
+        this.to = to;
+        this.status = status;
+    }
+
+    @AssertTrue(message = "조회 종료 일시는 시작 일시 이후여야 합니다.")
+    public boolean isValidRange() {
+        return from == null || to == null || to.isAfter(from);
+    }
+
+    @AssertTrue(message = "조회 기간은 366일 이하여야 합니다.")
+    public boolean isWithinMaxDays() {
+        return from == null || to == null || !to.isAfter(from.plusDays(MAX_DAYS));
+    }
+}
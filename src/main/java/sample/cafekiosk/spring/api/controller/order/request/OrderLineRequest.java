@@ -0,0 +1,34 @@
+package sample.cafekiosk.spring.api.controller.order.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.api.service.order.request.OrderLineServiceRequest;
+
+@Getter
+@NoArgsConstructor
+public class OrderLineRequest {
+
+    @NotBlank(message = "상품 번호는 필수입니다.")
+    private String productNumber;
+
+    @Positive(message = "주문 수량은 양수여야 합니다.")
+    @Max(value = 10000, message = "주문 수량은 10000개 이하여야 합니다.")
+    private int quantity;
+
+    @Builder
+    private OrderLineRequest(String productNumber, int quantity) {
+        this.productNumber = productNumber;
+        this.quantity = quantity;
+    }
+
+    public OrderLineServiceRequest toServiceRequest() {
+        return OrderLineServiceRequest.builder()
+                .productNumber(productNumber)
+                .quantity(quantity)
+                .build();
+    }
+}
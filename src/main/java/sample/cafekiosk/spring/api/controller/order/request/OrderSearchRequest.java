@@ -0,0 +1,65 @@
+package sample.cafekiosk.spring.api.controller.order.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+import sample.cafekiosk.spring.api.service.order.request.OrderSearchServiceRequest;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회 조건 (query parameter)
+ * 다음 페이지는 이전 응답의 nextCursorDateTime, nextCursorId 를 그대로 넘겨 조회한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class OrderSearchRequest {
+
+    @NotNull(message = "조회 시작 일시는 필수입니다.")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @NotNull(message = "조회 종료 일시는 필수입니다.")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    private OrderStatus status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime cursorDateTime;
+
+    private Long cursorId;
+
+    @Positive(message = "페이지 크기는 양수여야 합니다.")
+    @Max(value = 500, message = "페이지 크기는 500 이하여야 합니다.")
+    private int size = 50;
+
+    @Builder
+    private OrderSearchRequest(LocalDateTime from, LocalDateTime to, OrderStatus status,
+                               LocalDateTime cursorDateTime, Long cursorId, int size) {
+        this.from = from;
+        this.to = to;
+        this.status = status;
+        this.cursorDateTime = cursorDateTime;
+        this.cursorId = cursorId;
+        this.size = size;
+    }
+
+    public OrderSearchServiceRequest toServiceRequest() {
+        return OrderSearchServiceRequest.builder()
+                .from(from)
+                .to(to)
+                .status(status)
+                .cursorDateTime(cursorDateTime)
+                .cursorId(cursorId)
+                .size(size)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package sample.cafekiosk.spring.api.controller.order.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+@Getter
+@NoArgsConstructor
+public class OrderStatusChangeRequest {
+
+    @NotNull(message = "주문 상태는 필수입니다.")
+    private OrderStatus orderStatus;
+
+    @Builder
+    private OrderStatusChangeRequest(OrderStatus orderStatus) {
+        this.orderStatus = orderStatus;
+    }
+}
@@ -2,31 +2,117 @@ package sample.cafekiosk.spring.api.controller.product;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 import sample.cafekiosk.spring.api.ApiResponse;
 import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
+import sample.cafekiosk.spring.api.controller.product.dto.request.ProductSyncRequest;
+import sample.cafekiosk.spring.api.controller.product.dto.request.ProductUpdateRequest;
+import sample.cafekiosk.spring.api.service.product.ProductCatalogSnapshot;
+import sample.cafekiosk.spring.api.service.product.ProductImportFormat;
+import sample.cafekiosk.spring.api.service.product.ProductImportService;
+import sample.cafekiosk.spring.api.service.product.response.ProductImportResponse;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.api.service.product.response.ProductSyncResponse;
 import sample.cafekiosk.spring.api.service.product.ProductService;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 
 @RequiredArgsConstructor
 @RestController
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
 
     @PostMapping("/api/v1/products/new")
     public ApiResponse<ProductResponse> createProduct(@Valid @RequestBody ProductCreateRequest request){
         return ApiResponse.ok(productService.createProduct(request.toServiceRequest()));
     }
 
+    /**
+     * 상품 일괄 등록. 본문(NDJSON 또는 CSV)을 읽는 대로 검증/저장하고 행별 오류를 돌려준다.
+     */
+    @PostMapping(value = "/api/v1/products/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ApiResponse<ProductImportResponse> importProducts(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                             InputStream body) throws IOException {
+        return ApiResponse.ok(productImportService.importProducts(body, ProductImportFormat.from(contentType)));
+    }
+
+    @PatchMapping("/api/v1/products/{productNumber}")
+    public ApiResponse<ProductResponse> updateProduct(@PathVariable String productNumber, @Valid @RequestBody ProductUpdateRequest request){
+        return ApiResponse.ok(productService.updateProduct(productNumber, request.toServiceRequest()));
+    }
+
+    /**
+     * 미리 직렬화해 둔 스냅샷 바이트를 그대로 내려보낸다.
+     * ETag 가 If-None-Match 와 같으면 본문 없이 304 로 응답한다. (HttpEntityMethodProcessor)
+     */
     @GetMapping("/api/v1/products/selling")
-    public ApiResponse<List<ProductResponse>> getSellingProduct(){
-        return ApiResponse.ok(productService.getSellingProducts());
+    public ResponseEntity<byte[]> getSellingProduct(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding){
+        ProductCatalogSnapshot snapshot = productService.getSellingProductsSnapshot();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.getEtag())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (snapshot.hasGzippedBody() && acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getGzippedBody());
+        }
+        return response.body(snapshot.getBody());
+    }
+
+    @GetMapping("/api/v1/products/sync")
+    public ApiResponse<ProductSyncResponse> syncProducts(@Valid @ModelAttribute ProductSyncRequest request){
+        return ApiResponse.ok(productService.syncProducts(request.toServiceRequest(), LocalDateTime.now()));
+    }
+
+    /**
+     * Accept-Encoding 에서 gzip(없으면 *)의 q 값이 0 보다 크면 gzip 을 받을 수 있다. (gzip;q=0 은 거절)
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double q = qualityOf(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = q;
+            } else if (coding.equals("*")) {
+                any = q;
+            }
+        }
+        Double quality = gzip != null ? gzip : any;
+        return quality != null && quality > 0;
+    }
+
+    private static double qualityOf(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
     }
 }
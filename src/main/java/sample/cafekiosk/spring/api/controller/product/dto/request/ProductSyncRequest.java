@@ -0,0 +1,46 @@
+package sample.cafekiosk.spring.api.controller.product.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+import sample.cafekiosk.spring.api.service.product.request.ProductSyncServiceRequest;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 변경분 동기화 조건 (query parameter)
+ * 처음에는 since 없이 전체를 받고, 이후에는 이전 응답의 nextSince, nextSinceId 를 그대로 넘긴다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProductSyncRequest {
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime since;
+
+    private Long sinceId;
+
+    @Positive(message = "페이지 크기는 양수여야 합니다.")
+    @Max(value = 500, message = "페이지 크기는 500 이하여야 합니다.")
+    private int size = 200;
+
+    @Builder
+    private ProductSyncRequest(LocalDateTime since, Long sinceId, int size) {
+        this.since = since;
+        this.sinceId = sinceId;
+        this.size = size;
+    }
+
+    public ProductSyncServiceRequest toServiceRequest() {
+        return ProductSyncServiceRequest.builder()
+                .since(since)
+                .sinceId(sinceId)
+                .size(size)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package sample.cafekiosk.spring.api.controller.product.dto.request;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.api.service.product.request.ProductUpdateServiceRequest;
+import sample.cafekiosk.spring.domain.ProductSellingStatus;
+
+/**
+ * 값이 없는(null) 항목은 변경하지 않는다.
+ */
+@Getter
+@NoArgsConstructor
+public class ProductUpdateRequest {
+
+    private ProductSellingStatus sellingStatus;
+
+    @Positive(message = "상품 가격은 양수여야 합니다.")
+    private Integer price;
+
+    @Builder
+    private ProductUpdateRequest(ProductSellingStatus sellingStatus, Integer price) {
+        this.sellingStatus = sellingStatus;
+        this.price = price;
+    }
+
+    public ProductUpdateServiceRequest toServiceRequest() {
+        return ProductUpdateServiceRequest.builder()
+                .sellingStatus(sellingStatus)
+                .price(price)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package sample.cafekiosk.spring.api.controller.sales;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.controller.sales.request.SalesCubeRequest;
+import sample.cafekiosk.spring.api.controller.sales.request.SalesReportRequest;
+import sample.cafekiosk.spring.api.service.sales.SalesAggregateService;
+import sample.cafekiosk.spring.api.service.sales.SalesCubeService;
+import sample.cafekiosk.spring.api.service.sales.SalesRangeReportService;
+import sample.cafekiosk.spring.api.service.sales.SalesReportService;
+import sample.cafekiosk.spring.api.service.sales.response.DailySalesResponse;
+import sample.cafekiosk.spring.api.service.sales.response.SalesCubeResponse;
+import sample.cafekiosk.spring.api.service.sales.response.SalesReportResponse;
+
+import java.time.LocalDate;
+
+@RequiredArgsConstructor
+@RestController
+public class SalesController {
+
+    private final SalesAggregateService salesAggregateService;
+    private final SalesReportService salesReportService;
+    private final SalesRangeReportService salesRangeReportService;
+    private final SalesCubeService salesCubeService;
+
+    @GetMapping("/api/v1/sales/daily/{salesDate}")
+    public ApiResponse<DailySalesResponse> getDailySales(@PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate salesDate) {
+        return ApiResponse.ok(salesAggregateService.getDailySales(salesDate));
+    }
+
+    /**
+     * 하루치 매출 집계를 주문에서 다시 계산한다.
+     */
+    @PostMapping("/api/v1/sales/daily/{salesDate}/rebuild")
+    public ApiResponse<DailySalesResponse> rebuild(@PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate salesDate) {
+        return ApiResponse.ok(salesAggregateService.rebuild(salesDate));
+    }
+
+    /**
+     * 기간/상태별 매출 보고서 (합계, 시간대별, 상품별)
+     */
+    @GetMapping("/api/v1/sales/report")
+    public ApiResponse<SalesReportResponse> getReport(@Valid @ModelAttribute SalesReportRequest request) {
+        return ApiResponse.ok(salesReportService.getReport(request.toServiceRequest()));
+    }
+
+    /**
+     * 주간/월간/연간처럼 긴 기간의 매출 보고서. 일 단위 파티션을 병렬로 조회해 합친다.
+     */
+    @GetMapping("/api/v1/sales/range-report")
+    public ApiResponse<SalesReportResponse> getRangeReport(@Valid @ModelAttribute SalesReportRequest request) {
+        return ApiResponse.ok(salesRangeReportService.getReport(request.toServiceRequest()));
+    }
+
+    /**
+     * 일자/시간대/상품/상태로 자르고 묶어보는 매출 조회. DB 대신 메모리 매출 큐브에서 계산한다.
+     */
+    @GetMapping("/api/v1/sales/cube")
+    public ApiResponse<SalesCubeResponse> getCube(@Valid @ModelAttribute SalesCubeRequest request) {
+        return ApiResponse.ok(salesCubeService.query(request.toServiceRequest()));
+    }
+}
@@ -0,0 +1,74 @@
+package sample.cafekiosk.spring.api.controller.sales.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+import sample.cafekiosk.spring.api.service.sales.SalesCubeDimension;
+import sample.cafekiosk.spring.api.service.sales.request.SalesCubeServiceRequest;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 매출 큐브 조회 조건 (query parameter)
+ * from ~ to 일자(종료일 포함)를 시간대(hours), 상품(productNumbers), 상태(statuses)로 걸러 groupBy 축별로 합친다.
+ * 거르는 조건을 생략하면 전체(상태는 결제완료), groupBy 를 생략하면 합계만 준다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SalesCubeRequest {
+
+    @NotNull(message = "조회 시작일은 필수입니다.")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @NotNull(message = "조회 종료일은 필수입니다.")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    private List<Integer> hours;
+
+    private List<String> productNumbers;
+
+    private List<OrderStatus> statuses;
+
+    private SalesCubeDimension groupBy;
+
+    @Builder
+    private SalesCubeRequest(LocalDate from, LocalDate to, List<Integer> hours, List<String> productNumbers,
+                             List<OrderStatus> statuses, SalesCubeDimension groupBy) {
+        this.from = from;
+        this.to = to;
+        this.hours = hours;
+        this.productNumbers = productNumbers;
+        this.statuses = statuses;
+        this.groupBy = groupBy;
+    }
+
+    @AssertTrue(message = "조회 종료일은 시작일 이후여야 합니다.")
+    public boolean isValidRange() {
+        return from == null || to == null || !to.isBefore(from);
+    }
+
+    @AssertTrue(message = "조회 시간대는 0~23 사이여야 합니다.")
+    public boolean isValidHours() {
+        return hours == null || hours.stream().allMatch(hour -> hour != null && hour >= 0 && hour < 24);
+    }
+
+    public SalesCubeServiceRequest toServiceRequest() {
+        return SalesCubeServiceRequest.builder()
+                .from(from)
+                .to(to)
+                .hours(hours)
+                .productNumbers(productNumbers)
+                .statuses(statuses)
+                .groupBy(groupBy)
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package sample.cafekiosk.spring.api.controller.sales.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+import sample.cafekiosk.spring.api.service.sales.request.SalesReportServiceRequest;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 매출 보고서 조회 조건 (query parameter)
+ * from ~ to 일자(종료일 포함)의 주문을 statuses 상태로 걸러 집계한다. 상태를 생략하면 결제완료 주문만 집계한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SalesReportRequest {
+
+    @NotNull(message = "조회 시작일은 필수입니다.")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @NotNull(message = "조회 종료일은 필수입니다.")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    private List<OrderStatus> statuses;
+
+    @Builder
+    private SalesReportRequest(LocalDate from, LocalDate to, List<OrderStatus> statuses) {
+        this.from = from;
+        this.to = to;
+        this.statuses = statuses;
+    }
+
+    @AssertTrue(message = "조회 종료일은 시작일 이후여야 합니다.")
+    public boolean isValidRange() {
+        return from == null || to == null || !to.isBefore(from);
+    }
+
+    @AssertTrue(message = "조회 기간은 366일 이하여야 합니다.")
+    public boolean isWithinMaxDays() {
+        return from == null || to == null || to.isBefore(from)
+                || ChronoUnit.DAYS.between(from, to) < SalesReportServiceRequest.MAX_DAYS;
+    }
+
+    public SalesReportServiceRequest toServiceRequest() {
+        return SalesReportServiceRequest.builder()
+                .from(from)
+                .to(to)
+                .statuses(statuses)
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package sample.cafekiosk.spring.api.controller.stock;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.controller.stock.request.StockRebalanceRequest;
+import sample.cafekiosk.spring.api.service.stock.StockShardService;
+import sample.cafekiosk.spring.api.service.stock.response.StockResponse;
+
+@RequiredArgsConstructor
+@RestController
+public class StockController {
+
+    private final StockShardService stockShardService;
+
+    @GetMapping("/api/v1/stocks/{productNumber}")
+    public ApiResponse<StockResponse> getStock(@PathVariable String productNumber) {
+        return ApiResponse.ok(stockShardService.getStock(productNumber));
+    }
+
+    @PostMapping("/api/v1/stocks/{productNumber}/rebalance")
+    public ApiResponse<StockResponse> rebalance(@PathVariable String productNumber,
+                                                @Valid @RequestBody StockRebalanceRequest request) {
+        return ApiResponse.ok(stockShardService.rebalance(productNumber, request.getBucketCount()));
+    }
+}
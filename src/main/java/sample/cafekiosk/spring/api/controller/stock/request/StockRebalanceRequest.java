@@ -0,0 +1,19 @@
+package sample.cafekiosk.spring.api.controller.stock.request;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class StockRebalanceRequest {
+
+    @Positive(message = "재고 bucket 수는 양수여야 합니다.")
+    private int bucketCount;
+
+    @Builder
+    private StockRebalanceRequest(int bucketCount) {
+        this.bucketCount = bucketCount;
+    }
+}
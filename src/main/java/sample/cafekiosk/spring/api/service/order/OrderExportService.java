@@ -0,0 +1,70 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 기간/상태별 주문 내보내기 (CSV)
+ *
+ * 주문을 리스트로 모으지 않고 OrderRepository.streamOrdersBy 로 fetch size 만큼씩 읽으며 바로 쓴다.
+ * 읽은 주문은 clear-interval 건마다 영속성 컨텍스트에서 비우므로 하루 수십만 건이어도 메모리에는 그만큼만 남는다.
+ */
+@Service
+public class OrderExportService {
+
+    static final String HEADER = "orderId,registeredDateTime,orderStatus,totalPrice";
+
+    private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
+    private final int clearInterval;
+
+    public OrderExportService(OrderRepository orderRepository,
+                              EntityManager entityManager,
+                              @Value("${cafekiosk.order.export.clear-interval:1000}") int clearInterval) {
+        if (clearInterval <= 0) {
+            throw new IllegalArgumentException("주문 내보내기 clear-interval 은 양수여야 합니다.");
+        }
+        this.orderRepository = orderRepository;
+        this.entityManager = entityManager;
+        this.clearInterval = clearInterval;
+    }
+
+    /**
+     * @return 내보낸 주문 수
+     */
+    @Transactional(readOnly = true)
+    public long exportOrders(LocalDateTime from, LocalDateTime to, OrderStatus status, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+
+        long count = 0;
+        try (Stream<Order> orders = orderRepository.streamOrdersBy(from, to, status)) {
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                Order order = iterator.next();
+                writer.write('\n');
+                writer.write(order.getId() + "," + order.getRegisteredDateTime() + "," + order.getOrderStatus() + "," + order.getTotalPrice());
+                if (++count % clearInterval == 0) {
+                    entityManager.clear(); // 읽기 전용이라 flush 할 변경이 없다.
+                }
+            }
+        }
+        writer.flush();
+        return count;
+    }
+}
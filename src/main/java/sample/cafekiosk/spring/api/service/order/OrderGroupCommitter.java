@@ -0,0 +1,175 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderCreateResult;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 생성 group commit
+ *
+ * 동시에 들어온 주문 요청을 최대 max-wait 동안 또는 max-batch-size 개가 될 때까지 모았다가
+ * OrderService.createOrders 로 한 트랜잭션에서 처리한다. (커밋 비용을 여러 주문이 나눠 낸다)
+ * 요청마다 자기 주문의 결과(OrderResponse) 또는 자기 주문의 실패만 돌려받는다.
+ *
+ * cafekiosk.order.group-commit.enabled=true 일 때만 등록된다.
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "cafekiosk.order.group-commit", name = "enabled", havingValue = "true")
+@Component
+public class OrderGroupCommitter {
+
+    private final OrderService orderService;
+    private final long maxWaitNanos;
+    private final int maxBatchSize;
+
+    private final BlockingQueue<PendingOrder> queue = new LinkedBlockingQueue<>();
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    public OrderGroupCommitter(OrderService orderService,
+                               @Value("${cafekiosk.order.group-commit.max-wait:300us}") Duration maxWait,
+                               @Value("${cafekiosk.order.group-commit.max-batch-size:64}") int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("group commit 최대 주문 수는 양수여야 합니다.");
+        }
+        this.orderService = orderService;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.dispatcher = new Thread(this::dispatch, "order-group-commit");
+        this.dispatcher.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        dispatcher.interrupt();
+    }
+
+    /**
+     * 주문을 다음 group 에 넣고 결과가 나올 때까지 기다린다.
+     * 재고 부족 등 자기 주문의 실패는 IllegalArgumentException 으로 던진다.
+     */
+    public OrderResponse createOrder(OrderCreateServiceRequest request, LocalDateTime registeredDateTime) {
+        try {
+            return submit(request, registeredDateTime).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public CompletableFuture<OrderResponse> submit(OrderCreateServiceRequest request, LocalDateTime registeredDateTime) {
+        if (!running) {
+            throw new IllegalStateException("주문 group commit 이 종료되었습니다.");
+        }
+        PendingOrder pendingOrder = new PendingOrder(request, registeredDateTime);
+        queue.add(pendingOrder);
+        return pendingOrder.result;
+    }
+
+    private void dispatch() {
+        while (running) {
+            try {
+                List<PendingOrder> group = collect();
+                if (!group.isEmpty()) {
+                    commit(group);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        List<PendingOrder> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(order -> order.result.completeExceptionally(new IllegalStateException("주문 group commit 이 종료되었습니다.")));
+    }
+
+    /**
+     * 첫 주문이 들어온 뒤 max-wait 가 지나거나 max-batch-size 가 찰 때까지 모은다.
+     */
+    private List<PendingOrder> collect() throws InterruptedException {
+        PendingOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return List.of();
+        }
+
+        List<PendingOrder> group = new ArrayList<>(maxBatchSize);
+        group.add(first);
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (group.size() < maxBatchSize) {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                queue.drainTo(group, maxBatchSize - group.size());
+                break;
+            }
+            PendingOrder next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            group.add(next);
+        }
+        return group;
+    }
+
+    private void commit(List<PendingOrder> group) {
+        // 한 group 의 주문들은 첫 주문의 등록 시각으로 생성된다. (차이는 max-wait 이내)
+        LocalDateTime registeredDateTime = group.get(0).registeredDateTime;
+        List<OrderCreateServiceRequest> requests = group.stream()
+                .map(order -> order.request)
+                .toList();
+
+        List<OrderCreateResult> results;
+        try {
+            results = orderService.createOrders(requests, registeredDateTime);
+        } catch (RuntimeException e) {
+            log.warn("주문 group commit 실패. size={}", group.size(), e);
+            group.forEach(order -> order.result.completeExceptionally(e));
+            return;
+        }
+
+        for (int i = 0; i < group.size(); i++) {
+            OrderCreateResult result = results.get(i);
+            if (result.isSuccess()) {
+                group.get(i).result.complete(result.getOrder());
+            } else {
+                group.get(i).result.completeExceptionally(new IllegalArgumentException(result.getErrorMessage()));
+            }
+        }
+    }
+
+    private static final class PendingOrder {
+
+        private final OrderCreateServiceRequest request;
+        private final LocalDateTime registeredDateTime;
+        private final CompletableFuture<OrderResponse> result = new CompletableFuture<>();
+
+        private PendingOrder(OrderCreateServiceRequest request, LocalDateTime registeredDateTime) {
+            this.request = request;
+            this.registeredDateTime = registeredDateTime;
+        }
+    }
+}
@@ -1,98 +1,199 @@
 package sample.cafekiosk.spring.api.service.order;
 
+import com.google.common.collect.Maps;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
 import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.request.OrderSearchServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderCreateResult;
+import sample.cafekiosk.spring.api.service.order.response.OrderPageResponse;
 import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.product.ProductIndex;
+import sample.cafekiosk.spring.api.service.stock.StockBatchDeduction;
+import sample.cafekiosk.spring.api.service.stock.StockDeductionStrategies;
+import sample.cafekiosk.spring.api.service.stock.StockReservationService;
 import sample.cafekiosk.spring.domain.ProductType;
 import sample.cafekiosk.spring.domain.order.Order;
 import sample.cafekiosk.spring.domain.Product;
-import sample.cafekiosk.spring.domain.ProductRepository;
 import sample.cafekiosk.spring.domain.order.OrderRepository;
-import sample.cafekiosk.spring.domain.stock.Stock;
-import sample.cafekiosk.spring.domain.stock.StockRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Transactional // 굳이 설정하지 않더라도 레포지토리에 상속받아쓰는 구현체를 확인해보면 insert, delete 인 경우, transactional 이 다 걸려있음
 @RequiredArgsConstructor
 @Service
 public class OrderService {
 
-    private final ProductRepository productRepository;
+    private final ProductIndex productIndex;
     private final OrderRepository orderRepository;
-    private final StockRepository stockRepository;
+    private final StockDeductionStrategies stockDeductionStrategies;
+    private final StockBatchDeduction stockBatchDeduction;
+    private final StockReservationService stockReservationService;
 
     /**
      * 재고 감소 -> 동시성 고민
-     * optimistic lock / pessimistic lock / ...
+     * pessimistic lock / optimistic lock / 조건부 UPDATE / 메모리 원장 중 설정된 방식으로 차감 (StockDeductionStrategy)
+     * 차감한 재고는 예약(HELD)으로 남겨 결제 결과에 따라 확정/해제하고, 결정되지 않으면 만료시킨다.
      */
     public OrderResponse createOrder(OrderCreateServiceRequest request, LocalDateTime registeredDateTime) {
-        List<String> productNumbers = request.getProductNumbers();
-        List<Product> products = findProductsBy(productNumbers);
+        Map<Product, Integer> productQuantities = toProductQuantities(request.getQuantitiesByProductNumber(), productIndex.current());
 
-        deductStockQuantities(products);
+        // 합산 수량/총액 검증(Order.create)을 재고보다 먼저 한다. 범위를 넘는 주문은 재고를 건드리지 않는다.
+        Order order = Order.create(productQuantities, registeredDateTime);
+
+        Map<String, Integer> stockQuantities = deductStockQuantities(productQuantities);
 
-        Order order = Order.create(products, registeredDateTime);
         Order savedOrder = orderRepository.save(order);
 
+        stockReservationService.hold(savedOrder.getId(), stockQuantities, registeredDateTime);
+
         // Order
         return OrderResponse.of(savedOrder);
     }
 
-    private void deductStockQuantities(List<Product> products) {
-        // 재고 차감체크가 필요한 상품들 fillter
-        List<String> stockProductNumbers = extractStockProductNumbers(products);
+    /**
+     * 여러 주문을 한 트랜잭션에서 생성한다. (group commit, 일괄 주문)
+     * 재고 잠금은 주문 전체에 대해 한번만 하고, 주문은 한번에 저장한다. (상품은 ProductIndex 에서 찾는다)
+     * 존재하지 않는 상품이나 재고가 부족한 상품이 있는 주문, 수량/총액이 허용 범위를 넘는 주문만 실패하고 나머지 주문은 생성된다.
+     * 주문별 검증(수량 합산, 총액 계산)은 재고를 차감하기 전에 끝내므로 한 주문의 예외가 트랜잭션 전체를 되돌리지 않는다.
+     *
+     * @return 주문별 결과 (requests 와 같은 순서)
+     */
+    public List<OrderCreateResult> createOrders(List<OrderCreateServiceRequest> requests, LocalDateTime registeredDateTime) {
+        ProductIndex.Snapshot products = productIndex.current();
+
+        OrderCreateResult[] results = new OrderCreateResult[requests.size()];
+        List<Integer> candidates = new ArrayList<>();
+        List<Order> candidateOrders = new ArrayList<>();
+        List<Map<String, Integer>> stockQuantities = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                Map<Product, Integer> productQuantities = toProductQuantities(requests.get(i).getQuantitiesByProductNumber(), products);
+                candidateOrders.add(Order.create(productQuantities, registeredDateTime));
+                stockQuantities.add(extractStockQuantities(productQuantities));
+                candidates.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = OrderCreateResult.failure(e.getMessage());
+            }
+        }
+
+        List<Boolean> deducted = stockBatchDeduction.deductEach(stockQuantities);
 
-        // 재고 엔티티 조회
-        Map<String, Stock> stockMap = createStockMapBy(stockProductNumbers);
-        // 상품별 counting
-        Map<String, Long> productCountingMap = createCountingMap(stockProductNumbers);
+        List<Order> orders = new ArrayList<>();
+        List<Map<String, Integer>> orderStockQuantities = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (!deducted.get(i)) {
+                results[candidates.get(i)] = OrderCreateResult.failure("재고가 부족한 상품이 있습니다.");
+                continue;
+            }
+            orders.add(candidateOrders.get(i));
+            orderStockQuantities.add(stockQuantities.get(i));
+        }
 
-        // 재고 차감 시도
-        for (String stockProductNumber : new HashSet<>(stockProductNumbers)){ // 중복제거를 위해 set에 넣어줌
-            Stock stock = stockMap.get(stockProductNumber);
-            int quantity = productCountingMap.get(stockProductNumber).intValue();
+        List<Order> savedOrders = orderRepository.saveAll(orders);
+        for (int i = 0; i < savedOrders.size(); i++) {
+            stockReservationService.hold(savedOrders.get(i).getId(), orderStockQuantities.get(i), registeredDateTime);
+        }
 
-            if (stock.isQuantityLessThan(quantity)){
-                throw new IllegalArgumentException("재고가 부족한 상품이 있습니다."); // 사용자 친화적인 메시지
+        int saved = 0;
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] = OrderCreateResult.success(OrderResponse.of(savedOrders.get(saved++)));
             }
-            stock.deductQuantity(quantity);
         }
+        return List.of(results);
     }
 
-    private static Map<String, Long> createCountingMap(List<String> stockProductNumbers) {
-        return stockProductNumbers.stream()
-                .collect(Collectors.groupingBy(p -> p, Collectors.counting()));
+    /**
+     * 주문 상세. 주문과 주문 줄을 한번의 fetch join 으로 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public OrderResponse getOrder(Long orderId) {
+        return orderRepository.findWithOrderProductsById(orderId)
+                .map(OrderResponse::of)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
     }
 
-    private Map<String, Stock> createStockMapBy(List<String> stockProductNumbers) {
-        List<Stock> stocks = stockRepository.findAllByProductNumberIn(stockProductNumbers);
-        return stocks.stream()
-                .collect(Collectors.toMap(Stock::getProductNumber, s -> s));
+    /**
+     * 기간/상태별 주문 목록 (registeredDateTime, id 순 keyset 페이지)
+     * 페이지의 id 를 먼저 keyset 으로 고르고, 그 주문들만 주문 줄과 함께 fetch join 으로 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public OrderPageResponse getOrders(OrderSearchServiceRequest request) {
+        List<Long> ids = orderRepository.findIdsAfter(
+                request.getFrom(),
+                request.getTo(),
+                request.getStatus(),
+                request.getCursorDateTimeOrFrom(),
+                request.getCursorIdOrZero(),
+                Limit.of(request.getSize() + 1) // 다음 페이지 존재 여부 확인용 1건
+        );
+
+        boolean hasNext = ids.size() > request.getSize();
+        List<Long> pageIds = hasNext ? ids.subList(0, request.getSize()) : ids;
+        if (pageIds.isEmpty()) {
+            return OrderPageResponse.of(List.of(), false);
+        }
+
+        List<OrderResponse> orders = orderRepository.findAllWithOrderProductsByIdIn(pageIds).stream()
+                .map(OrderResponse::of)
+                .toList();
+        return OrderPageResponse.of(orders, hasNext);
     }
 
-    private static List<String> extractStockProductNumbers(List<Product> products) {
-        return products.stream()
-                .filter(product -> ProductType.containsStockType(product.getType()))
-                .map(Product::getProductNumber)
-                .collect(Collectors.toList());
+    /**
+     * 주문 상태 변경. 재고 예약 확정/해제는 save 시 발행되는 OrderStatusChangedEvent 로 처리된다.
+     */
+    public OrderResponse changeOrderStatus(Long orderId, OrderStatus orderStatus) {
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
+
+        order.changeOrderStatus(orderStatus);
+
+        return OrderResponse.of(orderRepository.save(order));
     }
 
-    private List<Product> findProductsBy(List<String> productNumbers) {
-        List<Product> products = productRepository.findAllByProductNumberIn(productNumbers);
+    private Map<String, Integer> deductStockQuantities(Map<Product, Integer> productQuantities) {
+        // 재고 차감체크가 필요한 상품들 fillter + 상품별 수량
+        Map<String, Integer> stockQuantities = extractStockQuantities(productQuantities);
+        if (stockQuantities.isEmpty()) {
+            return stockQuantities;
+        }
+
+        // 재고 차감 시도 (차감 방식은 cafekiosk.stock.deduction-mode 설정을 따른다)
+        stockDeductionStrategies.get().deduct(stockQuantities);
+        return stockQuantities;
+    }
 
-        // 중복되는 상품번호 주문일 경우를 고려함
-        Map<String, Product> productMap = products.stream()
-                .collect(Collectors.toMap(Product::getProductNumber, p -> p));
-        return productNumbers.stream()
-                .map(productMap::get)
-                .collect(Collectors.toList());
+    private static Map<String, Integer> extractStockQuantities(Map<Product, Integer> productQuantities) {
+        Map<String, Integer> stockQuantities = Maps.newLinkedHashMapWithExpectedSize(productQuantities.size());
+        for (Map.Entry<Product, Integer> quantity : productQuantities.entrySet()) {
+            Product product = quantity.getKey();
+            if (ProductType.containsStockType(product.getType())) {
+                stockQuantities.put(product.getProductNumber(), quantity.getValue());
+            }
+        }
+        return stockQuantities;
+    }
+
+    /**
+     * 상품번호별 수량을 상품별 수량으로 바꾼다. 없는 상품이 있으면 예외를 던진다.
+     */
+    private static Map<Product, Integer> toProductQuantities(Map<String, Integer> quantities, ProductIndex.Snapshot products) {
+        if (!products.containsAll(quantities.keySet())) {
+            throw new IllegalArgumentException("존재하지 않는 상품이 있습니다.");
+        }
+        Map<Product, Integer> productQuantities = Maps.newLinkedHashMapWithExpectedSize(quantities.size());
+        for (Map.Entry<String, Integer> quantity : quantities.entrySet()) {
+            productQuantities.put(products.get(quantity.getKey()), quantity.getValue());
+        }
+        return productQuantities;
     }
 }
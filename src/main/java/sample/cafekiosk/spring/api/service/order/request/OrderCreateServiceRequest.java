@@ -1,20 +1,46 @@
 package sample.cafekiosk.spring.api.service.order.request;
 
-import jakarta.validation.constraints.NotEmpty;
+import com.google.common.collect.Maps;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @NoArgsConstructor
 public class OrderCreateServiceRequest {
 
-    private List<String> productNumbers;
+    private List<String> productNumbers = List.of();
+    private List<OrderLineServiceRequest> orderLines = List.of();
 
     @Builder
-    public OrderCreateServiceRequest(List<String> productNumbers) {
-        this.productNumbers = productNumbers;
+    public OrderCreateServiceRequest(List<String> productNumbers, List<OrderLineServiceRequest> orderLines) {
+        this.productNumbers = productNumbers == null ? List.of() : productNumbers;
+        this.orderLines = orderLines == null ? List.of() : orderLines;
+    }
+
+    /**
+     * 상품번호별 주문 수량 (요청 순서 유지)
+     * 상품번호 리스트에 반복된 상품번호는 하나씩, 주문 줄은 수량만큼 더한다.
+     */
+    public Map<String, Integer> getQuantitiesByProductNumber() {
+        Map<String, Integer> quantities = Maps.newLinkedHashMapWithExpectedSize(productNumbers.size() + orderLines.size());
+        for (String productNumber : productNumbers) {
+            quantities.merge(productNumber, 1, OrderCreateServiceRequest::addQuantity);
+        }
+        for (OrderLineServiceRequest line : orderLines) {
+            quantities.merge(line.getProductNumber(), line.getQuantity(), OrderCreateServiceRequest::addQuantity);
+        }
+        return quantities;
+    }
+
+    private static int addQuantity(int quantity, int added) {
+        try {
+            return Math.addExact(quantity, added);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("주문 수량이 허용 범위를 넘습니다.");
+        }
     }
 }
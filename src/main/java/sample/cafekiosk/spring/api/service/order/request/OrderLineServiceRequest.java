@@ -0,0 +1,19 @@
+package sample.cafekiosk.spring.api.service.order.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class OrderLineServiceRequest {
+
+    private String productNumber;
+    private int quantity;
+
+    @Builder
+    public OrderLineServiceRequest(String productNumber, int quantity) {
+        this.productNumber = productNumber;
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,40 @@
+package sample.cafekiosk.spring.api.service.order.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class OrderSearchServiceRequest {
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final OrderStatus status;
+    private final LocalDateTime cursorDateTime;
+    private final Long cursorId;
+    private final int size;
+
+    @Builder
+    private OrderSearchServiceRequest(LocalDateTime from, LocalDateTime to, OrderStatus status,
+                                      LocalDateTime cursorDateTime, Long cursorId, int size) {
+        this.from = from;
+        this.to = to;
+        this.status = status;
+        this.cursorDateTime = cursorDateTime;
+        this.cursorId = cursorId;
+        this.size = size;
+    }
+
+    /**
+     * 첫 페이지는 조회 시작 일시부터 읽는다. (id 는 항상 양수)
+     */
+    public LocalDateTime getCursorDateTimeOrFrom() {
+        return cursorDateTime == null ? from : cursorDateTime;
+    }
+
+    public Long getCursorIdOrZero() {
+        return cursorDateTime == null || cursorId == null ? 0L : cursorId;
+    }
+}
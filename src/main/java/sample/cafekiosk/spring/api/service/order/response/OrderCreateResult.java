@@ -0,0 +1,28 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Getter;
+
+/**
+ * 여러 주문을 한번에 생성할 때의 주문별 결과. 실패한 주문은 order 없이 실패 사유만 가진다.
+ */
+@Getter
+public class OrderCreateResult {
+
+    private final boolean success;
+    private final OrderResponse order;
+    private final String errorMessage;
+
+    private OrderCreateResult(boolean success, OrderResponse order, String errorMessage) {
+        this.success = success;
+        this.order = order;
+        this.errorMessage = errorMessage;
+    }
+
+    public static OrderCreateResult success(OrderResponse order) {
+        return new OrderCreateResult(true, order, null);
+    }
+
+    public static OrderCreateResult failure(String errorMessage) {
+        return new OrderCreateResult(false, null, errorMessage);
+    }
+}
@@ -0,0 +1,37 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 목록 한 페이지. 다음 페이지가 있으면 next cursor 로 이어서 조회한다.
+ */
+@Getter
+public class OrderPageResponse {
+
+    private List<OrderResponse> orders;
+    private boolean hasNext;
+    private LocalDateTime nextCursorDateTime;
+    private Long nextCursorId;
+
+    @Builder
+    private OrderPageResponse(List<OrderResponse> orders, boolean hasNext, LocalDateTime nextCursorDateTime, Long nextCursorId) {
+        this.orders = orders;
+        this.hasNext = hasNext;
+        this.nextCursorDateTime = nextCursorDateTime;
+        this.nextCursorId = nextCursorId;
+    }
+
+    public static OrderPageResponse of(List<OrderResponse> orders, boolean hasNext) {
+        OrderResponse last = orders.isEmpty() ? null : orders.get(orders.size() - 1);
+        return OrderPageResponse.builder()
+                .orders(orders)
+                .hasNext(hasNext)
+                .nextCursorDateTime(hasNext ? last.getRegisteredDateTime() : null)
+                .nextCursorId(hasNext ? last.getId() : null)
+                .build();
+    }
+}
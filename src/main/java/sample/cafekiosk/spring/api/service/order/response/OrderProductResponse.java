@@ -0,0 +1,38 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.ProductType;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProduct;
+
+/**
+ * 주문 줄. 주문 시점의 상품 정보(snapshot)로 만든다. price 는 상품 단가, quantity 는 주문 수량이다.
+ */
+@Getter
+public class OrderProductResponse {
+
+    private String productNumber;
+    private ProductType type;
+    private String name;
+    private int price;
+    private int quantity;
+
+    @Builder
+    private OrderProductResponse(String productNumber, ProductType type, String name, int price, int quantity) {
+        this.productNumber = productNumber;
+        this.type = type;
+        this.name = name;
+        this.price = price;
+        this.quantity = quantity;
+    }
+
+    public static OrderProductResponse of(OrderProduct orderProduct) {
+        return OrderProductResponse.builder()
+                .productNumber(orderProduct.getProductNumber())
+                .type(orderProduct.getProductType())
+                .name(orderProduct.getProductName())
+                .price(orderProduct.getProductPrice())
+                .quantity(orderProduct.getQuantity())
+                .build();
+    }
+}
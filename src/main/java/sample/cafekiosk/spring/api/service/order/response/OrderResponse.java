@@ -2,8 +2,8 @@ package sample.cafekiosk.spring.api.service.order.response;
 
 import lombok.Builder;
 import lombok.Getter;
-import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
 import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -13,13 +13,15 @@ import java.util.stream.Collectors;
 public class OrderResponse {
 
     private Long id;
+    private OrderStatus orderStatus;
     private int totalPrice;
     private LocalDateTime registeredDateTime;
-    private List<ProductResponse> products;
+    private List<OrderProductResponse> products;
 
     @Builder
-    public OrderResponse(Long id, int totalPrice, LocalDateTime registeredDateTime, List<ProductResponse> products) {
+    public OrderResponse(Long id, OrderStatus orderStatus, int totalPrice, LocalDateTime registeredDateTime, List<OrderProductResponse> products) {
         this.id = id;
+        this.orderStatus = orderStatus;
         this.totalPrice = totalPrice;
         this.registeredDateTime = registeredDateTime;
         this.products = products;
@@ -28,10 +30,11 @@ public class OrderResponse {
     public static OrderResponse of(Order order) {
         return OrderResponse.builder()
                 .id(order.getId())
+                .orderStatus(order.getOrderStatus())
                 .totalPrice(order.getTotalPrice())
                 .registeredDateTime(order.getRegisteredDateTime())
                 .products(order.getOrderProducts().stream()
-                        .map(orderProduct -> ProductResponse.of(orderProduct.getProduct()))
+                        .map(OrderProductResponse::of)
                         .collect(Collectors.toList())
                 )
                 .build();
@@ -0,0 +1,84 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.domain.ProductChangedEvent;
+import sample.cafekiosk.spring.domain.ProductRepository;
+import sample.cafekiosk.spring.domain.ProductSellingStatus;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 판매 상태별 상품 목록 캐시 (read-through)
+ *
+ * 상품이 바뀌면(ProductChangedEvent) 커밋 후에 세대(generation)를 올리고 비운다.
+ * 키에 세대가 들어가므로 무효화 전에 시작된 조회가 늦게 끝나도 지난 세대 키에 담겨 다시 읽히지 않는다.
+ * 적중/미스/로딩 시간은 actuator metrics 의 cache.* (cache=productCatalog) 로 볼 수 있다.
+ *
+ * 목록은 로딩할 때 응답 바이트로도 한번 직렬화해 둔다. (ProductCatalogSnapshot)
+ */
+@Component
+public class ProductCatalogCache {
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean gzip;
+    private final AtomicLong generation = new AtomicLong();
+    private final LoadingCache<CatalogKey, ProductCatalogSnapshot> cache;
+
+    public ProductCatalogCache(ProductRepository productRepository,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${cafekiosk.product.catalog-cache.max-size:16}") long maxSize,
+                               @Value("${cafekiosk.product.catalog-cache.gzip:true}") boolean gzip) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+        this.gzip = gzip;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build(CacheLoader.from(this::load));
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "productCatalog");
+    }
+
+    public List<ProductResponse> get(List<ProductSellingStatus> sellingStatuses) {
+        return getSnapshot(sellingStatuses).getProducts();
+    }
+
+    public ProductCatalogSnapshot getSnapshot(List<ProductSellingStatus> sellingStatuses) {
+        return cache.getUnchecked(new CatalogKey(List.copyOf(sellingStatuses), generation.get()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * 엔티티 리스너를 거치지 않는 벌크 변경 후에는 직접 호출한다.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private ProductCatalogSnapshot load(CatalogKey key) {
+        List<ProductResponse> products = productRepository.findAllBySellingStatusIn(key.sellingStatuses()).stream()
+                .map(ProductResponse::of)
+                .toList();
+        return ProductCatalogSnapshot.of(objectMapper, products, gzip);
+    }
+
+    private record CatalogKey(List<ProductSellingStatus> sellingStatuses, long generation) {
+    }
+}
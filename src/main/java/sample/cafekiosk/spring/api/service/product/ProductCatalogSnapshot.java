@@ -0,0 +1,73 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 판매 상품 목록 응답(ApiResponse)을 미리 직렬화해 둔 바이트 (불변)
+ *
+ * 상품이 바뀌기 전까지는 같은 스냅샷을 그대로 응답 본문으로 내려보낸다. 반환하는 배열은 수정하면 안 된다.
+ * ETag 는 직렬화된 본문의 해시이며, gzip 본문도 같은 내용이므로 weak ETag 로 함께 쓴다.
+ */
+public class ProductCatalogSnapshot {
+
+    private final List<ProductResponse> products;
+    private final byte[] body;
+    private final byte[] gzippedBody;
+    private final String etag;
+
+    private ProductCatalogSnapshot(List<ProductResponse> products, byte[] body, byte[] gzippedBody) {
+        this.products = products;
+        this.body = body;
+        this.gzippedBody = gzippedBody;
+        this.etag = "W/\"" + Hashing.sha256().hashBytes(body) + "\"";
+    }
+
+    public static ProductCatalogSnapshot of(ObjectMapper objectMapper, List<ProductResponse> products, boolean gzip) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(ApiResponse.ok(products));
+            return new ProductCatalogSnapshot(products, body, gzip ? gzip(body) : null);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<ProductResponse> getProducts() {
+        return products;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public boolean hasGzippedBody() {
+        return gzippedBody != null;
+    }
+
+    public byte[] getGzippedBody() {
+        return gzippedBody;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,28 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 상품 일괄 등록 본문 형식
+ */
+public enum ProductImportFormat {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson")),
+
+    CSV(MediaType.parseMediaType("text/csv"));
+
+    private final MediaType mediaType;
+
+    ProductImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static ProductImportFormat from(MediaType contentType) {
+        for (ProductImportFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(contentType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다.");
+    }
+}
@@ -0,0 +1,174 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import sample.cafekiosk.spring.api.service.product.request.ProductImportRow;
+import sample.cafekiosk.spring.domain.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.ProductType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 일괄 등록 본문을 한 줄씩 읽어 ProductImportRow 로 바꾼다. 본문 전체를 메모리에 올리지 않는다.
+ * 빈 줄은 건너뛰고, 형식이 잘못된 줄은 오류 행으로 돌려준다.
+ */
+abstract class ProductImportRowReader {
+
+    static final String INVALID_ROW = "잘못된 형식의 행입니다.";
+
+    private final BufferedReader reader;
+    private long lineNumber;
+    private boolean firstRowRead;
+
+    protected ProductImportRowReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    static ProductImportRowReader of(ProductImportFormat format, BufferedReader reader, ObjectMapper objectMapper) {
+        return switch (format) {
+            case NDJSON -> new Ndjson(reader, objectMapper);
+            case CSV -> new Csv(reader);
+        };
+    }
+
+    /**
+     * @return 다음 행, 더 이상 없으면 null
+     */
+    ParsedRow next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (!firstRowRead) {
+                firstRowRead = true;
+                if (skipHeader(line)) {
+                    continue;
+                }
+            }
+            try {
+                return ParsedRow.success(lineNumber, parse(line));
+            } catch (IllegalArgumentException | JsonProcessingException e) {
+                return ParsedRow.failure(lineNumber, INVALID_ROW);
+            }
+        }
+        return null;
+    }
+
+    protected boolean skipHeader(String line) {
+        return false;
+    }
+
+    protected abstract ProductImportRow parse(String line) throws JsonProcessingException;
+
+    record ParsedRow(long line, ProductImportRow row, String error) {
+
+        static ParsedRow success(long line, ProductImportRow row) {
+            return new ParsedRow(line, row, null);
+        }
+
+        static ParsedRow failure(long line, String error) {
+            return new ParsedRow(line, null, error);
+        }
+    }
+
+    /**
+     * 한 줄에 하나의 JSON 객체 {"type":"BOTTLE","sellingStatus":"SELLING","name":"콜라","price":2000,"stockQuantity":10}
+     */
+    private static final class Ndjson extends ProductImportRowReader {
+
+        private final ObjectMapper objectMapper;
+
+        private Ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected ProductImportRow parse(String line) throws JsonProcessingException {
+            return objectMapper.readValue(line, ProductImportRow.class);
+        }
+    }
+
+    /**
+     * 첫 줄은 헤더 (type,sellingStatus,name,price,stockQuantity 순서 무관, stockQuantity 는 생략 가능)
+     * 값에 쉼표가 있으면 큰따옴표로 감싼다. (한 행이 여러 줄에 걸치는 값은 지원하지 않는다)
+     */
+    private static final class Csv extends ProductImportRowReader {
+
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        private Csv(BufferedReader reader) {
+            super(reader);
+        }
+
+        @Override
+        protected boolean skipHeader(String line) {
+            List<String> headers = split(line);
+            for (int i = 0; i < headers.size(); i++) {
+                columns.put(headers.get(i).trim(), i);
+            }
+            return true;
+        }
+
+        @Override
+        protected ProductImportRow parse(String line) {
+            List<String> values = split(line);
+            String stockQuantity = value(values, "stockQuantity");
+            return ProductImportRow.builder()
+                    .type(blankToNull(value(values, "type"), ProductType::valueOf))
+                    .sellingStatus(blankToNull(value(values, "sellingStatus"), ProductSellingStatus::valueOf))
+                    .name(value(values, "name"))
+                    .price(Integer.parseInt(value(values, "price")))
+                    .stockQuantity(stockQuantity == null || stockQuantity.isBlank() ? 0 : Integer.parseInt(stockQuantity))
+                    .build();
+        }
+
+        private String value(List<String> values, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            return values.get(index).trim();
+        }
+
+        private static <T> T blankToNull(String value, Function<String, T> parser) {
+            return value == null || value.isBlank() ? null : parser.apply(value);
+        }
+
+        private static List<String> split(String line) {
+            List<String> values = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            values.add(current.toString());
+            return values;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.api.service.product.ProductImportRowReader.ParsedRow;
+import sample.cafekiosk.spring.api.service.product.request.ProductImportRow;
+import sample.cafekiosk.spring.api.service.product.response.ProductImportResponse;
+import sample.cafekiosk.spring.api.service.product.response.ProductImportResponse.RowError;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 일괄 등록 (매장 오픈 시 상품 목록 등록)
+ *
+ * 본문을 한 줄씩 읽어 검증하고, chunk-size 개씩 모아 한 트랜잭션으로 저장한다.
+ * 상품 번호는 chunk 단위로 한번에 발급받고(ProductNumberAllocator), 재고를 관리하는 상품은 재고 행도 함께 만든다.
+ * chunk 마다 flush/clear 하므로 본문 크기와 관계없이 메모리에는 한 chunk 만 남는다.
+ * chunk 별로 커밋되므로 중간에 실패해도 앞서 저장된 chunk 는 남는다.
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+    private static final String SAVE_FAILED = "상품 저장에 실패했습니다.";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ProductNumberAllocator productNumberAllocator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    public ProductImportService(ObjectMapper objectMapper,
+                                Validator validator,
+                                ProductNumberAllocator productNumberAllocator,
+                                EntityManager entityManager,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${cafekiosk.product.import.chunk-size:500}") int chunkSize,
+                                @Value("${cafekiosk.product.import.max-errors:100}") int maxErrors) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.productNumberAllocator = productNumberAllocator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    public ProductImportResponse importProducts(InputStream body, ProductImportFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        ProductImportRowReader rowReader = ProductImportRowReader.of(format, reader, objectMapper);
+        Report report = new Report(maxErrors);
+
+        List<ProductImportRow> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+        ParsedRow parsed;
+        while ((parsed = rowReader.next()) != null) {
+            report.totalCount++;
+            String error = parsed.error() != null ? parsed.error() : validate(parsed.row());
+            if (error != null) {
+                report.fail(parsed.line(), error);
+                continue;
+            }
+
+            chunk.add(parsed.row());
+            chunkLines.add(parsed.line());
+            if (chunk.size() == chunkSize) {
+                save(chunk, chunkLines, report);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            save(chunk, chunkLines, report);
+        }
+
+        return report.toResponse();
+    }
+
+    private String validate(ProductImportRow row) {
+        var violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private void save(List<ProductImportRow> chunk, List<Long> chunkLines, Report report) {
+        List<String> productNumbers = productNumberAllocator.allocate(chunk.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < chunk.size(); i++) {
+                    ProductImportRow row = chunk.get(i);
+                    entityManager.persist(row.toEntity(productNumbers.get(i)));
+                    if (row.hasStock()) {
+                        entityManager.persist(row.toStock(productNumbers.get(i)));
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            report.importedCount += chunk.size();
+        } catch (DataAccessException | PersistenceException | TransactionException e) {
+            log.warn("상품 일괄 등록 chunk 저장 실패. lines={}~{}", chunkLines.get(0), chunkLines.get(chunkLines.size() - 1), e);
+            chunkLines.forEach(line -> report.fail(line, SAVE_FAILED));
+        }
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    private static final class Report {
+
+        private final int maxErrors;
+        private final List<RowError> errors = new ArrayList<>();
+        private int totalCount;
+        private int importedCount;
+        private int failedCount;
+
+        private Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void fail(long line, String message) {
+            failedCount++;
+            if (errors.size() < maxErrors) {
+                errors.add(new RowError(line, message));
+            }
+        }
+
+        private ProductImportResponse toResponse() {
+            return ProductImportResponse.builder()
+                    .totalCount(totalCount)
+                    .importedCount(importedCount)
+                    .failedCount(failedCount)
+                    .errors(errors)
+                    .errorsTruncated(failedCount > errors.size())
+                    .build();
+        }
+    }
+}
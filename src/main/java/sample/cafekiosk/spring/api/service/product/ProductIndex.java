@@ -0,0 +1,147 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.ProductChangedEvent;
+import sample.cafekiosk.spring.domain.ProductRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 시 상품 조회용 상품번호 -> 상품 인덱스 (불변 스냅샷)
+ *
+ * 주문 쪽(current)은 만들어 둔 스냅샷을 돌려주기만 하고 다시 읽지 않는다. (처음 한번만 읽는다)
+ * 상품을 바꾼 트랜잭션이 커밋되면 그 스레드에서 전체 상품을 한번 읽어 새 스냅샷으로 교체한다.
+ * 일괄 등록처럼 한 트랜잭션에서 변경이 몰려도 다시 읽는 것은 커밋당 한번이다.
+ * 다른 인스턴스에서 바뀐 상품은 이벤트가 오지 않으므로 refresh-interval 마다 상품 수와 max(modifiedDateTime) 를 비교해 바뀌었을 때만 다시 읽는다.
+ *
+ * 다시 읽기는 별도의 읽기 전용 트랜잭션(REQUIRES_NEW)에서 하므로 스냅샷의 Product 는 어느 영속성 컨텍스트에도 속하지 않는다(detached).
+ * 공유 객체이므로 읽기(주문 줄 snapshot, 연관관계 FK)에만 쓴다.
+ */
+@Component
+public class ProductIndex {
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Snapshot snapshot;
+
+    public ProductIndex(ProductRepository productRepository, PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        return loadIfAbsent();
+    }
+
+    /**
+     * 상품을 바꾼 트랜잭션마다 커밋 후 한번만 다시 읽도록 등록한다. (롤백되면 다시 읽지 않는다)
+     */
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ProductIndex.this);
+            }
+        });
+    }
+
+    /**
+     * 상품 수나 가장 최근 변경 시각이 스냅샷과 다를 때만 다시 읽는다.
+     */
+    @Scheduled(fixedDelayString = "${cafekiosk.product.index.refresh-interval:30000}")
+    public void refresh() {
+        Snapshot current = snapshot;
+        Stamp stamp = transactionTemplate.execute(status -> readStamp());
+        if (current == null || !current.stamp.equals(stamp)) {
+            reload();
+        }
+    }
+
+    /**
+     * 엔티티 리스너를 거치지 않는 벌크 변경 후에는 직접 호출한다.
+     */
+    public synchronized Snapshot reload() {
+        long nextVersion = snapshot == null ? 0 : snapshot.version + 1;
+        Snapshot loaded = transactionTemplate.execute(status -> {
+            Stamp stamp = readStamp();
+            Map<String, Product> products = productRepository.findAll().stream()
+                    .collect(Collectors.toUnmodifiableMap(Product::getProductNumber, Function.identity()));
+            return new Snapshot(nextVersion, stamp, products);
+        });
+        snapshot = loaded;
+        return loaded;
+    }
+
+    private synchronized Snapshot loadIfAbsent() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    private Stamp readStamp() {
+        return new Stamp(productRepository.count(), productRepository.findMaxModifiedDateTime());
+    }
+
+    private record Stamp(long productCount, LocalDateTime maxModifiedDateTime) {
+    }
+
+    public static final class Snapshot {
+
+        private final long version;
+        private final Stamp stamp;
+        private final Map<String, Product> products;
+
+        private Snapshot(long version, Stamp stamp, Map<String, Product> products) {
+            this.version = version;
+            this.stamp = stamp;
+            this.products = products;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public boolean containsAll(Collection<String> productNumbers) {
+            return products.keySet().containsAll(productNumbers);
+        }
+
+        /**
+         * @return 상품, 없으면 null
+         */
+        public Product get(String productNumber) {
+            return products.get(productNumber);
+        }
+    }
+}
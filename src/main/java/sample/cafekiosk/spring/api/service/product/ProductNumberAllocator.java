@@ -0,0 +1,143 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.domain.ProductNumberCounter;
+import sample.cafekiosk.spring.domain.ProductNumberCounterRepository;
+import sample.cafekiosk.spring.domain.ProductRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 상품 번호 발급기
+ *
+ * product_number_counter 에서 block-size 개씩 번호를 예약해 두고, 메모리에서 AtomicLong 으로 하나씩 나눠준다.
+ * 번호를 꺼낼 때는 잠금이 없고, block 을 다 쓴 경우에만 한 스레드가 카운터 행을 잠그고 다음 block 을 예약한다.
+ * 예약은 별도 트랜잭션(REQUIRES_NEW)에서 커밋되므로, 상품 저장이 롤백되거나 서버가 재시작되면 쓰지 않은 번호는 건너뛴다.
+ * 예약할 때 커넥션을 하나 더 잡지 않도록 상품을 저장하는 트랜잭션 밖에서 번호를 받는다. (ProductService, ProductImportService)
+ */
+@Component
+public class ProductNumberAllocator {
+
+    private static final Block EMPTY = new Block(1, 0);
+
+    private final ProductNumberCounterRepository productNumberCounterRepository;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+
+    private final AtomicReference<Block> current = new AtomicReference<>(EMPTY);
+    private final Object refillLock = new Object();
+
+    public ProductNumberAllocator(ProductNumberCounterRepository productNumberCounterRepository,
+                                  ProductRepository productRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${cafekiosk.product.number-block-size:50}") int blockSize) {
+        this.productNumberCounterRepository = productNumberCounterRepository;
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    public String allocate() {
+        while (true) {
+            Block block = current.get();
+            long number = block.next.getAndIncrement();
+            if (number <= block.last) {
+                return format(number);
+            }
+            refill(block);
+        }
+    }
+
+    /**
+     * count 개의 번호를 발급한다. (일괄 등록)
+     * block 크기 이상이면 메모리 block 을 거치지 않고 카운터에서 한번에 예약한다.
+     */
+    public List<String> allocate(int count) {
+        List<String> numbers = new ArrayList<>(count);
+        if (count >= blockSize) {
+            long first = reserve(count);
+            for (long number = first; number < first + count; number++) {
+                numbers.add(format(number));
+            }
+            return numbers;
+        }
+        for (int i = 0; i < count; i++) {
+            numbers.add(allocate());
+        }
+        return numbers;
+    }
+
+    /**
+     * 메모리에 예약해 둔 번호를 버린다. 다음 발급은 카운터에서 새 block 을 예약한다. (테스트에서 카운터를 지운 뒤 호출)
+     */
+    void reset() {
+        synchronized (refillLock) {
+            current.set(EMPTY);
+        }
+    }
+
+    private void refill(Block exhausted) {
+        synchronized (refillLock) {
+            // 다른 스레드가 이미 새 block 으로 바꿨으면 그 block 을 쓴다.
+            if (current.get() != exhausted) {
+                return;
+            }
+            long first = reserve(blockSize);
+            current.set(new Block(first, first + blockSize - 1));
+        }
+    }
+
+    private long reserve(int count) {
+        try {
+            return transactionTemplate.execute(status -> reserveInTransaction(count));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 카운터 행을 먼저 만든 경우. 이제는 행이 있으므로 잠그고 예약한다.
+            return transactionTemplate.execute(status -> reserveInTransaction(count));
+        }
+    }
+
+    private long reserveInTransaction(int count) {
+        ProductNumberCounter counter = productNumberCounterRepository.findForUpdateByName(ProductNumberCounter.PRODUCT_NUMBER)
+                .orElseGet(() -> productNumberCounterRepository.saveAndFlush(
+                        ProductNumberCounter.create(ProductNumberCounter.PRODUCT_NUMBER, findMaxProductNumber())
+                ));
+        return counter.reserve(count);
+    }
+
+    /**
+     * 카운터가 없으면 이미 저장된 상품 번호 다음부터 발급한다.
+     */
+    private long findMaxProductNumber() {
+        Long max = productRepository.findMaxProductNumber();
+        return max == null ? 0 : max;
+    }
+
+    /**
+     * 001, 002 ... 999, 1000 (String.format("%03d") 과 같은 결과)
+     */
+    static String format(long number) {
+        String digits = Long.toString(number);
+        return digits.length() >= 3 ? digits : "000".substring(digits.length()) + digits;
+    }
+
+    private static final class Block {
+
+        private final AtomicLong next;
+        private final long last;
+
+        private Block(long first, long last) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+    }
+}
@@ -1,18 +1,26 @@
 package sample.cafekiosk.spring.api.service.product;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
 import sample.cafekiosk.spring.api.service.product.request.ProductCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.product.request.ProductSyncServiceRequest;
+import sample.cafekiosk.spring.api.service.product.request.ProductUpdateServiceRequest;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.api.service.product.response.ProductSyncResponse;
 import sample.cafekiosk.spring.domain.Product;
 import sample.cafekiosk.spring.domain.ProductRepository;
 import sample.cafekiosk.spring.domain.ProductSellingStatus;
 import sample.cafekiosk.spring.domain.ProductType;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static sample.cafekiosk.spring.domain.ProductSellingStatus.SELLING;
 import static sample.cafekiosk.spring.domain.ProductType.HANDMADE;
@@ -28,49 +36,114 @@ import static sample.cafekiosk.spring.domain.ProductType.HANDMADE;
  * db에 대한 엔드포인트 구분가능
  */
 @Transactional(readOnly = true)
-@RequiredArgsConstructor
 @Service
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductNumberAllocator productNumberAllocator;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration syncSettleTime;
 
-    @Transactional
+    public ProductService(ProductRepository productRepository,
+                          ProductCatalogCache productCatalogCache,
+                          ProductNumberAllocator productNumberAllocator,
+                          TransactionTemplate transactionTemplate,
+                          @Value("${cafekiosk.product.sync.settle-time:2s}") Duration syncSettleTime) {
+        this.productRepository = productRepository;
+        this.productCatalogCache = productCatalogCache;
+        this.productNumberAllocator = productNumberAllocator;
+        this.transactionTemplate = transactionTemplate;
+        this.syncSettleTime = syncSettleTime;
+    }
+
+    /**
+     * 번호 block 예약(ProductNumberAllocator)은 자기 트랜잭션에서 커밋되므로, 상품 저장 트랜잭션을 열기 전에 번호를 먼저 받는다.
+     * (저장 트랜잭션이 커넥션을 잡은 채로 예약 트랜잭션이 커넥션을 하나 더 잡지 않도록)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProductResponse createProduct(ProductCreateServiceRequest request) {
         // productNumber
         // 001 002 003 004
-        // db에서 마지막 저장된 product의 상품번호를 읽어와서 +1
+        // 카운터에서 block 단위로 예약해 둔 번호를 순서대로 발급 (ProductNumberAllocator)
         // 009 -> 010
-        String nextProductNumber = createNextProductNumber();
+        String nextProductNumber = productNumberAllocator.allocate();
 
         Product product = request.toEntity(nextProductNumber);
-        Product savedProduct = productRepository.save(product);
+        Product savedProduct = transactionTemplate.execute(status -> productRepository.save(product));
 
 
         return ProductResponse.of(savedProduct);
     }
 
+    /**
+     * 가격/판매 상태 변경. 판매 상품 캐시는 커밋 후 ProductChangedEvent 로 무효화된다.
+     */
+    @Transactional
+    public ProductResponse updateProduct(String productNumber, ProductUpdateServiceRequest request) {
+        Product product = productRepository.findByProductNumber(productNumber)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
+
+        if (request.getPrice() != null) {
+            product.changePrice(request.getPrice());
+        }
+        if (request.getSellingStatus() != null) {
+            product.changeSellingStatus(request.getSellingStatus());
+        }
+
+        return ProductResponse.of(product);
+    }
+
     /**
      * 화면에서 보이는 판매 상태
+     * 상품이 바뀌기 전까지는 캐시된 목록을 돌려준다. (ProductCatalogCache)
      * @return
      */
     public List<ProductResponse> getSellingProducts() {
-        List<Product> products = productRepository.findAllBySellingStatusIn(ProductSellingStatus.forDisplay());
+        return productCatalogCache.get(ProductSellingStatus.forDisplay());
+    }
 
-        return products.stream()
-                .map(ProductResponse::of)
-                .collect(Collectors.toList());
+    /**
+     * 판매 상품 목록 응답을 미리 직렬화해 둔 스냅샷 (GET /api/v1/products/selling)
+     */
+    public ProductCatalogSnapshot getSellingProductsSnapshot() {
+        return productCatalogCache.getSnapshot(ProductSellingStatus.forDisplay());
     }
 
-    private String createNextProductNumber(){
-        String latestProductNumber = productRepository.findLatestProductNumber();
+    /**
+     * 마지막 동기화 이후 추가/변경된 상품 (modifiedDateTime, id 순 keyset)
+     *
+     * modifiedDateTime 은 커밋보다 먼저 찍히므로, 늦게 커밋된 변경이 이미 지나간 cursor 뒤로 끼어들 수 있다.
+     * 최근 settle-time 안에 변경된 상품은 다음 동기화로 미뤄 cursor 가 아직 커밋 중인 변경을 앞지르지 않게 한다.
+     */
+    public ProductSyncResponse syncProducts(ProductSyncServiceRequest request, LocalDateTime now) {
+        List<Product> changed = productRepository.findAllModifiedAfter(
+                request.getSinceOrInitial(),
+                request.getSinceIdOrZero(),
+                now.minus(syncSettleTime),
+                Limit.of(request.getSize() + 1) // 다음 페이지 존재 여부 확인용 1건
+        );
 
-        if(latestProductNumber == null){
-            return "001";
-        }
+        boolean hasNext = changed.size() > request.getSize();
+        List<Product> page = hasNext ? changed.subList(0, request.getSize()) : changed;
 
-        int latestProductNumberInt = Integer.parseInt(latestProductNumber);
-        int nextProductNumberInt = latestProductNumberInt + 1;
+        List<ProductResponse> products = new ArrayList<>();
+        List<String> removedProductNumbers = new ArrayList<>();
+        for (Product product : page) {
+            if (product.getSellingStatus() == ProductSellingStatus.STOP_SELLING) {
+                removedProductNumbers.add(product.getProductNumber());
+            } else {
+                products.add(ProductResponse.of(product));
+            }
+        }
 
-        return String.format("%03d", nextProductNumberInt);
+        Product last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return ProductSyncResponse.builder()
+                .products(products)
+                .removedProductNumbers(removedProductNumbers)
+                .hasNext(hasNext)
+                .nextSince(last == null ? request.getSince() : last.getModifiedDateTime())
+                .nextSinceId(last == null ? request.getSinceId() : last.getId())
+                .build();
     }
 }
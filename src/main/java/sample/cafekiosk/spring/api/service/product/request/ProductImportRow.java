@@ -0,0 +1,64 @@
+package sample.cafekiosk.spring.api.service.product.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.ProductType;
+import sample.cafekiosk.spring.domain.stock.Stock;
+
+/**
+ * 일괄 등록의 한 행 (NDJSON 한 줄 또는 CSV 한 줄)
+ * stockQuantity 는 재고를 관리하는 상품(BOTTLE, BAKERY)의 초기 재고이다.
+ */
+@Getter
+@NoArgsConstructor
+public class ProductImportRow {
+
+    @NotNull(message = "상품 타입은 필수입니다.")
+    private ProductType type;
+
+    @NotNull(message = "상품 판매상태는 필수입니다.")
+    private ProductSellingStatus sellingStatus;
+
+    @NotBlank(message = "상품 이름은 필수입니다.")
+    private String name;
+
+    @Positive(message = "상품 가격은 양수여야 합니다.")
+    private int price;
+
+    @PositiveOrZero(message = "재고 수량은 0 이상이어야 합니다.")
+    private int stockQuantity;
+
+    @Builder
+    private ProductImportRow(ProductType type, ProductSellingStatus sellingStatus, String name, int price, int stockQuantity) {
+        this.type = type;
+        this.sellingStatus = sellingStatus;
+        this.name = name;
+        this.price = price;
+        this.stockQuantity = stockQuantity;
+    }
+
+    public Product toEntity(String productNumber) {
+        return Product.builder()
+                .productNumber(productNumber)
+                .type(type)
+                .sellingStatus(sellingStatus)
+                .name(name)
+                .price(price)
+                .build();
+    }
+
+    public boolean hasStock() {
+        return ProductType.containsStockType(type);
+    }
+
+    public Stock toStock(String productNumber) {
+        return Stock.create(productNumber, stockQuantity);
+    }
+}
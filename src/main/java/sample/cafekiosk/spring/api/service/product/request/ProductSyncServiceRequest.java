@@ -0,0 +1,32 @@
+package sample.cafekiosk.spring.api.service.product.request;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ProductSyncServiceRequest {
+
+    // 처음 동기화할 때는 모든 상품을 읽는다.
+    private static final LocalDateTime INITIAL_SINCE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final LocalDateTime since;
+    private final Long sinceId;
+    private final int size;
+
+    @Builder
+    private ProductSyncServiceRequest(LocalDateTime since, Long sinceId, int size) {
+        this.since = since;
+        this.sinceId = sinceId;
+        this.size = size;
+    }
+
+    public LocalDateTime getSinceOrInitial() {
+        return since == null ? INITIAL_SINCE : since;
+    }
+
+    public Long getSinceIdOrZero() {
+        return since == null || sinceId == null ? 0L : sinceId;
+    }
+}
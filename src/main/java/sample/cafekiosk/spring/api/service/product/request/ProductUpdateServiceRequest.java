@@ -0,0 +1,19 @@
+package sample.cafekiosk.spring.api.service.product.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.ProductSellingStatus;
+
+@Getter
+public class ProductUpdateServiceRequest {
+
+    private ProductSellingStatus sellingStatus;
+
+    private Integer price;
+
+    @Builder
+    public ProductUpdateServiceRequest(ProductSellingStatus sellingStatus, Integer price) {
+        this.sellingStatus = sellingStatus;
+        this.price = price;
+    }
+}
@@ -0,0 +1,41 @@
+package sample.cafekiosk.spring.api.service.product.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 상품 일괄 등록 결과
+ * errors 는 실패한 행 중 앞쪽 일부만 담는다. (errorsTruncated)
+ */
+@Getter
+public class ProductImportResponse {
+
+    private int totalCount;
+    private int importedCount;
+    private int failedCount;
+    private List<RowError> errors;
+    private boolean errorsTruncated;
+
+    @Builder
+    private ProductImportResponse(int totalCount, int importedCount, int failedCount, List<RowError> errors, boolean errorsTruncated) {
+        this.totalCount = totalCount;
+        this.importedCount = importedCount;
+        this.failedCount = failedCount;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    @Getter
+    public static class RowError {
+
+        private final long line;
+        private final String message;
+
+        public RowError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package sample.cafekiosk.spring.api.service.product.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 변경분
+ * products 는 추가/변경된 판매 중 상품, removedProductNumbers 는 판매 중지된 상품(tombstone)이다.
+ * 다음 동기화는 nextSince, nextSinceId 로 요청한다. (변경이 없으면 요청한 값 그대로)
+ */
+@Getter
+public class ProductSyncResponse {
+
+    private List<ProductResponse> products;
+    private List<String> removedProductNumbers;
+    private boolean hasNext;
+    private LocalDateTime nextSince;
+    private Long nextSinceId;
+
+    @Builder
+    private ProductSyncResponse(List<ProductResponse> products, List<String> removedProductNumbers,
+                                boolean hasNext, LocalDateTime nextSince, Long nextSinceId) {
+        this.products = products;
+        this.removedProductNumbers = removedProductNumbers;
+        this.hasNext = hasNext;
+        this.nextSince = nextSince;
+        this.nextSinceId = nextSinceId;
+    }
+}
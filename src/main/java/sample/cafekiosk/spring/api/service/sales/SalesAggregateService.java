@@ -0,0 +1,175 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.api.service.sales.response.DailySalesResponse;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderCreatedEvent;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.order.OrderStatusChangedEvent;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProduct;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductLineView;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.sales.HourlySales;
+import sample.cafekiosk.spring.domain.sales.HourlySalesRepository;
+import sample.cafekiosk.spring.domain.sales.ProductDailySales;
+import sample.cafekiosk.spring.domain.sales.ProductDailySalesRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * 매출 집계(HourlySales, ProductDailySales) 유지
+ *
+ * 주문이 결제완료가 되거나 결제완료 상태로 저장되면 주문 수/매출/상품별 수량을 더하고, 결제완료에서 다른 상태로 바뀌면 뺀다.
+ * 주문 저장/상태 변경과 같은 트랜잭션에서 조건부 UPDATE 로 더하므로 롤백되면 집계도 함께 롤백된다.
+ * 집계 행이 아직 없으면 같은 트랜잭션에서 MERGE 로 빈 행을 먼저 만든다. (커넥션을 하나 더 잡지 않는다)
+ * 한 주문의 집계 행은 항상 시간대 -> 상품번호 순으로 갱신해 주문끼리 교착되지 않게 한다.
+ */
+@Transactional
+@RequiredArgsConstructor
+@Service
+public class SalesAggregateService {
+
+    private final HourlySalesRepository hourlySalesRepository;
+    private final ProductDailySalesRepository productDailySalesRepository;
+    private final OrderRepository orderRepository;
+    private final OrderProductRepository orderProductRepository;
+
+    /**
+     * 결제완료 상태로 바로 저장된 주문은 상태 변경 이벤트가 없으므로 생성 이벤트에서 더한다.
+     */
+    @EventListener
+    public void onOrderCreated(OrderCreatedEvent event) {
+        if (event.getOrderStatus() == OrderStatus.PAYMENT_COMPLETED) {
+            apply(event.getOrder(), 1);
+        }
+    }
+
+    @EventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        int sign = signOf(event);
+        if (sign == 0) {
+            return;
+        }
+        Order order = orderRepository.findById(event.getOrderId())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
+        apply(order, sign);
+    }
+
+    @Transactional(readOnly = true)
+    public DailySalesResponse getDailySales(LocalDate salesDate) {
+        return DailySalesResponse.of(
+                salesDate,
+                hourlySalesRepository.findAllBySalesDateOrderBySalesHour(salesDate),
+                productDailySalesRepository.findAllBySalesDateOrderByProductNumber(salesDate)
+        );
+    }
+
+    /**
+     * 하루치 집계를 주문에서 다시 계산한다. (집계 도입 이전 주문, 직접 적재한 주문 반영)
+     * 주문을 엔티티로 모으지 않고 주문 줄 projection 을 스트림으로 읽으므로 하루 주문 수와 상관없이 메모리가 일정하다.
+     * 그 날 주문의 상태가 바뀌는 중에 실행하면 그 변경이 빠지거나 두번 들어갈 수 있으므로 지난 날짜에 실행한다.
+     */
+    public DailySalesResponse rebuild(LocalDate salesDate) {
+        hourlySalesRepository.deleteAllBySalesDate(salesDate);
+        productDailySalesRepository.deleteAllBySalesDate(salesDate);
+
+        long[] orderCounts = new long[24];
+        long[] revenues = new long[24];
+        Map<String, long[]> products = new TreeMap<>(); // 상품번호 -> {수량, 매출}
+        // 주문 줄을 주문 순서로 한 행씩 읽는다. 주문 단위 값은 주문 id 가 바뀔 때 한번만 더한다.
+        try (Stream<OrderProductLineView> lines = orderProductRepository.streamLinesBy(
+                salesDate.atStartOfDay(),
+                salesDate.plusDays(1).atStartOfDay(),
+                OrderStatus.PAYMENT_COMPLETED
+        )) {
+            Long previousOrderId = null;
+            Iterator<OrderProductLineView> iterator = lines.iterator();
+            while (iterator.hasNext()) {
+                OrderProductLineView line = iterator.next();
+                if (!line.getOrderId().equals(previousOrderId)) {
+                    int hour = line.getRegisteredDateTime().getHour();
+                    orderCounts[hour]++;
+                    revenues[hour] += line.getTotalPrice();
+                    previousOrderId = line.getOrderId();
+                }
+                long[] sales = products.computeIfAbsent(line.getProductNumber(), key -> new long[2]);
+                sales[0] += line.getQuantity();
+                sales[1] += (long) line.getProductPrice() * line.getQuantity();
+            }
+        }
+
+        List<HourlySales> hourlySales = new ArrayList<>();
+        for (int hour = 0; hour < 24; hour++) {
+            if (orderCounts[hour] > 0) {
+                hourlySales.add(HourlySales.builder()
+                        .salesDate(salesDate)
+                        .salesHour(hour)
+                        .orderCount(orderCounts[hour])
+                        .revenue(revenues[hour])
+                        .build());
+            }
+        }
+        List<ProductDailySales> productSales = new ArrayList<>(products.size());
+        products.forEach((productNumber, sales) -> productSales.add(ProductDailySales.builder()
+                .salesDate(salesDate)
+                .productNumber(productNumber)
+                .quantity(sales[0])
+                .revenue(sales[1])
+                .build()));
+
+        return DailySalesResponse.of(
+                salesDate,
+                hourlySalesRepository.saveAll(hourlySales),
+                productDailySalesRepository.saveAll(productSales)
+        );
+    }
+
+    /**
+     * 결제완료가 되면 +1, 결제완료에서 벗어나면 -1, 그 외는 0
+     */
+    private static int signOf(OrderStatusChangedEvent event) {
+        if (event.getOrderStatus() == OrderStatus.PAYMENT_COMPLETED) {
+            return 1;
+        }
+        if (event.getPreviousStatus() == OrderStatus.PAYMENT_COMPLETED) {
+            return -1;
+        }
+        return 0;
+    }
+
+    private void apply(Order order, int sign) {
+        LocalDateTime registeredDateTime = order.getRegisteredDateTime();
+        LocalDate salesDate = registeredDateTime.toLocalDate();
+        int salesHour = registeredDateTime.getHour();
+
+        long revenue = (long) sign * order.getTotalPrice();
+        if (hourlySalesRepository.add(salesDate, salesHour, sign, revenue) == 0) {
+            hourlySalesRepository.createIfAbsent(salesDate, salesHour);
+            hourlySalesRepository.add(salesDate, salesHour, sign, revenue);
+        }
+
+        List<OrderProduct> orderProducts = new ArrayList<>(order.getOrderProducts());
+        orderProducts.sort(Comparator.comparing(OrderProduct::getProductNumber));
+        for (OrderProduct orderProduct : orderProducts) {
+            String productNumber = orderProduct.getProductNumber();
+            long quantity = (long) sign * orderProduct.getQuantity();
+            long productRevenue = quantity * orderProduct.getProductPrice();
+            if (productDailySalesRepository.add(salesDate, productNumber, quantity, productRevenue) == 0) {
+                productDailySalesRepository.createIfAbsent(salesDate, productNumber);
+                productDailySalesRepository.add(salesDate, productNumber, quantity, productRevenue);
+            }
+        }
+    }
+}
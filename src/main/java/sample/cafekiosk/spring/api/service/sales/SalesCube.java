@@ -0,0 +1,476 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import sample.cafekiosk.spring.api.service.sales.request.SalesCubeServiceRequest;
+import sample.cafekiosk.spring.api.service.sales.response.SalesCubeResponse;
+import sample.cafekiosk.spring.api.service.sales.response.SalesCubeRowResponse;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.order.OrderStatusChangedEvent;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProduct;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 일자 × 시간대 × 상품 × 주문 상태별 매출 큐브 (메모리, primitive 배열)
+ *
+ * 상품번호는 사전(dictionary)으로 0부터의 int 로 바꾸고, startDate 부터 일자마다 조각(DaySlice) 하나를 둔다.
+ * - 주문 셀 (시간대 × 상태) : 주문 수, 수량, 매출. 하루 144칸을 고정 배열로 둔다. (약 2.3KB)
+ * - 주문 줄 셀 (시간대 × 상품 × 상태) : 주문 수, 수량, 매출. 값이 있는 칸만 open addressing 배열에 둔다. (칸당 약 27바이트)
+ * 상품을 거르거나 묶지 않는 조회는 주문 셀만 읽으므로 1년치도 5만여 칸이다.
+ *
+ * startDate 이전 주문은 담지 않는다. 쓰기는 한번에 하나씩, 조회는 읽기 잠금으로 동시에 한다.
+ */
+public class SalesCube {
+
+    private static final int HOURS = 24;
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final int STATUS_COUNT = STATUSES.length;
+
+    private final LocalDate startDate;
+    private final long startEpochDay;
+
+    private final Map<String, Integer> productIds = new HashMap<>();
+    private final List<String> productNumbers = new ArrayList<>();
+    private DaySlice[] days = new DaySlice[0];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SalesCube(LocalDate startDate) {
+        this.startDate = startDate;
+        this.startEpochDay = startDate.toEpochDay();
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    /**
+     * 주문 orderCount 건(매출 revenue)을 더한다. 수량은 addOrderProducts 로 주문 줄을 더할 때 함께 더해진다.
+     */
+    public void addOrders(LocalDate salesDate, int hour, OrderStatus status, int orderCount, long revenue) {
+        lock.writeLock().lock();
+        try {
+            DaySlice day = sliceForWrite(salesDate);
+            if (day != null) {
+                day.addOrders(hour * STATUS_COUNT + status.ordinal(), orderCount, revenue);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 주문 줄 orderCount 개(수량 quantity, 매출 revenue)를 더한다.
+     */
+    public void addOrderProducts(LocalDate salesDate, int hour, OrderStatus status, String productNumber,
+                                 int orderCount, int quantity, long revenue) {
+        lock.writeLock().lock();
+        try {
+            DaySlice day = sliceForWrite(salesDate);
+            if (day != null) {
+                day.addOrderProducts(cellKey(productIdOf(productNumber), hour, status), orderCount, quantity, revenue);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 주문 하나를 status 상태로 더한다. (sign 이 -1 이면 뺀다)
+     * 주문과 주문 줄을 한번에 반영하므로 조회에서 중간 상태가 보이지 않는다.
+     */
+    public void add(Order order, OrderStatus status, int sign) {
+        add(order.getRegisteredDateTime(), order.getTotalPrice(), order.getOrderProducts(), status, sign);
+    }
+
+    /**
+     * 주문을 previousStatus 칸에서 빼서 orderStatus 칸으로 옮긴다.
+     */
+    public void move(Order order, OrderStatus previousStatus, OrderStatus orderStatus) {
+        move(order.getRegisteredDateTime(), order.getTotalPrice(), order.getOrderProducts(), previousStatus, orderStatus);
+    }
+
+    /**
+     * 상태 변경 이벤트에 담긴 주문 내용으로 옮긴다. (주문을 다시 읽지 않는다)
+     */
+    public void move(OrderStatusChangedEvent event) {
+        move(event.getRegisteredDateTime(), event.getTotalPrice(), event.getOrderProducts(), event.getPreviousStatus(), event.getOrderStatus());
+    }
+
+    private void move(LocalDateTime registeredDateTime, int totalPrice, List<OrderProduct> orderProducts,
+                      OrderStatus previousStatus, OrderStatus orderStatus) {
+        lock.writeLock().lock();
+        try {
+            add(registeredDateTime, totalPrice, orderProducts, previousStatus, -1);
+            add(registeredDateTime, totalPrice, orderProducts, orderStatus, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(LocalDateTime registeredDateTime, int totalPrice, List<OrderProduct> orderProducts, OrderStatus status, int sign) {
+        lock.writeLock().lock();
+        try {
+            DaySlice day = sliceForWrite(registeredDateTime.toLocalDate());
+            if (day == null) {
+                return;
+            }
+            int hour = registeredDateTime.getHour();
+            day.addOrders(hour * STATUS_COUNT + status.ordinal(), sign, (long) sign * totalPrice);
+            for (OrderProduct orderProduct : orderProducts) {
+                int quantity = sign * orderProduct.getQuantity();
+                day.addOrderProducts(
+                        cellKey(productIdOf(orderProduct.getProductNumber()), hour, status),
+                        sign,
+                        quantity,
+                        (long) quantity * orderProduct.getProductPrice()
+                );
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public SalesCubeResponse query(SalesCubeServiceRequest request) {
+        lock.readLock().lock();
+        try {
+            return new Query(request).run();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private DaySlice sliceForWrite(LocalDate salesDate) {
+        long index = salesDate.toEpochDay() - startEpochDay;
+        if (index < 0) {
+            return null;
+        }
+        if (index >= days.length) {
+            days = Arrays.copyOf(days, (int) index + 32); // 날짜가 넘어갈 때마다 늘리지 않도록 한달치씩
+        }
+        DaySlice day = days[(int) index];
+        if (day == null) {
+            day = new DaySlice();
+            days[(int) index] = day;
+        }
+        return day;
+    }
+
+    private int productIdOf(String productNumber) {
+        Integer productId = productIds.get(productNumber);
+        if (productId != null) {
+            return productId;
+        }
+        productNumbers.add(productNumber);
+        productIds.put(productNumber, productNumbers.size() - 1);
+        return productNumbers.size() - 1;
+    }
+
+    private static int cellKey(int productId, int hour, OrderStatus status) {
+        return (productId * HOURS + hour) * STATUS_COUNT + status.ordinal();
+    }
+
+    /**
+     * 한번의 조회. 조건을 bit mask/배열로 바꿔두고 조각들의 배열을 훑으며 groupBy 칸별로 더한다.
+     * 조회 기간은 큐브에 있는 일자(0 ~ days.length - 1)로 잘라서 쓰므로 기간이 길어도 일자별 칸은 큐브 일수를 넘지 않는다.
+     */
+    private final class Query {
+
+        private final SalesCubeServiceRequest request;
+        private final SalesCubeDimension groupBy;
+        private final int fromIndex;
+        private final int toIndex; // fromIndex 보다 작으면 큐브에 있는 일자가 없다.
+        private final int hourMask;
+        private final int statusMask;
+        private final boolean[] products; // null 이면 전체 상품
+        private final boolean byProduct;
+        private final boolean countOrderCells; // 상품별로 묶기만 할 때 전체 주문 수는 주문 셀에서 센다.
+
+        private final long[] orderCounts;
+        private final long[] quantities;
+        private final long[] revenues;
+        private long orderCellCount;
+
+        private Query(SalesCubeServiceRequest request) {
+            this.request = request;
+            this.groupBy = request.getGroupBy();
+            this.fromIndex = (int) Math.min(Math.max(request.getFrom().toEpochDay() - startEpochDay, 0), days.length);
+            this.toIndex = (int) Math.max(Math.min(request.getTo().toEpochDay() - startEpochDay, days.length - 1L), -1);
+            this.hourMask = hourMaskOf(request);
+            this.statusMask = statusMaskOf(request);
+            this.products = request.hasProductFilter() ? productsOf(request.getProductNumbers()) : null;
+            this.byProduct = products != null || groupBy == SalesCubeDimension.PRODUCT;
+            this.countOrderCells = byProduct && products == null;
+
+            int groupCount = groupCount();
+            this.orderCounts = new long[groupCount];
+            this.quantities = new long[groupCount];
+            this.revenues = new long[groupCount];
+        }
+
+        private SalesCubeResponse run() {
+            for (int index = fromIndex; index <= toIndex; index++) {
+                DaySlice day = days[index];
+                if (day == null) {
+                    continue;
+                }
+                int dayGroup = index - fromIndex;
+                if (byProduct) {
+                    if (countOrderCells) {
+                        orderCellCount += countOrders(day);
+                    }
+                    scanOrderProducts(day, dayGroup);
+                } else {
+                    scanOrders(day, dayGroup);
+                }
+            }
+            return toResponse();
+        }
+
+        private void scanOrders(DaySlice day, int dayGroup) {
+            for (int hour = 0; hour < HOURS; hour++) {
+                if ((hourMask & (1 << hour)) == 0) {
+                    continue;
+                }
+                for (int status = 0; status < STATUS_COUNT; status++) {
+                    int cell = hour * STATUS_COUNT + status;
+                    if ((statusMask & (1 << status)) == 0 || day.orderCounts[cell] == 0) {
+                        continue;
+                    }
+                    int group = groupOf(dayGroup, hour, -1, status);
+                    orderCounts[group] += day.orderCounts[cell];
+                    quantities[group] += day.orderQuantities[cell];
+                    revenues[group] += day.orderRevenues[cell];
+                }
+            }
+        }
+
+        private long countOrders(DaySlice day) {
+            long count = 0;
+            for (int hour = 0; hour < HOURS; hour++) {
+                if ((hourMask & (1 << hour)) == 0) {
+                    continue;
+                }
+                for (int status = 0; status < STATUS_COUNT; status++) {
+                    if ((statusMask & (1 << status)) != 0) {
+                        count += day.orderCounts[hour * STATUS_COUNT + status];
+                    }
+                }
+            }
+            return count;
+        }
+
+        private void scanOrderProducts(DaySlice day, int dayGroup) {
+            int[] keys = day.keys;
+            for (int slot = 0; slot < keys.length; slot++) {
+                int key = keys[slot];
+                if (key == DaySlice.EMPTY) {
+                    continue;
+                }
+                int status = key % STATUS_COUNT;
+                int hour = (key / STATUS_COUNT) % HOURS;
+                int productId = key / (STATUS_COUNT * HOURS);
+                if ((statusMask & (1 << status)) == 0 || (hourMask & (1 << hour)) == 0
+                        || (products != null && (productId >= products.length || !products[productId]))) {
+                    continue;
+                }
+                int group = groupOf(dayGroup, hour, productId, status);
+                orderCounts[group] += day.productOrderCounts[slot];
+                quantities[group] += day.productQuantities[slot];
+                revenues[group] += day.productRevenues[slot];
+            }
+        }
+
+        private int groupOf(int dayGroup, int hour, int productId, int status) {
+            if (groupBy == null) {
+                return 0;
+            }
+            return switch (groupBy) {
+                case DAY -> dayGroup;
+                case HOUR -> hour;
+                case PRODUCT -> productId;
+                case STATUS -> status;
+            };
+        }
+
+        private SalesCubeResponse toResponse() {
+            long orderCount = 0;
+            long quantity = 0;
+            long revenue = 0;
+            List<SalesCubeRowResponse> rows = new ArrayList<>();
+            for (int group = 0; group < orderCounts.length; group++) {
+                orderCount += orderCounts[group];
+                quantity += quantities[group];
+                revenue += revenues[group];
+                if (groupBy != null && orderCounts[group] != 0) {
+                    rows.add(SalesCubeRowResponse.builder()
+                            .key(keyOf(group))
+                            .orderCount(orderCounts[group])
+                            .quantity(quantities[group])
+                            .revenue(revenues[group])
+                            .build());
+                }
+            }
+            if (groupBy == SalesCubeDimension.PRODUCT) {
+                rows.sort(Comparator.comparing(SalesCubeRowResponse::getKey));
+            }
+
+            return SalesCubeResponse.builder()
+                    .from(request.getFrom())
+                    .to(request.getTo())
+                    .groupBy(groupBy)
+                    .orderCount(countOrderCells ? orderCellCount : orderCount)
+                    .quantity(quantity)
+                    .revenue(revenue)
+                    .rows(rows)
+                    .build();
+        }
+
+        private String keyOf(int group) {
+            return switch (groupBy) {
+                case DAY -> startDate.plusDays(fromIndex + group).toString();
+                case HOUR -> String.format("%02d", group);
+                case PRODUCT -> productNumbers.get(group);
+                case STATUS -> STATUSES[group].name();
+            };
+        }
+
+        private int groupCount() {
+            if (groupBy == null) {
+                return 1;
+            }
+            return switch (groupBy) {
+                case DAY -> Math.max(toIndex - fromIndex + 1, 0);
+                case HOUR -> HOURS;
+                case PRODUCT -> productNumbers.size();
+                case STATUS -> STATUS_COUNT;
+            };
+        }
+
+        private boolean[] productsOf(List<String> filter) {
+            boolean[] selected = new boolean[productNumbers.size()];
+            for (String productNumber : filter) {
+                Integer productId = productIds.get(productNumber);
+                if (productId != null) {
+                    selected[productId] = true;
+                }
+            }
+            return selected;
+        }
+    }
+
+    private static int hourMaskOf(SalesCubeServiceRequest request) {
+        if (!request.hasHourFilter()) {
+            return (1 << HOURS) - 1;
+        }
+        int mask = 0;
+        for (int hour : request.getHours()) {
+            if (hour < 0 || hour >= HOURS) {
+                throw new IllegalArgumentException("조회 시간대는 0~23 사이여야 합니다.");
+            }
+            mask |= 1 << hour;
+        }
+        return mask;
+    }
+
+    private static int statusMaskOf(SalesCubeServiceRequest request) {
+        int mask = 0;
+        for (OrderStatus status : request.getStatusesOrDefault()) {
+            mask |= 1 << status.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * 하루치 큐브 조각
+     */
+    private static final class DaySlice {
+
+        private static final int EMPTY = -1;
+        private static final int INITIAL_CAPACITY = 256;
+
+        // 주문 셀, index = hour * STATUS_COUNT + status
+        private final int[] orderCounts = new int[HOURS * STATUS_COUNT];
+        private final int[] orderQuantities = new int[HOURS * STATUS_COUNT];
+        private final long[] orderRevenues = new long[HOURS * STATUS_COUNT];
+
+        // 주문 줄 셀, key = (productId * HOURS + hour) * STATUS_COUNT + status 를 linear probing 으로 찾는다.
+        private int[] keys;
+        private int[] productOrderCounts;
+        private int[] productQuantities;
+        private long[] productRevenues;
+        private int size;
+
+        private DaySlice() {
+            allocate(INITIAL_CAPACITY);
+        }
+
+        private void addOrders(int cell, int orderCount, long revenue) {
+            orderCounts[cell] += orderCount;
+            orderRevenues[cell] += revenue;
+        }
+
+        private void addOrderProducts(int key, int orderCount, int quantity, long revenue) {
+            int slot = slotOf(key);
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                if (++size * 4 > keys.length * 3) {
+                    grow();
+                    slot = slotOf(key);
+                }
+            }
+            productOrderCounts[slot] += orderCount;
+            productQuantities[slot] += quantity;
+            productRevenues[slot] += revenue;
+
+            // 주문 셀의 수량은 주문 줄의 수량을 합친 것
+            orderQuantities[key % (HOURS * STATUS_COUNT)] += quantity;
+        }
+
+        private int slotOf(int key) {
+            int mask = keys.length - 1;
+            int hash = key * 0x9E3779B9;
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldOrderCounts = productOrderCounts;
+            int[] oldQuantities = productQuantities;
+            long[] oldRevenues = productRevenues;
+
+            allocate(oldKeys.length * 2);
+            for (int slot = 0; slot < oldKeys.length; slot++) {
+                if (oldKeys[slot] == EMPTY) {
+                    continue;
+                }
+                int newSlot = slotOf(oldKeys[slot]);
+                keys[newSlot] = oldKeys[slot];
+                productOrderCounts[newSlot] = oldOrderCounts[slot];
+                productQuantities[newSlot] = oldQuantities[slot];
+                productRevenues[newSlot] = oldRevenues[slot];
+            }
+        }
+
+        private void allocate(int capacity) {
+            keys = new int[capacity];
+            Arrays.fill(keys, EMPTY);
+            productOrderCounts = new int[capacity];
+            productQuantities = new int[capacity];
+            productRevenues = new long[capacity];
+        }
+    }
+}
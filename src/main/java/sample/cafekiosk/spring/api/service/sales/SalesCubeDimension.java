@@ -0,0 +1,19 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매출 큐브를 묶어서(group by) 볼 수 있는 축
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SalesCubeDimension {
+
+    DAY("일자"),
+    HOUR("시간대"),
+    PRODUCT("상품"),
+    STATUS("주문 상태");
+
+    private final String text;
+}
@@ -0,0 +1,114 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sample.cafekiosk.spring.api.service.sales.request.SalesCubeServiceRequest;
+import sample.cafekiosk.spring.api.service.sales.response.SalesCubeResponse;
+import sample.cafekiosk.spring.domain.order.OrderCreatedEvent;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.order.OrderStatusChangedEvent;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+/**
+ * 매출 큐브(SalesCube) 적재와 갱신
+ *
+ * 애플리케이션이 요청을 받기 전에(모든 빈 생성 직후) 최근 load-days 일의 주문을 큐브 칸 단위로 group by 해서 읽어온다.
+ * 읽어오는 행 수가 주문 수가 아니라 칸 수이므로 주문이 많아도 적재 시간/메모리가 크게 늘지 않는다.
+ * 이후에는 커밋된 주문 생성(OrderCreatedEvent)과 상태 변경(OrderStatusChangedEvent)을 큐브에 반영한다.
+ *
+ * 이벤트를 거치지 않고 직접 적재한 주문은 reload 로 다시 읽어야 보인다.
+ * reload 중에 커밋된 주문 변경은 빠지거나 두번 들어갈 수 있으므로 주문이 적은 시간에 실행한다.
+ */
+@Slf4j
+@Service
+public class SalesCubeService implements SmartInitializingSingleton {
+
+    private static final String ORDERS_SQL = "select cast(registered_date_time as date), extract(hour from registered_date_time), order_status, " +
+            "count(*), sum(total_price) " +
+            "from orders " +
+            "where registered_date_time >= ? " +
+            "group by cast(registered_date_time as date), extract(hour from registered_date_time), order_status";
+
+    private static final String ORDER_PRODUCTS_SQL = "select cast(o.registered_date_time as date), extract(hour from o.registered_date_time), o.order_status, op.product_number, " +
+            "count(*), sum(op.quantity), sum(cast(op.quantity as bigint) * op.product_price) " +
+            "from order_product op join orders o on o.id = op.order_id " +
+            "where o.registered_date_time >= ? " +
+            "group by cast(o.registered_date_time as date), extract(hour from o.registered_date_time), o.order_status, op.product_number";
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int loadDays;
+
+    private volatile SalesCube cube;
+
+    public SalesCubeService(DataSource dataSource,
+                            @Value("${cafekiosk.sales.cube.load-days:366}") int loadDays) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(1000);
+        this.loadDays = loadDays;
+        this.cube = new SalesCube(LocalDate.now());
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    public SalesCubeResponse query(SalesCubeServiceRequest request) {
+        return cube.query(request);
+    }
+
+    /**
+     * 최근 load-days 일의 주문을 새 큐브로 읽어와 바꿔 끼운다.
+     */
+    public void reload() {
+        long startedAt = System.nanoTime();
+        LocalDate startDate = LocalDate.now().minusDays(loadDays - 1L);
+        SalesCube loaded = new SalesCube(startDate);
+
+        jdbcTemplate.query(ORDERS_SQL, rs -> {
+            loaded.addOrders(
+                    rs.getObject(1, LocalDate.class),
+                    rs.getInt(2),
+                    STATUSES[rs.getInt(3)],
+                    rs.getInt(4),
+                    rs.getLong(5)
+            );
+        }, startDate.atStartOfDay());
+        jdbcTemplate.query(ORDER_PRODUCTS_SQL, rs -> {
+            loaded.addOrderProducts(
+                    rs.getObject(1, LocalDate.class),
+                    rs.getInt(2),
+                    STATUSES[rs.getInt(3)],
+                    rs.getString(4),
+                    rs.getInt(5),
+                    rs.getInt(6),
+                    rs.getLong(7)
+            );
+        }, startDate.atStartOfDay());
+
+        cube = loaded;
+        log.info("매출 큐브 적재 완료. startDate={}, elapsed={}ms", startDate, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        cube.add(event.getOrder(), event.getOrderStatus(), 1);
+    }
+
+    /**
+     * 이벤트에 담긴 주문 내용으로 옮긴다. (주문이 큐브 기간 밖이면 SalesCube 가 무시한다)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        cube.move(event);
+    }
+}
@@ -0,0 +1,150 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import sample.cafekiosk.spring.api.service.sales.request.SalesReportServiceRequest;
+import sample.cafekiosk.spring.api.service.sales.response.HourlySalesResponse;
+import sample.cafekiosk.spring.api.service.sales.response.ProductSalesResponse;
+import sample.cafekiosk.spring.api.service.sales.response.SalesReportResponse;
+import sample.cafekiosk.spring.domain.order.OrderSalesByHourView;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductSalesView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실행 중인 기간 매출 보고서 (SalesRangeReportService.submit)
+ *
+ * 파티션별 부분 결과를 받을 때마다 시간대별/상품별 합계에 더하고, 모든 파티션이 끝나면 결과를 완료한다.
+ * 취소하면 아직 시작하지 않은 파티션은 실행되지 않고, 실행 중인 파티션의 결과는 버린다.
+ */
+public class SalesRangeReport {
+
+    private final SalesReportServiceRequest request;
+    private final int totalPartitions;
+    private final SalesReportProgressListener progressListener;
+
+    private final CompletableFuture<SalesReportResponse> result = new CompletableFuture<>();
+    private final List<Future<?>> tasks = new CopyOnWriteArrayList<>();
+    private final AtomicInteger completedPartitions = new AtomicInteger();
+
+    // 부분 결과 합계 (this 로 동기화)
+    private final long[] orderCounts = new long[24];
+    private final long[] revenues = new long[24];
+    private final Map<String, long[]> products = new TreeMap<>(); // 상품번호 -> {수량, 매출}
+
+    SalesRangeReport(SalesReportServiceRequest request, int totalPartitions, SalesReportProgressListener progressListener) {
+        this.request = request;
+        this.totalPartitions = totalPartitions;
+        this.progressListener = progressListener;
+        // 나눌 파티션이 없으면 merge 가 불리지 않으므로 빈 보고서로 바로 완료한다.
+        if (totalPartitions == 0) {
+            result.complete(toResponse());
+        }
+    }
+
+    public CompletableFuture<SalesReportResponse> getResult() {
+        return result;
+    }
+
+    public int getCompletedPartitions() {
+        return completedPartitions.get();
+    }
+
+    public int getTotalPartitions() {
+        return totalPartitions;
+    }
+
+    public boolean isCancelled() {
+        return result.isCancelled();
+    }
+
+    /**
+     * 보고서 생성을 취소한다. 이미 끝난 보고서는 취소되지 않는다.
+     */
+    public boolean cancel() {
+        boolean cancelled = result.cancel(false);
+        // 실행 중인 파티션은 JDBC 조회 도중 interrupt 하지 않고 끝나게 둔다. (결과는 버린다)
+        tasks.forEach(task -> task.cancel(false));
+        return cancelled;
+    }
+
+    void addTask(Future<?> task) {
+        tasks.add(task);
+        if (result.isDone()) {
+            task.cancel(false);
+        }
+    }
+
+    boolean isDone() {
+        return result.isDone();
+    }
+
+    void merge(List<OrderSalesByHourView> hours, List<OrderProductSalesView> productSales) {
+        if (result.isDone()) {
+            return;
+        }
+        synchronized (this) {
+            for (OrderSalesByHourView hour : hours) {
+                orderCounts[hour.getHour()] += hour.getOrderCount();
+                revenues[hour.getHour()] += hour.getRevenue();
+            }
+            for (OrderProductSalesView product : productSales) {
+                long[] sales = products.computeIfAbsent(product.getProductNumber(), key -> new long[2]);
+                sales[0] += product.getQuantity();
+                sales[1] += product.getRevenue();
+            }
+        }
+
+        int completed = completedPartitions.incrementAndGet();
+        progressListener.onProgress(completed, totalPartitions);
+        if (completed == totalPartitions) {
+            result.complete(toResponse());
+        }
+    }
+
+    void fail(Throwable e) {
+        if (result.completeExceptionally(e)) {
+            tasks.forEach(task -> task.cancel(false));
+        }
+    }
+
+    private synchronized SalesReportResponse toResponse() {
+        long orderCount = 0;
+        long revenue = 0;
+        List<HourlySalesResponse> hours = new ArrayList<>();
+        for (int hour = 0; hour < 24; hour++) {
+            if (orderCounts[hour] == 0) {
+                continue;
+            }
+            orderCount += orderCounts[hour];
+            revenue += revenues[hour];
+            hours.add(HourlySalesResponse.builder()
+                    .hour(hour)
+                    .orderCount(orderCounts[hour])
+                    .revenue(revenues[hour])
+                    .build());
+        }
+
+        List<ProductSalesResponse> productSales = new ArrayList<>(products.size());
+        products.forEach((productNumber, sales) -> productSales.add(ProductSalesResponse.builder()
+                .productNumber(productNumber)
+                .quantity(sales[0])
+                .revenue(sales[1])
+                .build()));
+
+        return SalesReportResponse.builder()
+                .from(request.getFrom())
+                .to(request.getTo())
+                .statuses(request.getStatusesOrDefault())
+                .orderCount(orderCount)
+                .revenue(revenue)
+                .hours(hours)
+                .products(productSales)
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.api.service.sales.request.SalesReportServiceRequest;
+import sample.cafekiosk.spring.api.service.sales.response.SalesReportResponse;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderSalesByHourView;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductSalesView;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기간(주간, 월간, 연간) 매출 보고서
+ *
+ * 기간을 하루 단위 파티션으로 나누고(기간이 짧아 파티션 수가 병렬도보다 적으면 한시간 단위),
+ * 파티션마다 자기 읽기 전용 트랜잭션에서 시간대별/상품별 GROUP BY 를 실행한 뒤 부분 결과를 합친다.
+ * 파티션은 parallelism 개의 스레드로 제한된 전용 풀에서 실행되므로, 보고서 시간은 일수보다 코어(DB 커넥션) 수에 따라 줄어든다.
+ * parallelism 은 커넥션 풀 크기보다 작게 둔다. (주문 처리가 쓸 커넥션을 남긴다)
+ */
+@Service
+public class SalesRangeReportService {
+
+    private final OrderRepository orderRepository;
+    private final OrderProductRepository orderProductRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final int parallelism;
+    private final Duration timeout;
+
+    public SalesRangeReportService(OrderRepository orderRepository,
+                                   OrderProductRepository orderProductRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${cafekiosk.sales.range-report.parallelism:4}") int parallelism,
+                                   @Value("${cafekiosk.sales.range-report.timeout:60s}") Duration timeout) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("매출 보고서 병렬도는 양수여야 합니다.");
+        }
+        this.orderRepository = orderRepository;
+        this.orderProductRepository = orderProductRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.parallelism = parallelism;
+        this.timeout = timeout;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "sales-report-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 보고서 생성을 시작하고 바로 돌려준다. 결과는 SalesRangeReport.getResult 로 받고, cancel 로 취소한다.
+     * 기간은 최대 SalesReportServiceRequest.MAX_DAYS 일이다. (파티션 수와 부분 결과가 기간에 비례한다)
+     */
+    public SalesRangeReport submit(SalesReportServiceRequest request, SalesReportProgressListener progressListener) {
+        request.validateRange();
+        List<Partition> partitions = partition(request);
+        List<OrderStatus> statuses = request.getStatusesOrDefault();
+
+        SalesRangeReport report = new SalesRangeReport(request, partitions.size(), progressListener);
+        for (Partition partition : partitions) {
+            report.addTask(executor.submit(() -> run(report, partition, statuses)));
+        }
+        return report;
+    }
+
+    /**
+     * 보고서가 끝날 때까지 기다린다. timeout 을 넘기면 취소하고 예외를 던진다.
+     */
+    public SalesReportResponse getReport(SalesReportServiceRequest request) {
+        SalesRangeReport report = submit(request, SalesReportProgressListener.NONE);
+        try {
+            return report.getResult().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            report.cancel();
+            throw new IllegalStateException("매출 보고서 생성 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            report.cancel();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("매출 보고서 생성이 중단되었습니다.", e);
+        } catch (CancellationException e) {
+            throw new IllegalStateException("매출 보고서 생성이 취소되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void run(SalesRangeReport report, Partition partition, List<OrderStatus> statuses) {
+        if (report.isDone()) {
+            return;
+        }
+        try {
+            PartialSales partial = transactionTemplate.execute(status -> new PartialSales(
+                    orderRepository.sumSalesByHour(partition.start(), partition.end(), statuses),
+                    orderProductRepository.sumSalesByProduct(partition.start(), partition.end(), statuses)
+            ));
+            report.merge(partial.hours(), partial.products());
+        } catch (RuntimeException e) {
+            report.fail(e);
+        }
+    }
+
+    /**
+     * 하루 단위로 나누고, 일수가 병렬도보다 적으면 한시간 단위로 나눈다.
+     */
+    List<Partition> partition(SalesReportServiceRequest request) {
+        LocalDateTime start = request.getStartDateTime();
+        LocalDateTime end = request.getEndDateTime();
+        ChronoUnit unit = ChronoUnit.DAYS.between(start, end) < parallelism ? ChronoUnit.HOURS : ChronoUnit.DAYS;
+
+        List<Partition> partitions = new ArrayList<>();
+        for (LocalDateTime partitionStart = start; partitionStart.isBefore(end); partitionStart = partitionStart.plus(1, unit)) {
+            partitions.add(new Partition(partitionStart, partitionStart.plus(1, unit)));
+        }
+        return partitions;
+    }
+
+    record Partition(LocalDateTime start, LocalDateTime end) {
+    }
+
+    private record PartialSales(List<OrderSalesByHourView> hours, List<OrderProductSalesView> products) {
+    }
+}
@@ -0,0 +1,13 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+/**
+ * 기간 보고서의 파티션이 하나 끝날 때마다 호출된다. (파티션을 처리한 스레드에서 호출)
+ */
+@FunctionalInterface
+public interface SalesReportProgressListener {
+
+    SalesReportProgressListener NONE = (completedPartitions, totalPartitions) -> {
+    };
+
+    void onProgress(int completedPartitions, int totalPartitions);
+}
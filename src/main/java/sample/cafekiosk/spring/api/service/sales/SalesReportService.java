@@ -0,0 +1,42 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.api.service.sales.request.SalesReportServiceRequest;
+import sample.cafekiosk.spring.api.service.sales.response.SalesReportResponse;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.order.OrderSalesByHourView;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductSalesView;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기간/상태별 매출 보고서
+ *
+ * 주문 엔티티를 읽지 않고 SUM/COUNT/GROUP BY 를 DB 에서 수행해 시간대별, 상품별 합계만 받아온다.
+ * 기간이 한달이든 일년이든 시간대별 1번, 상품별 1번의 조회로 끝난다.
+ * 임의의 기간/상태로 조회할 수 있고, 결제완료 기준 하루 매출은 SalesAggregateService 의 집계 행으로도 볼 수 있다.
+ */
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+public class SalesReportService {
+
+    private final OrderRepository orderRepository;
+    private final OrderProductRepository orderProductRepository;
+
+    public SalesReportResponse getReport(SalesReportServiceRequest request) {
+        request.validateRange();
+        LocalDateTime startDateTime = request.getStartDateTime();
+        LocalDateTime endDateTime = request.getEndDateTime();
+        List<OrderStatus> statuses = request.getStatusesOrDefault();
+
+        List<OrderSalesByHourView> hours = orderRepository.sumSalesByHour(startDateTime, endDateTime, statuses);
+        List<OrderProductSalesView> products = orderProductRepository.sumSalesByProduct(startDateTime, endDateTime, statuses);
+        return SalesReportResponse.of(request, hours, products);
+    }
+}
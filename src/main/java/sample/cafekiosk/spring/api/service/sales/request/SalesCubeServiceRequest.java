@@ -0,0 +1,49 @@
+package sample.cafekiosk.spring.api.service.sales.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.api.service.sales.SalesCubeDimension;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+public class SalesCubeServiceRequest {
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final List<Integer> hours;
+    private final List<String> productNumbers;
+    private final List<OrderStatus> statuses;
+    private final SalesCubeDimension groupBy;
+
+    @Builder
+    private SalesCubeServiceRequest(LocalDate from, LocalDate to, List<Integer> hours, List<String> productNumbers,
+                                    List<OrderStatus> statuses, SalesCubeDimension groupBy) {
+        this.from = from;
+        this.to = to;
+        this.hours = hours;
+        this.productNumbers = productNumbers;
+        this.statuses = statuses;
+        this.groupBy = groupBy;
+    }
+
+    public boolean hasProductFilter() {
+        return productNumbers != null && !productNumbers.isEmpty();
+    }
+
+    /**
+     * 시간대를 지정하지 않으면 하루 전체
+     */
+    public boolean hasHourFilter() {
+        return hours != null && !hours.isEmpty();
+    }
+
+    /**
+     * 상태를 지정하지 않으면 결제완료 주문만 집계한다. (매출 보고서와 같은 기준)
+     */
+    public List<OrderStatus> getStatusesOrDefault() {
+        return statuses == null || statuses.isEmpty() ? List.of(OrderStatus.PAYMENT_COMPLETED) : statuses;
+    }
+}
@@ -0,0 +1,70 @@
+package sample.cafekiosk.spring.api.service.sales.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@Getter
+public class SalesReportServiceRequest {
+
+    /**
+     * 한번에 조회할 수 있는 최대 일수 (윤년 1년)
+     */
+    public static final int MAX_DAYS = 366;
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final List<OrderStatus> statuses;
+
+    @Builder
+    private SalesReportServiceRequest(LocalDate from, LocalDate to, List<OrderStatus> statuses) {
+        this.from = from;
+        this.to = to;
+        this.statuses = statuses;
+    }
+
+    public LocalDateTime getStartDateTime() {
+        return from.atStartOfDay();
+    }
+
+    /**
+     * 종료일도 포함한다.
+     */
+    public LocalDateTime getEndDateTime() {
+        return to.plusDays(1).atStartOfDay();
+    }
+
+    /**
+     * 조회 일수 (시작일, 종료일 포함)
+     */
+    public long getDays() {
+        return ChronoUnit.DAYS.between(from, to) + 1;
+    }
+
+    /**
+     * 종료일이 시작일보다 앞서거나 기간이 MAX_DAYS 를 넘으면 예외를 던진다.
+     */
+    public void validateRange() {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("조회 기간은 필수입니다.");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("조회 종료일은 시작일 이후여야 합니다.");
+        }
+        if (getDays() > MAX_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 " + MAX_DAYS + "일 이하여야 합니다.");
+        }
+    }
+
+    /**
+     * 상태를 지정하지 않으면 결제완료 주문만 집계한다. (매출 통계 메일과 같은 기준)
+     */
+    public List<OrderStatus> getStatusesOrDefault() {
+        return statuses == null || statuses.isEmpty() ? List.of(OrderStatus.PAYMENT_COMPLETED) : statuses;
+    }
+}
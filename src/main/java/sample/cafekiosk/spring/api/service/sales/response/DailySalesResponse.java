@@ -0,0 +1,49 @@
+package sample.cafekiosk.spring.api.service.sales.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.sales.HourlySales;
+import sample.cafekiosk.spring.domain.sales.ProductDailySales;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+public class DailySalesResponse {
+
+    private LocalDate salesDate;
+    private long orderCount;
+    private long revenue;
+    private List<HourlySalesResponse> hours;
+    private List<ProductSalesResponse> products;
+
+    @Builder
+    private DailySalesResponse(LocalDate salesDate, long orderCount, long revenue,
+                               List<HourlySalesResponse> hours, List<ProductSalesResponse> products) {
+        this.salesDate = salesDate;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+        this.hours = hours;
+        this.products = products;
+    }
+
+    public static DailySalesResponse of(LocalDate salesDate, List<HourlySales> hours, List<ProductDailySales> products) {
+        long orderCount = 0;
+        long revenue = 0;
+        for (HourlySales hour : hours) {
+            orderCount += hour.getOrderCount();
+            revenue += hour.getRevenue();
+        }
+        return DailySalesResponse.builder()
+                .salesDate(salesDate)
+                .orderCount(orderCount)
+                .revenue(revenue)
+                .hours(hours.stream()
+                        .map(HourlySalesResponse::of)
+                        .toList())
+                .products(products.stream()
+                        .map(ProductSalesResponse::of)
+                        .toList())
+                .build();
+    }
+}
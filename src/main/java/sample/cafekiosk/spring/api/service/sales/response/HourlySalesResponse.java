@@ -0,0 +1,37 @@
+package sample.cafekiosk.spring.api.service.sales.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.order.OrderSalesByHourView;
+import sample.cafekiosk.spring.domain.sales.HourlySales;
+
+@Getter
+public class HourlySalesResponse {
+
+    private int hour;
+    private long orderCount;
+    private long revenue;
+
+    @Builder
+    private HourlySalesResponse(int hour, long orderCount, long revenue) {
+        this.hour = hour;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+    }
+
+    public static HourlySalesResponse of(HourlySales sales) {
+        return HourlySalesResponse.builder()
+                .hour(sales.getSalesHour())
+                .orderCount(sales.getOrderCount())
+                .revenue(sales.getRevenue())
+                .build();
+    }
+
+    public static HourlySalesResponse of(OrderSalesByHourView sales) {
+        return HourlySalesResponse.builder()
+                .hour(sales.getHour())
+                .orderCount(sales.getOrderCount())
+                .revenue(sales.getRevenue())
+                .build();
+    }
+}
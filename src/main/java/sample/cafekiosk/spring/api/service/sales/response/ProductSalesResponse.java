@@ -0,0 +1,37 @@
+package sample.cafekiosk.spring.api.service.sales.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductSalesView;
+import sample.cafekiosk.spring.domain.sales.ProductDailySales;
+
+@Getter
+public class ProductSalesResponse {
+
+    private String productNumber;
+    private long quantity;
+    private long revenue;
+
+    @Builder
+    private ProductSalesResponse(String productNumber, long quantity, long revenue) {
+        this.productNumber = productNumber;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+
+    public static ProductSalesResponse of(ProductDailySales sales) {
+        return ProductSalesResponse.builder()
+                .productNumber(sales.getProductNumber())
+                .quantity(sales.getQuantity())
+                .revenue(sales.getRevenue())
+                .build();
+    }
+
+    public static ProductSalesResponse of(OrderProductSalesView sales) {
+        return ProductSalesResponse.builder()
+                .productNumber(sales.getProductNumber())
+                .quantity(sales.getQuantity())
+                .revenue(sales.getRevenue())
+                .build();
+    }
+}
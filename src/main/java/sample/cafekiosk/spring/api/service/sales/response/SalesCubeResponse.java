@@ -0,0 +1,39 @@
+package sample.cafekiosk.spring.api.service.sales.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.api.service.sales.SalesCubeDimension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 매출 큐브 조회 결과. 조건에 맞는 전체 합계와 groupBy 축별 합계(rows)
+ *
+ * 전체 주문 수(orderCount)는 상품으로 묶기만 했을 때도 주문마다 한번 센다.
+ * 상품별 행의 주문 수는 그 상품이 들어있는 주문 수라서, 행을 더하면 전체 주문 수보다 클 수 있다.
+ * 상품으로 거르면 주문 수는 거른 상품이 들어있는 주문 줄 수다. (상품 하나로 거르면 주문 수와 같고, 여럿이면 주문이 상품마다 세어진다)
+ */
+@Getter
+public class SalesCubeResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private SalesCubeDimension groupBy;
+    private long orderCount;
+    private long quantity;
+    private long revenue;
+    private List<SalesCubeRowResponse> rows;
+
+    @Builder
+    private SalesCubeResponse(LocalDate from, LocalDate to, SalesCubeDimension groupBy, long orderCount, long quantity, long revenue,
+                              List<SalesCubeRowResponse> rows) {
+        this.from = from;
+        this.to = to;
+        this.groupBy = groupBy;
+        this.orderCount = orderCount;
+        this.quantity = quantity;
+        this.revenue = revenue;
+        this.rows = rows;
+    }
+}
@@ -0,0 +1,21 @@
+package sample.cafekiosk.spring.api.service.sales.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class SalesCubeRowResponse {
+
+    private String key;
+    private long orderCount;
+    private long quantity;
+    private long revenue;
+
+    @Builder
+    private SalesCubeRowResponse(String key, long orderCount, long quantity, long revenue) {
+        this.key = key;
+        this.orderCount = orderCount;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+}
@@ -0,0 +1,61 @@
+package sample.cafekiosk.spring.api.service.sales.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.api.service.sales.request.SalesReportServiceRequest;
+import sample.cafekiosk.spring.domain.order.OrderSalesByHourView;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductSalesView;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+public class SalesReportResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private List<OrderStatus> statuses;
+    private long orderCount;
+    private long revenue;
+    private List<HourlySalesResponse> hours;
+    private List<ProductSalesResponse> products;
+
+    @Builder
+    private SalesReportResponse(LocalDate from, LocalDate to, List<OrderStatus> statuses, long orderCount, long revenue,
+                                List<HourlySalesResponse> hours, List<ProductSalesResponse> products) {
+        this.from = from;
+        this.to = to;
+        this.statuses = statuses;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+        this.hours = hours;
+        this.products = products;
+    }
+
+    /**
+     * 전체 주문 수/매출은 시간대별 합계(최대 24행)를 더해서 구한다. (별도 조회 없음)
+     */
+    public static SalesReportResponse of(SalesReportServiceRequest request,
+                                         List<OrderSalesByHourView> hours, List<OrderProductSalesView> products) {
+        long orderCount = 0;
+        long revenue = 0;
+        for (OrderSalesByHourView hour : hours) {
+            orderCount += hour.getOrderCount();
+            revenue += hour.getRevenue();
+        }
+        return SalesReportResponse.builder()
+                .from(request.getFrom())
+                .to(request.getTo())
+                .statuses(request.getStatusesOrDefault())
+                .orderCount(orderCount)
+                .revenue(revenue)
+                .hours(hours.stream()
+                        .map(HourlySalesResponse::of)
+                        .toList())
+                .products(products.stream()
+                        .map(ProductSalesResponse::of)
+                        .toList())
+                .build();
+    }
+}
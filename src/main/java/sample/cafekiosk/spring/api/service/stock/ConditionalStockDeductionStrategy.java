@@ -0,0 +1,44 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품마다 한번의 조건부 UPDATE 로 차감한다.
+ * update stock set quantity = quantity - ? where product_number = ? and quantity >= ?
+ *
+ * 변경된 행이 없으면 재고가 부족한 것이다.
+ * 재고를 여러 bucket 으로 나누지 않은 상품(0번 bucket)만 다룬다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ConditionalStockDeductionStrategy implements StockDeductionStrategy {
+
+    private final StockRepository stockRepository;
+
+    @Override
+    public StockDeductionMode getMode() {
+        return StockDeductionMode.CONDITIONAL;
+    }
+
+    @Override
+    public void deduct(Map<String, Integer> quantities) {
+        // 행 잠금 순서를 맞추기 위해 상품번호 순으로 처리
+        new TreeMap<>(quantities).forEach((productNumber, quantity) -> {
+            if (stockRepository.deductQuantityIfEnough(productNumber, Stock.DEFAULT_BUCKET, quantity) == 0) {
+                throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+            }
+        });
+    }
+
+    @Override
+    public void restore(Map<String, Integer> quantities) {
+        new TreeMap<>(quantities).forEach((productNumber, quantity) ->
+                stockRepository.increaseQuantity(productNumber, Stock.DEFAULT_BUCKET, quantity));
+    }
+}
@@ -0,0 +1,149 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel
+ *
+ * 만료 시각을 tick 단위로 잘라 wheel 의 slot 에 넣어두고, 한 tick 마다 slot 하나만 확인한다.
+ * wheel 한 바퀴보다 먼 만료는 남은 바퀴 수(remainingRounds)를 세어가며 기다린다.
+ * 등록/취소/만료 모두 항목 하나당 O(1) 이고, 전체 목록을 훑지 않는다.
+ *
+ * slot 은 tick 스레드만 다룬다. 다른 스레드는 등록 큐에 넣기만 하고, 취소는 표시만 해둔다.
+ * 만료 처리(onExpire)는 tick 스레드에서 호출되므로 오래 걸리는 작업은 다른 스레드로 넘겨야 한다.
+ */
+@Slf4j
+public class HashedTimingWheel<T> {
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<ArrayDeque<Timeout<T>>> slots;
+    private final Queue<Timeout<T>> registrations = new ConcurrentLinkedQueue<>();
+    private final Consumer<T> onExpire;
+    private final ScheduledExecutorService ticker;
+
+    private final long startNanos = System.nanoTime();
+    private long tick; // tick 스레드에서만 읽고 쓴다.
+
+    public HashedTimingWheel(String name, Duration tickDuration, int wheelSize, Consumer<T> onExpire) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("tick 간격은 양수여야 합니다.");
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("wheel 크기는 양수여야 합니다.");
+        }
+
+        // slot 위치를 나머지 연산 대신 비트 연산으로 구하기 위해 2의 거듭제곱으로 맞춘다.
+        int slotCount = Integer.highestOneBit(wheelSize) == wheelSize ? wheelSize : Integer.highestOneBit(wheelSize) << 1;
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = slotCount - 1;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new ArrayDeque<>());
+        }
+        this.onExpire = onExpire;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        ticker.scheduleAtFixedRate(this::advance, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void stop() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * delay 가 지나면 task 를 만료 처리한다. 이미 지난 시간(음수)이면 다음 tick 에 만료된다.
+     */
+    public Timeout<T> schedule(T task, Duration delay) {
+        Timeout<T> timeout = new Timeout<>(task, System.nanoTime() + Math.max(delay.toNanos(), 0));
+        registrations.add(timeout);
+        return timeout;
+    }
+
+    void advance() {
+        try {
+            transferRegistrations();
+            expire(slots.get((int) (tick & mask)));
+            tick++;
+        } catch (RuntimeException e) {
+            // scheduleAtFixedRate 는 예외가 나면 더 이상 실행되지 않으므로 여기서 끊는다.
+            log.error("timing wheel tick 처리 실패. tick={}", tick, e);
+        }
+    }
+
+    private void transferRegistrations() {
+        Timeout<T> timeout;
+        while ((timeout = registrations.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            // 이미 지난 만료는 현재 tick 에서 처리한다.
+            long expiredTick = Math.max((timeout.deadlineNanos - startNanos) / tickNanos, tick);
+            timeout.remainingRounds = (expiredTick - tick) / slots.size();
+            slots.get((int) (expiredTick & mask)).add(timeout);
+        }
+    }
+
+    private void expire(ArrayDeque<Timeout<T>> slot) {
+        Iterator<Timeout<T>> iterator = slot.iterator();
+        while (iterator.hasNext()) {
+            Timeout<T> timeout = iterator.next();
+            if (timeout.isCancelled()) {
+                iterator.remove();
+                continue;
+            }
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                continue;
+            }
+            iterator.remove();
+            try {
+                onExpire.accept(timeout.task);
+            } catch (RuntimeException e) {
+                log.error("만료 처리 실패. task={}", timeout.task, e);
+            }
+        }
+    }
+
+    public static final class Timeout<T> {
+
+        private final T task;
+        private final long deadlineNanos;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private Timeout(T task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * 표시만 해두고, slot 에서는 tick 스레드가 해당 slot 을 지날 때 빠진다.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
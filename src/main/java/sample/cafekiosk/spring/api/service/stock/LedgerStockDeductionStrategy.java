@@ -0,0 +1,31 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 메모리 재고 원장에서 차감한다. DB 반영은 원장이 주기적으로 모아서 처리한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class LedgerStockDeductionStrategy implements StockDeductionStrategy {
+
+    private final StockLedger stockLedger;
+
+    @Override
+    public StockDeductionMode getMode() {
+        return StockDeductionMode.LEDGER;
+    }
+
+    @Override
+    public void deduct(Map<String, Integer> quantities) {
+        stockLedger.deductAll(quantities);
+    }
+
+    @Override
+    public void restore(Map<String, Integer> quantities) {
+        stockLedger.restoreAfterCommit(quantities);
+    }
+}
@@ -0,0 +1,63 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockQuantityView;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 재고의 version 을 읽고, version 이 그대로일 때만 차감한다.
+ * 다른 주문이 먼저 차감해서 version 이 바뀌었으면 다시 읽어서 정해진 횟수만큼 재시도한다.
+ *
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 조건부 UPDATE 로 처리하기 때문에
+ * 충돌이 나도 주문 트랜잭션이 rollback-only 가 되지 않는다.
+ * 재고를 여러 bucket 으로 나누지 않은 상품(0번 bucket)만 다룬다.
+ */
+@Component
+public class OptimisticStockDeductionStrategy implements StockDeductionStrategy {
+
+    private final StockRepository stockRepository;
+    private final int maxAttempts;
+
+    public OptimisticStockDeductionStrategy(StockRepository stockRepository,
+                                            @Value("${cafekiosk.stock.optimistic.max-attempts:5}") int maxAttempts) {
+        this.stockRepository = stockRepository;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public StockDeductionMode getMode() {
+        return StockDeductionMode.OPTIMISTIC;
+    }
+
+    @Override
+    public void deduct(Map<String, Integer> quantities) {
+        new TreeMap<>(quantities).forEach(this::deductWithRetry);
+    }
+
+    @Override
+    public void restore(Map<String, Integer> quantities) {
+        new TreeMap<>(quantities).forEach((productNumber, quantity) ->
+                stockRepository.increaseQuantity(productNumber, Stock.DEFAULT_BUCKET, quantity));
+    }
+
+    private void deductWithRetry(String productNumber, int quantity) {
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            StockQuantityView stock = stockRepository.findQuantityView(productNumber, Stock.DEFAULT_BUCKET)
+                    .orElseThrow(() -> new IllegalArgumentException("재고가 부족한 상품이 있습니다."));
+
+            if (stock.getQuantity() < quantity) {
+                throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+            }
+
+            if (stockRepository.deductQuantityIfVersionMatches(productNumber, Stock.DEFAULT_BUCKET, quantity, stock.getVersion()) == 1) {
+                return;
+            }
+        }
+        throw new IllegalStateException("재고 차감 중 충돌이 반복되어 주문을 처리하지 못했습니다.");
+    }
+}
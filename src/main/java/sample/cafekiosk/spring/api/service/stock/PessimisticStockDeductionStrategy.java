@@ -0,0 +1,60 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+import sample.cafekiosk.spring.domain.stock.StockShards;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 행을 SELECT ... FOR UPDATE 로 잠그고 차감한다.
+ * 데드락을 피하기 위해 항상 상품번호, bucket 순서로 잠근다.
+ * 여러 bucket 으로 나뉜 재고는 앞쪽 bucket 부터 비워가며 차감한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class PessimisticStockDeductionStrategy implements StockDeductionStrategy {
+
+    private final StockRepository stockRepository;
+
+    @Override
+    public StockDeductionMode getMode() {
+        return StockDeductionMode.PESSIMISTIC;
+    }
+
+    @Override
+    public boolean supportsShards() {
+        return true;
+    }
+
+    @Override
+    public void deduct(Map<String, Integer> quantities) {
+        List<String> productNumbers = quantities.keySet().stream()
+                .sorted()
+                .toList();
+
+        Map<String, List<Stock>> stocksByProductNumber = stockRepository.findAllForUpdateByProductNumberIn(productNumbers).stream()
+                .collect(Collectors.groupingBy(Stock::getProductNumber));
+
+        for (String productNumber : productNumbers) {
+            StockShards stock = StockShards.of(productNumber, stocksByProductNumber.getOrDefault(productNumber, List.of()));
+            int quantity = quantities.get(productNumber);
+
+            if (stock.isQuantityLessThan(quantity)) {
+                throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+            }
+            stock.deductQuantity(quantity);
+        }
+    }
+
+    @Override
+    public void restore(Map<String, Integer> quantities) {
+        new TreeMap<>(quantities).forEach((productNumber, quantity) ->
+                stockRepository.increaseQuantity(productNumber, Stock.DEFAULT_BUCKET, quantity));
+    }
+}
@@ -0,0 +1,73 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.domain.stock.StockQuantityView;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+import sample.cafekiosk.spring.domain.stock.StockShards;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여러 bucket 으로 나뉜 재고에서 차감한다.
+ *
+ * 스레드마다 정해진 bucket 부터 조건부 UPDATE 로 차감을 시도하고, 부족하면 다음 bucket 으로 넘어간다.
+ * 어느 bucket 하나로도 부족하면 그 상품의 모든 bucket 을 잠그고 나눠서 차감한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ShardedStockDeductionStrategy implements StockDeductionStrategy {
+
+    private final StockRepository stockRepository;
+
+    @Override
+    public StockDeductionMode getMode() {
+        return StockDeductionMode.SHARDED;
+    }
+
+    @Override
+    public boolean supportsShards() {
+        return true;
+    }
+
+    @Override
+    public void deduct(Map<String, Integer> quantities) {
+        new TreeMap<>(quantities).forEach(this::deductFromShards);
+    }
+
+    @Override
+    public void restore(Map<String, Integer> quantities) {
+        new TreeMap<>(quantities).forEach((productNumber, quantity) ->
+                stockRepository.increaseQuantity(productNumber, Stock.DEFAULT_BUCKET, quantity));
+    }
+
+    private void deductFromShards(String productNumber, int quantity) {
+        List<StockQuantityView> buckets = stockRepository.findQuantityViewsByProductNumber(productNumber);
+        if (buckets.isEmpty()) {
+            throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+        }
+
+        int start = affineIndex(buckets.size());
+        for (int i = 0; i < buckets.size(); i++) {
+            StockQuantityView bucket = buckets.get((start + i) % buckets.size());
+            if (bucket.getQuantity() >= quantity
+                    && stockRepository.deductQuantityIfEnough(productNumber, bucket.getBucket(), quantity) == 1) {
+                return;
+            }
+        }
+
+        // 한 bucket 으로는 부족한 경우
+        StockShards stock = StockShards.of(productNumber, stockRepository.findAllForUpdateByProductNumberIn(List.of(productNumber)));
+        if (stock.isQuantityLessThan(quantity)) {
+            throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+        }
+        stock.deductQuantity(quantity);
+    }
+
+    private static int affineIndex(int bucketCount) {
+        return (int) (Thread.currentThread().getId() % bucketCount);
+    }
+}
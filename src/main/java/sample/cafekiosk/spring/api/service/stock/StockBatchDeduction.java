@@ -0,0 +1,84 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+import sample.cafekiosk.spring.domain.stock.StockShards;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 주문의 재고를 한 트랜잭션에서 한번에 차감한다. (group commit, 일괄 주문)
+ *
+ * 주문들에 포함된 모든 상품의 재고 행을 한번에 잠그고(상품번호, bucket 순) 메모리에서 주문 순서대로 차감한다.
+ * 재고가 부족한 주문만 제외되고, 변경된 재고 행은 커밋 시 한번에 반영된다.
+ * 행 잠금 기반이라 다른 DB 차감 방식과 섞여 실행되어도 초과 차감되지 않는다.
+ * LEDGER 방식은 원장이 재고의 기준이므로 주문마다 원장에서 차감한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class StockBatchDeduction {
+
+    private final StockRepository stockRepository;
+    private final StockDeductionStrategies stockDeductionStrategies;
+
+    /**
+     * @param quantitiesPerOrder 주문별 (상품번호별 차감 수량)
+     * @return 주문별 차감 성공 여부 (quantitiesPerOrder 와 같은 순서)
+     */
+    public List<Boolean> deductEach(List<Map<String, Integer>> quantitiesPerOrder) {
+        StockDeductionStrategy strategy = stockDeductionStrategies.get();
+        if (strategy.getMode() == StockDeductionMode.LEDGER) {
+            return quantitiesPerOrder.stream()
+                    .map(quantities -> deductAlone(strategy, quantities))
+                    .toList();
+        }
+
+        Map<String, StockShards> stocks = lockStocks(quantitiesPerOrder);
+
+        List<Boolean> results = new ArrayList<>(quantitiesPerOrder.size());
+        for (Map<String, Integer> quantities : quantitiesPerOrder) {
+            boolean enough = quantities.entrySet().stream()
+                    .noneMatch(quantity -> stocks.get(quantity.getKey()).isQuantityLessThan(quantity.getValue()));
+            if (enough) {
+                quantities.forEach((productNumber, quantity) -> stocks.get(productNumber).deductQuantity(quantity));
+            }
+            results.add(enough);
+        }
+        return results;
+    }
+
+    private Map<String, StockShards> lockStocks(List<Map<String, Integer>> quantitiesPerOrder) {
+        List<String> productNumbers = quantitiesPerOrder.stream()
+                .flatMap(quantities -> quantities.keySet().stream())
+                .distinct()
+                .sorted()
+                .toList();
+        if (productNumbers.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, List<Stock>> stocksByProductNumber = stockRepository.findAllForUpdateByProductNumberIn(productNumbers).stream()
+                .collect(Collectors.groupingBy(Stock::getProductNumber));
+        return productNumbers.stream()
+                .collect(Collectors.toMap(productNumber -> productNumber,
+                        productNumber -> StockShards.of(productNumber, stocksByProductNumber.getOrDefault(productNumber, List.of()))));
+    }
+
+    private static boolean deductAlone(StockDeductionStrategy strategy, Map<String, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return true;
+        }
+        try {
+            // 원장은 부족한 상품이 있으면 먼저 차감한 상품까지 되돌리고 예외를 던진다.
+            strategy.deduct(quantities);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum StockDeductionMode {
+
+    PESSIMISTIC("비관적 락 (SELECT ... FOR UPDATE)"),
+
+    OPTIMISTIC("낙관적 락 (@Version + 재시도)"),
+
+    CONDITIONAL("조건부 UPDATE"),
+
+    LEDGER("메모리 재고 원장"),
+
+    SHARDED("bucket 분할 재고");
+
+    private final String text;
+}
@@ -0,0 +1,36 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 설정(cafekiosk.stock.deduction-mode)에 따라 사용할 재고 차감 방식을 골라준다.
+ */
+@Component
+public class StockDeductionStrategies {
+
+    private final Map<StockDeductionMode, StockDeductionStrategy> strategies = new EnumMap<>(StockDeductionMode.class);
+    private final StockDeductionMode mode;
+
+    public StockDeductionStrategies(List<StockDeductionStrategy> strategies,
+                                    @Value("${cafekiosk.stock.deduction-mode:PESSIMISTIC}") StockDeductionMode mode) {
+        strategies.forEach(strategy -> this.strategies.put(strategy.getMode(), strategy));
+        this.mode = mode;
+    }
+
+    public StockDeductionStrategy get() {
+        return get(mode);
+    }
+
+    public StockDeductionStrategy get(StockDeductionMode mode) {
+        StockDeductionStrategy strategy = strategies.get(mode);
+        if (strategy == null) {
+            throw new IllegalStateException("지원하지 않는 재고 차감 방식입니다. mode=" + mode);
+        }
+        return strategy;
+    }
+}
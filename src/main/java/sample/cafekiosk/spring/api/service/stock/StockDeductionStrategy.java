@@ -0,0 +1,34 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import java.util.Map;
+
+/**
+ * 재고 차감 방식
+ *
+ * 주문 트랜잭션 안에서 호출되며, 재고가 부족한 상품이 있으면 IllegalArgumentException 을 던진다.
+ * 예외가 나면 주문 트랜잭션이 롤백되므로 이미 차감한 상품도 함께 되돌려진다.
+ */
+public interface StockDeductionStrategy {
+
+    StockDeductionMode getMode();
+
+    /**
+     * 재고를 여러 bucket 으로 나눈 상품을 다룰 수 있는지
+     */
+    default boolean supportsShards() {
+        return false;
+    }
+
+    /**
+     * @param quantities 상품번호별 차감 수량
+     */
+    void deduct(Map<String, Integer> quantities);
+
+    /**
+     * 예약이 해제/만료되어 차감했던 재고를 되돌린다.
+     * 여러 bucket 으로 나뉜 재고는 0번 bucket 에 되돌린다.
+     *
+     * @param quantities 상품번호별 복구 수량
+     */
+    void restore(Map<String, Integer> quantities);
+}
@@ -0,0 +1,207 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품번호별 재고를 메모리에서 관리하는 원장 (write-behind)
+ *
+ * 재고 확인/차감은 stock 행을 읽고 쓰는 대신 상품별 AtomicInteger 에 CAS 로 수행한다.
+ * 차감된 수량은 상품별 pending 에 누적해 두었다가 주기적으로 stock 테이블(0번 bucket)에 batch update 로 반영한다.
+ * 원장은 재고 분할을 지원하지 않으므로 읽기와 반영 모두 0번 bucket 만 대상으로 한다.
+ *
+ * 원장은 인스턴스 메모리에 있으므로 단일 인스턴스로 배포될 때만 재고의 기준이 될 수 있다.
+ */
+@Slf4j
+@Component
+public class StockLedger {
+
+    private static final String FLUSH_SQL = "update stock set quantity = quantity - ? where product_number = ? and bucket = " + Stock.DEFAULT_BUCKET;
+
+    private final StockRepository stockRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public StockLedger(StockRepository stockRepository, JdbcTemplate jdbcTemplate) {
+        this.stockRepository = stockRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 상품별 수량만큼 재고를 차감한다.
+     * 하나라도 부족하면 앞서 차감한 상품들을 되돌리고 예외를 던진다.
+     * 트랜잭션 안에서 호출되면 롤백 시 차감한 수량을 원장에 다시 돌려놓는다.
+     */
+    public void deductAll(Map<String, Integer> quantities) {
+        load(quantities.keySet());
+
+        Map<String, Integer> deducted = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> quantity : quantities.entrySet()) {
+            if (!tryDeduct(quantity.getKey(), quantity.getValue())) {
+                restoreAll(deducted);
+                throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+            }
+            deducted.put(quantity.getKey(), quantity.getValue());
+        }
+
+        restoreOnRollback(deducted);
+    }
+
+    /**
+     * 가용 재고가 quantity 이상일 때만 차감한다. (deduct if at least N)
+     */
+    public boolean tryDeduct(String productNumber, int quantity) {
+        Entry entry = entries.get(productNumber);
+        if (entry == null) {
+            return false;
+        }
+
+        int available;
+        do {
+            available = entry.available.get();
+            if (available < quantity) {
+                return false;
+            }
+        } while (!entry.available.compareAndSet(available, available - quantity));
+
+        entry.pending.addAndGet(quantity);
+        return true;
+    }
+
+    /**
+     * 원장에 없는 상품이면(재시작 후 아직 차감되지 않은 상품 등) 먼저 읽어와서 되돌린다.
+     */
+    public void restore(String productNumber, int quantity) {
+        Entry entry = entries.get(productNumber);
+        if (entry == null) {
+            load(List.of(productNumber));
+            entry = entries.get(productNumber);
+        }
+        if (entry == null) {
+            log.warn("재고가 없는 상품의 재고를 되돌리려 했습니다. productNumber={}, quantity={}", productNumber, quantity);
+            return;
+        }
+        entry.available.addAndGet(quantity);
+        entry.pending.addAndGet(-quantity);
+    }
+
+    /**
+     * 상품별 수량만큼 원장에 재고를 되돌린다.
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 되돌린다. (롤백되면 되돌리지 않는다)
+     */
+    public void restoreAfterCommit(Map<String, Integer> quantities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            restoreAll(quantities);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                restoreAll(quantities);
+            }
+        });
+    }
+
+    public int getAvailableQuantity(String productNumber) {
+        load(List.of(productNumber));
+        Entry entry = entries.get(productNumber);
+        return entry == null ? 0 : entry.available.get();
+    }
+
+    /**
+     * 누적된 차감 수량을 stock 테이블에 한번에 반영한다.
+     * 실패하면 pending 에 다시 돌려놓고 다음 주기에 재시도한다.
+     */
+    @Scheduled(fixedDelayString = "${cafekiosk.stock.ledger.flush-interval:200}")
+    public void flush() {
+        List<Object[]> batchArgs = new ArrayList<>();
+        entries.forEach((productNumber, entry) -> {
+            int delta = entry.pending.getAndSet(0);
+            if (delta != 0) {
+                batchArgs.add(new Object[]{delta, productNumber});
+            }
+        });
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+        } catch (DataAccessException e) {
+            log.warn("재고 원장 반영 실패, 다음 주기에 재시도합니다. size={}", batchArgs.size(), e);
+            for (Object[] args : batchArgs) {
+                entries.get((String) args[1]).pending.addAndGet((Integer) args[0]);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 원장에 없는 상품들의 재고를 한번의 조회로 읽어와 등록한다.
+     */
+    private void load(Collection<String> productNumbers) {
+        List<String> missing = productNumbers.stream()
+                .filter(productNumber -> !entries.containsKey(productNumber))
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        // flush 가 0번 bucket 에만 반영하므로 읽을 때도 0번 bucket 만 읽는다.
+        for (Stock stock : stockRepository.findAllByProductNumberInAndBucket(missing, Stock.DEFAULT_BUCKET)) {
+            entries.putIfAbsent(stock.getProductNumber(), new Entry(stock.getQuantity()));
+        }
+    }
+
+    private void restoreAll(Map<String, Integer> quantities) {
+        quantities.forEach(this::restore);
+    }
+
+    private void restoreOnRollback(Map<String, Integer> deducted) {
+        if (deducted.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    restoreAll(deducted);
+                }
+            }
+        });
+    }
+
+    private static final class Entry {
+
+        private final AtomicInteger available;
+
+        // 아직 DB 에 반영되지 않은 차감 수량
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private Entry(int available) {
+            this.available = new AtomicInteger(available);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.order.OrderStatusChangedEvent;
+import sample.cafekiosk.spring.domain.stock.StockReservation;
+import sample.cafekiosk.spring.domain.stock.StockReservationRepository;
+import sample.cafekiosk.spring.domain.stock.StockReservationStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 예약 (hold -> confirm / release / expire)
+ *
+ * 주문 생성(INIT) 시 차감한 재고를 예약으로 남겨두고, 주문 상태 변경 이벤트에 따라
+ * 결제 완료면 확정, 결제 실패/주문 취소면 해제(재고 복구)한다.
+ * 결정되지 않은 예약은 timing wheel 에서 만료되어 재고를 되돌리고 주문을 취소한다.
+ */
+@Slf4j
+@Transactional
+@Service
+public class StockReservationService {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final OrderRepository orderRepository;
+    private final StockDeductionStrategies stockDeductionStrategies;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+
+    private final HashedTimingWheel<Long> expiryWheel;
+    // 만료 처리(DB 작업)는 tick 스레드를 막지 않도록 따로 실행한다.
+    private final ExecutorService expiryExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stock-reservation-expiry");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<Long, HashedTimingWheel.Timeout<Long>> timeouts = new ConcurrentHashMap<>();
+
+    public StockReservationService(StockReservationRepository stockReservationRepository,
+                                   OrderRepository orderRepository,
+                                   StockDeductionStrategies stockDeductionStrategies,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${cafekiosk.stock.reservation.ttl:15m}") Duration ttl,
+                                   @Value("${cafekiosk.stock.reservation.tick:1s}") Duration tick,
+                                   @Value("${cafekiosk.stock.reservation.wheel-size:512}") int wheelSize) {
+        this.stockReservationRepository = stockReservationRepository;
+        this.orderRepository = orderRepository;
+        this.stockDeductionStrategies = stockDeductionStrategies;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = ttl;
+        this.expiryWheel = new HashedTimingWheel<>("stock-reservation-wheel", tick, wheelSize,
+                orderId -> expiryExecutor.execute(() -> expire(orderId)));
+    }
+
+    @PostConstruct
+    public void start() {
+        expiryWheel.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        expiryWheel.stop();
+        expiryExecutor.shutdownNow();
+    }
+
+    /**
+     * 재시작 시 아직 결정되지 않은 예약의 만료를 다시 등록한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleHeldReservations() {
+        LocalDateTime now = LocalDateTime.now();
+        stockReservationRepository.findAllByStatus(StockReservationStatus.HELD).stream()
+                .collect(Collectors.toMap(StockReservation::getOrderId, StockReservation::getExpiredDateTime,
+                        (a, b) -> a.isBefore(b) ? a : b))
+                .forEach((orderId, expiredDateTime) -> schedule(orderId, Duration.between(now, expiredDateTime)));
+    }
+
+    /**
+     * 주문 생성 트랜잭션 안에서 차감한 재고만큼 예약을 남긴다.
+     * 만료는 커밋된 뒤에 등록한다.
+     */
+    public void hold(Long orderId, Map<String, Integer> quantities, LocalDateTime registeredDateTime) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime expiredDateTime = registeredDateTime.plus(ttl);
+        stockReservationRepository.saveAll(quantities.entrySet().stream()
+                .map(quantity -> StockReservation.hold(orderId, quantity.getKey(), quantity.getValue(), expiredDateTime))
+                .toList());
+
+        afterCommit(() -> schedule(orderId, ttl));
+    }
+
+    public void confirm(Long orderId) {
+        if (stockReservationRepository.changeStatus(orderId, List.of(StockReservationStatus.HELD), StockReservationStatus.CONFIRMED) > 0) {
+            afterCommit(() -> cancelExpiry(orderId));
+        }
+    }
+
+    public void release(Long orderId) {
+        release(orderId, StockReservationStatus.forRelease(), StockReservationStatus.RELEASED);
+    }
+
+    @EventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        switch (event.getOrderStatus()) {
+            case PAYMENT_COMPLETED -> confirm(event.getOrderId());
+            case PAYMENT_FAILED, CANCELED -> release(event.getOrderId());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 만료 시각이 지나도록 결정되지 않은 예약을 만료시키고 주문을 취소한다.
+     * 그 사이에 확정/해제되었다면 아무것도 하지 않는다.
+     */
+    void expire(Long orderId) {
+        timeouts.remove(orderId);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!release(orderId, List.of(StockReservationStatus.HELD), StockReservationStatus.EXPIRED)) {
+                return;
+            }
+            orderRepository.findById(orderId)
+                    .filter(order -> order.getOrderStatus().canChangeTo(OrderStatus.CANCELED))
+                    .ifPresent(order -> {
+                        order.changeOrderStatus(OrderStatus.CANCELED);
+                        orderRepository.save(order);
+                    });
+        });
+    }
+
+    /**
+     * 조건부 UPDATE 로 상태를 바꾼 쪽만 재고를 되돌린다. (중복 복구 방지)
+     */
+    private boolean release(Long orderId, List<StockReservationStatus> statuses, StockReservationStatus status) {
+        if (stockReservationRepository.changeStatus(orderId, statuses, status) == 0) {
+            return false;
+        }
+
+        Map<String, Integer> quantities = stockReservationRepository.findAllByOrderId(orderId).stream()
+                .collect(Collectors.groupingBy(StockReservation::getProductNumber,
+                        Collectors.summingInt(StockReservation::getQuantity)));
+        stockDeductionStrategies.get().restore(quantities);
+
+        afterCommit(() -> cancelExpiry(orderId));
+        return true;
+    }
+
+    private void schedule(Long orderId, Duration delay) {
+        timeouts.put(orderId, expiryWheel.schedule(orderId, delay));
+    }
+
+    private void cancelExpiry(Long orderId) {
+        HashedTimingWheel.Timeout<Long> timeout = timeouts.remove(orderId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
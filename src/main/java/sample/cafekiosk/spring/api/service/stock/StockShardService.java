@@ -0,0 +1,68 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.api.service.stock.response.StockResponse;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+import sample.cafekiosk.spring.domain.stock.StockShards;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+public class StockShardService {
+
+    private final StockRepository stockRepository;
+    private final StockDeductionStrategies stockDeductionStrategies;
+
+    public StockResponse getStock(String productNumber) {
+        List<Stock> stocks = stockRepository.findAllByProductNumberIn(List.of(productNumber));
+        return StockResponse.of(StockShards.of(productNumber, stocks));
+    }
+
+    /**
+     * 상품의 재고를 bucketCount 개의 행으로 다시 나눈다.
+     * 모든 bucket 을 잠근 상태에서 전체 수량을 고르게 재분배하므로 주문을 받는 중에도 실행할 수 있다.
+     */
+    @Transactional
+    public StockResponse rebalance(String productNumber, int bucketCount) {
+        if (bucketCount < 1) {
+            throw new IllegalArgumentException("재고 bucket 수는 1 이상이어야 합니다.");
+        }
+        if (bucketCount > 1 && !stockDeductionStrategies.get().supportsShards()) {
+            throw new IllegalStateException("현재 재고 차감 방식은 재고 분할을 지원하지 않습니다.");
+        }
+
+        List<Stock> stocks = stockRepository.findAllForUpdateByProductNumberIn(List.of(productNumber));
+        if (stocks.isEmpty()) {
+            throw new IllegalArgumentException("재고가 없는 상품입니다.");
+        }
+        int total = StockShards.of(productNumber, stocks).getQuantity();
+
+        Map<Integer, Stock> stockByBucket = stocks.stream()
+                .collect(Collectors.toMap(Stock::getBucket, Function.identity()));
+
+        List<Stock> rebalanced = new ArrayList<>();
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            int quantity = StockShards.shareOf(total, bucketCount, bucket);
+            Stock stock = stockByBucket.remove(bucket);
+            if (stock == null) {
+                stock = stockRepository.save(Stock.createBucket(productNumber, bucket, quantity));
+            } else {
+                stock.changeQuantity(quantity);
+            }
+            rebalanced.add(stock);
+        }
+        // 줄어든 bucket 의 행은 삭제 (수량은 이미 남은 bucket 으로 옮겨졌다)
+        stockRepository.deleteAll(stockByBucket.values());
+
+        return StockResponse.of(StockShards.of(productNumber, rebalanced));
+    }
+}
@@ -0,0 +1,28 @@
+package sample.cafekiosk.spring.api.service.stock.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.stock.StockShards;
+
+@Getter
+public class StockResponse {
+
+    private String productNumber;
+    private int quantity;
+    private int bucketCount;
+
+    @Builder
+    private StockResponse(String productNumber, int quantity, int bucketCount) {
+        this.productNumber = productNumber;
+        this.quantity = quantity;
+        this.bucketCount = bucketCount;
+    }
+
+    public static StockResponse of(StockShards stock) {
+        return StockResponse.builder()
+                .productNumber(stock.getProductNumber())
+                .quantity(stock.getQuantity())
+                .bucketCount(stock.getBucketCount())
+                .build();
+    }
+}
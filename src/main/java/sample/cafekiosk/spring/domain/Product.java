@@ -8,11 +8,17 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(ProductChangeListener.class) // 상품 추가/변경/삭제 시 ProductChangedEvent 발행 (판매 상품 캐시 무효화)
+@Table(
+        uniqueConstraints = @UniqueConstraint(columnNames = "productNumber"),
+        indexes = @Index(columnList = "modifiedDateTime, id") // 변경분 동기화 keyset 조회
+)
 @Entity
 public class Product extends BaseEntity{ // 새로운 엔티티가 생길떄마다 BaseEntity 상속 받음
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
 
     private String productNumber;
@@ -35,4 +41,15 @@ public class Product extends BaseEntity{ // 새로운 엔티티가 생길떄마
         this.name = name;
         this.price = price;
     }
+
+    public void changePrice(int price) {
+        if (price <= 0) {
+            throw new IllegalArgumentException("상품 가격은 양수여야 합니다.");
+        }
+        this.price = price;
+    }
+
+    public void changeSellingStatus(ProductSellingStatus sellingStatus) {
+        this.sellingStatus = sellingStatus;
+    }
 }
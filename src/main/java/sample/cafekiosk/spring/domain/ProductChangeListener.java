@@ -0,0 +1,28 @@
+package sample.cafekiosk.spring.domain;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product 의 JPA 엔티티 리스너 (Hibernate 가 스프링 빈으로 생성한다)
+ *
+ * save 뿐 아니라 변경 감지로 update 되는 경우에도 ProductChangedEvent 를 발행한다.
+ * 벌크 쿼리(deleteAllInBatch 등)는 엔티티 리스너를 거치지 않는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Product product) {
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getProductNumber()));
+    }
+}
@@ -0,0 +1,14 @@
+package sample.cafekiosk.spring.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품이 추가/변경/삭제되었을 때 발행된다. (ProductChangeListener)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductChangedEvent {
+
+    private final String productNumber;
+}
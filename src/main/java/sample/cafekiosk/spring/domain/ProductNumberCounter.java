@@ -0,0 +1,46 @@
+package sample.cafekiosk.spring.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 번호 발급 카운터. 마지막으로 예약된 번호를 저장한다.
+ * 번호는 block 단위로 예약해 메모리에서 나눠준다. (ProductNumberAllocator)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class ProductNumberCounter {
+
+    public static final String PRODUCT_NUMBER = "product_number";
+
+    @Id
+    private String name;
+
+    private long lastValue;
+
+    private ProductNumberCounter(String name, long lastValue) {
+        this.name = name;
+        this.lastValue = lastValue;
+    }
+
+    public static ProductNumberCounter create(String name, long lastValue) {
+        return new ProductNumberCounter(name, lastValue);
+    }
+
+    /**
+     * count 개의 번호를 예약한다.
+     * @return 예약한 첫 번호 (lastValue + 1 부터 lastValue + count 까지)
+     */
+    public long reserve(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("예약할 번호 개수는 양수여야 합니다.");
+        }
+        long first = lastValue + 1;
+        lastValue += count;
+        return first;
+    }
+}
@@ -0,0 +1,20 @@
+package sample.cafekiosk.spring.domain;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ProductNumberCounterRepository extends JpaRepository<ProductNumberCounter, String> {
+
+    /**
+     * select ... from product_number_counter where name = ? for update
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from ProductNumberCounter c where c.name = :name")
+    Optional<ProductNumberCounter> findForUpdateByName(String name);
+}
@@ -1,10 +1,13 @@
 package sample.cafekiosk.spring.domain;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product,Long> {
@@ -19,6 +22,28 @@ public interface ProductRepository extends JpaRepository<Product,Long> {
 
     List<Product> findAllByProductNumberIn(List<String> productNumbers);
 
-    @Query(value = "select p.product_number from product p order by id desc limit 1", nativeQuery = true)
-    String findLatestProductNumber();
+    Optional<Product> findByProductNumber(String productNumber);
+
+    /**
+     * (modifiedDateTime, id) 가 (since, sinceId) 보다 뒤이고 until 이전에 변경된 상품 (변경 순 keyset)
+     */
+    @Query("select p from Product p " +
+            "where (p.modifiedDateTime > :since or (p.modifiedDateTime = :since and p.id > :sinceId)) " +
+            "and p.modifiedDateTime <= :until " +
+            "order by p.modifiedDateTime, p.id")
+    List<Product> findAllModifiedAfter(LocalDateTime since, Long sinceId, LocalDateTime until, Limit limit);
+
+    /**
+     * 가장 최근에 변경된 상품의 변경 시각, 상품이 없으면 null
+     */
+    @Query("select max(p.modifiedDateTime) from Product p")
+    LocalDateTime findMaxModifiedDateTime();
+
+    /**
+     * 숫자로만 이루어진 상품 번호 중 가장 큰 값 (ProductNumberAllocator 가 발급하는 번호)
+     * 다른 형식의 상품 번호(예: 벤치마크용 R001)는 숫자로 바꿀 수 없으므로 제외한다.
+     */
+    @Query(value = "select max(cast(p.product_number as bigint)) from product p " +
+            "where regexp_like(p.product_number, '^[0-9]+$')", nativeQuery = true)
+    Long findMaxProductNumber();
 }
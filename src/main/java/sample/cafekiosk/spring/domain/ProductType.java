@@ -3,21 +3,22 @@ package sample.cafekiosk.spring.domain;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-import java.util.List;
-
 @Getter
 @RequiredArgsConstructor
 public enum ProductType {
 
-    HANDMADE("제조 음료"),
+    HANDMADE("제조 음료", false),
 
-    BOTTLE("병 음료"),
+    BOTTLE("병 음료", true),
 
-    BAKERY("베이커리");
+    BAKERY("베이커리", true);
 
     private final String text;
 
+    // 재고를 관리하는 타입인지 (주문마다 호출되므로 리스트를 만들어 비교하지 않고 상수에 둔다)
+    private final boolean stockManaged;
+
     public static boolean containsStockType(ProductType type) {
-        return List.of(BOTTLE, BAKERY).contains(type);
+        return type != null && type.stockManaged;
     }
 }
@@ -4,6 +4,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,12 +18,14 @@ import sample.cafekiosk.spring.domain.BaseEntity;
 public class MailSendHistory extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mail_send_history_seq")
+    @SequenceGenerator(name = "mail_send_history_seq", sequenceName = "mail_send_history_seq", allocationSize = 50)
     private Long id;
 
     private String fromEmail;
     private String toEmail;
     private String subject;
+    @Lob // 매출 통계 메일은 시간대별/상품별 내역을 담으므로 varchar(255) 를 넘는다.
     private String content;
 
     @Builder
@@ -5,22 +5,27 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 import sample.cafekiosk.spring.domain.BaseEntity;
 import sample.cafekiosk.spring.domain.Product;
 import sample.cafekiosk.spring.domain.orderproduct.OrderProduct;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Getter
 @NoArgsConstructor(access =  AccessLevel.PROTECTED)
-@Table(name = "orders")
+@Table(name = "orders", indexes = @Index(columnList = "registeredDateTime, id")) // 기간 조회, keyset 페이지 조회
 @Entity
 public class Order extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50) // 50개씩 미리 받아두고 쓰므로 insert 전에 id 를 알 수 있어 batch insert 가 가능하다.
     private Long id;
 
     private OrderStatus orderStatus;
@@ -32,14 +37,34 @@ public class Order extends BaseEntity {
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL) // cascade : 생명주기 설정
     private List<OrderProduct> orderProducts;
 
+    // save 시점에 Spring Data 가 발행하고 비운다.
+    @Getter(AccessLevel.NONE)
+    @Transient
+    private final List<Object> domainEvents = new ArrayList<>();
+
+    /**
+     * 상품별 수량(productQuantities) 또는 상품 리스트(products)로 주문을 만든다.
+     * 상품 리스트에 같은 상품이 여러번 있으면 수량을 합쳐 한 줄(OrderProduct)로 만든다.
+     *
+     * 주문 줄과 총액은 반복문 하나에서 함께 만든다.
+     * 상품 리스트는 상품 배열과 수량 배열에 같은 상품을 합쳐 모은 뒤 줄을 만든다.
+     */
     @Builder
-    private Order(List<Product> products, OrderStatus orderStatus, LocalDateTime registeredDateTime) {
+    private Order(List<Product> products, Map<Product, Integer> productQuantities, OrderStatus orderStatus, LocalDateTime registeredDateTime) {
         this.orderStatus = orderStatus;
-        this.totalPrice = calculateTotalPrice(products);
         this.registeredDateTime = registeredDateTime;
-        this.orderProducts = products.stream()
-                .map(product -> new OrderProduct(this,product))
-                .collect(Collectors.toList());
+        if (productQuantities != null) {
+            this.orderProducts = new ArrayList<>(productQuantities.size());
+            int total = 0;
+            for (Map.Entry<Product, Integer> quantity : productQuantities.entrySet()) {
+                total = addLine(total, quantity.getKey(), quantity.getValue());
+            }
+            this.totalPrice = total;
+        } else {
+            this.orderProducts = new ArrayList<>(products.size());
+            this.totalPrice = addLines(products);
+        }
+        domainEvents.add(new OrderCreatedEvent(this, orderStatus));
     }
 
 
@@ -51,11 +76,75 @@ public class Order extends BaseEntity {
                 .build();
     }
 
+    public static Order create(Map<Product, Integer> productQuantities, LocalDateTime registeredDateTime){
+        return Order.builder()
+                .orderStatus(OrderStatus.INIT)
+                .productQuantities(productQuantities)
+                .registeredDateTime(registeredDateTime)
+                .build();
+    }
+
+
+    public void changeOrderStatus(OrderStatus orderStatus) {
+        if (!this.orderStatus.canChangeTo(orderStatus)) {
+            throw new IllegalArgumentException("변경할 수 없는 주문 상태입니다.");
+        }
+        OrderStatus previous = this.orderStatus;
+        this.orderStatus = orderStatus;
+        // 주문 줄은 트랜잭션 안에서 복사해 둔다. (커밋 후 리스너에서 지연 로딩하지 않도록)
+        domainEvents.add(new OrderStatusChangedEvent(id, previous, orderStatus, registeredDateTime, totalPrice, List.copyOf(orderProducts)));
+    }
+
+    @DomainEvents
+    Collection<Object> domainEvents() {
+        return List.copyOf(domainEvents);
+    }
+
+    @AfterDomainEventPublication
+    void clearDomainEvents() {
+        domainEvents.clear();
+    }
+
+    /**
+     * 총액에 주문 줄 금액(가격 × 수량)을 더한다. int 범위를 넘으면 음수로 저장되지 않도록 예외를 던진다.
+     */
+    private static int addLinePrice(int total, int price, int quantity) {
+        try {
+            return Math.addExact(total, Math.multiplyExact(price, quantity));
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("주문 총액이 허용 범위를 넘습니다.");
+        }
+    }
+
+    /**
+     * 상품 리스트를 상품별 수량으로 모아 주문 줄을 만들고 총액을 돌려준다. (상품이 처음 나온 순서)
+     * 같은 상품은 지금까지 모은 상품에서 순서대로 찾는다. 한 주문에 담기는 상품 수가 작다는 전제다.
+     */
+    private int addLines(List<Product> products) {
+        Product[] distinct = new Product[products.size()];
+        int[] counts = new int[products.size()];
+        int size = 0;
+        for (Product product : products) {
+            int slot = 0;
+            while (slot < size && !distinct[slot].equals(product)) {
+                slot++;
+            }
+            if (slot == size) {
+                distinct[size++] = product;
+            }
+            counts[slot]++;
+        }
+
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            total = addLine(total, distinct[i], counts[i]);
+        }
+        return total;
+    }
 
-    private int calculateTotalPrice(List<Product> products) {
-        return products.stream()
-                .mapToInt(Product::getPrice)
-                .sum();
+    private int addLine(int total, Product product, int quantity) {
+        this.orderProducts.add(new OrderProduct(this, product, quantity));
+        return addLinePrice(total, product.getPrice(), quantity);
     }
 
 
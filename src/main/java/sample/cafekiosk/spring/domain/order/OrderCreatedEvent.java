@@ -0,0 +1,16 @@
+package sample.cafekiosk.spring.domain.order;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문이 만들어졌을 때 Order 가 등록하는 도메인 이벤트 (처음 OrderRepository.save 할 때 발행)
+ * 같은 트랜잭션에서 상태가 더 바뀔 수 있으므로 만들어질 때의 상태(orderStatus)를 따로 담는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class OrderCreatedEvent {
+
+    private final Order order;
+    private final OrderStatus orderStatus;
+}
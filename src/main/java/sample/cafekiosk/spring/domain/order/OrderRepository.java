@@ -1,15 +1,74 @@
 package sample.cafekiosk.spring.domain.order;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    /**
+     * 스트림 조회에서 DB 로부터 한번에 가져오는 행 수
+     */
+    String STREAM_FETCH_SIZE = "1000";
+
     @Query("select o from Order o where o.registeredDateTime >= :startDateTime and o.registeredDateTime < :endDateTime " +
             "and o.orderStatus = :orderStatus")
     List<Order> findOrdersBy(LocalDateTime startDateTime,LocalDateTime endDateTime, OrderStatus orderStatus);
+
+    /**
+     * findOrdersBy 의 스트림 버전. 결과를 리스트로 모으지 않고 STREAM_FETCH_SIZE 행씩 가져오며 읽는다. (대량 내보내기)
+     * 읽기 전용 엔티티라 변경 감지용 snapshot 을 두지 않는다. 읽은 주문은 영속성 컨텍스트에 남으므로 소비하는 쪽에서 주기적으로 clear 한다.
+     * 트랜잭션 안에서 호출하고 다 읽으면 close 한다. (try-with-resources)
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select o from Order o where o.registeredDateTime >= :startDateTime and o.registeredDateTime < :endDateTime " +
+            "and (:orderStatus is null or o.orderStatus = :orderStatus) " +
+            "order by o.registeredDateTime, o.id")
+    Stream<Order> streamOrdersBy(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
+
+    /**
+     * 기간/상태별 주문 수와 매출을 시간대별로 합산한다. (엔티티를 읽지 않고 DB 에서 GROUP BY)
+     */
+    @Query("select extract(hour from o.registeredDateTime) as hour, count(o) as orderCount, sum(o.totalPrice) as revenue " +
+            "from Order o " +
+            "where o.registeredDateTime >= :startDateTime and o.registeredDateTime < :endDateTime " +
+            "and o.orderStatus in :orderStatuses " +
+            "group by extract(hour from o.registeredDateTime) " +
+            "order by extract(hour from o.registeredDateTime)")
+    List<OrderSalesByHourView> sumSalesByHour(LocalDateTime startDateTime, LocalDateTime endDateTime, List<OrderStatus> orderStatuses);
+
+    @Query("select distinct o from Order o left join fetch o.orderProducts where o.id = :id")
+    Optional<Order> findWithOrderProductsById(Long id);
+
+    /**
+     * (registeredDateTime, id) keyset 페이지 조회. cursor 다음 주문의 id 만 limit 개 가져온다.
+     * OFFSET 을 쓰지 않으므로 몇번째 페이지든 (registeredDateTime, id) 인덱스에서 바로 이어서 읽는다.
+     * orderStatus 가 null 이면 모든 상태를 조회한다.
+     */
+    @Query("select o.id from Order o " +
+            "where o.registeredDateTime >= :startDateTime and o.registeredDateTime < :endDateTime " +
+            "and (:orderStatus is null or o.orderStatus = :orderStatus) " +
+            "and (o.registeredDateTime > :cursorDateTime or (o.registeredDateTime = :cursorDateTime and o.id > :cursorId)) " +
+            "order by o.registeredDateTime, o.id")
+    List<Long> findIdsAfter(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus,
+                            LocalDateTime cursorDateTime, Long cursorId, Limit limit);
+
+    @Query("select distinct o from Order o left join fetch o.orderProducts where o.id in :ids " +
+            "order by o.registeredDateTime, o.id")
+    List<Order> findAllWithOrderProductsByIdIn(List<Long> ids);
 }
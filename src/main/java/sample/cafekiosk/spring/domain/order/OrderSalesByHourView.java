@@ -0,0 +1,13 @@
+package sample.cafekiosk.spring.domain.order;
+
+/**
+ * 시간대(0 ~ 23시)별 주문 수, 매출 합계 (GROUP BY 결과)
+ */
+public interface OrderSalesByHourView {
+
+    int getHour();
+
+    long getOrderCount();
+
+    long getRevenue();
+}
@@ -21,5 +21,19 @@ public enum OrderStatus {
     @Enumerated(EnumType.STRING)
     private final String text;
 
+    /**
+     * 주문 상태는 정해진 방향으로만 바뀐다.
+     * INIT -> PAYMENT_COMPLETED / PAYMENT_FAILED / CANCELED
+     * PAYMENT_COMPLETED -> RECEIVED / CANCELED
+     * RECEIVED -> COMPLETED
+     */
+    public boolean canChangeTo(OrderStatus orderStatus) {
+        return switch (this) {
+            case INIT -> orderStatus == PAYMENT_COMPLETED || orderStatus == PAYMENT_FAILED || orderStatus == CANCELED;
+            case PAYMENT_COMPLETED -> orderStatus == RECEIVED || orderStatus == CANCELED;
+            case RECEIVED -> orderStatus == COMPLETED;
+            default -> false;
+        };
+    }
 
 }
@@ -0,0 +1,24 @@
+package sample.cafekiosk.spring.domain.order;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProduct;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 상태가 바뀌었을 때 Order 가 등록하는 도메인 이벤트 (OrderRepository.save 시 발행)
+ * 커밋 후에 받는 쪽이 주문을 다시 읽지 않도록 주문 일시, 총액, 주문 줄을 함께 담는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class OrderStatusChangedEvent {
+
+    private final Long orderId;
+    private final OrderStatus previousStatus;
+    private final OrderStatus orderStatus;
+    private final LocalDateTime registeredDateTime;
+    private final int totalPrice;
+    private final List<OrderProduct> orderProducts;
+}
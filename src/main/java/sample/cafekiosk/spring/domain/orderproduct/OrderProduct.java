@@ -7,14 +7,20 @@ import lombok.NoArgsConstructor;
 import sample.cafekiosk.spring.domain.BaseEntity;
 import sample.cafekiosk.spring.domain.order.Order;
 import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.ProductType;
 
+/**
+ * 주문 줄. 주문 시점의 상품 번호/이름/타입/가격을 그대로 복사해 둔다. (snapshot)
+ * 주문 조회/통계는 snapshot 만 읽으므로 Product 를 로딩하지 않고, 이후 상품 가격이 바뀌어도 지난 주문은 그대로다.
+ */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 public class OrderProduct extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_product_seq")
+    @SequenceGenerator(name = "order_product_seq", sequenceName = "order_product_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY) // 지연로딩
@@ -23,8 +29,24 @@ public class OrderProduct extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     private Product product;
 
-    public OrderProduct(Order order, Product product) {
+    private String productNumber;
+
+    private String productName;
+
+    @Enumerated(EnumType.STRING)
+    private ProductType productType;
+
+    private int productPrice;
+
+    private int quantity;
+
+    public OrderProduct(Order order, Product product, int quantity) {
         this.order = order;
         this.product = product;
+        this.productNumber = product.getProductNumber();
+        this.productName = product.getName();
+        this.productType = product.getType();
+        this.productPrice = product.getPrice();
+        this.quantity = quantity;
     }
 }
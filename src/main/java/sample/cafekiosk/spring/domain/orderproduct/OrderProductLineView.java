@@ -0,0 +1,21 @@
+package sample.cafekiosk.spring.domain.orderproduct;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 줄 한 행과 그 주문의 id/주문 일시/총액 (스트림 조회 결과)
+ */
+public interface OrderProductLineView {
+
+    Long getOrderId();
+
+    LocalDateTime getRegisteredDateTime();
+
+    int getTotalPrice();
+
+    String getProductNumber();
+
+    int getQuantity();
+
+    int getProductPrice();
+}
@@ -1,8 +1,45 @@
 package sample.cafekiosk.spring.domain.orderproduct;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface OrderProductRepository extends JpaRepository<OrderProduct, Long> {
+
+    /**
+     * 기간/상태별 주문의 판매 수량과 매출을 상품별로 합산한다. (주문 시점의 상품 가격 snapshot 기준)
+     */
+    @Query("select op.productNumber as productNumber, sum(op.quantity) as quantity, " +
+            "sum(op.productPrice * op.quantity) as revenue " +
+            "from OrderProduct op join op.order o " +
+            "where o.registeredDateTime >= :startDateTime and o.registeredDateTime < :endDateTime " +
+            "and o.orderStatus in :orderStatuses " +
+            "group by op.productNumber " +
+            "order by op.productNumber")
+    List<OrderProductSalesView> sumSalesByProduct(LocalDateTime startDateTime, LocalDateTime endDateTime, List<OrderStatus> orderStatuses);
+
+    /**
+     * 기간/상태별 주문의 주문 줄을 주문 정보와 함께 한 행씩 스트림으로 읽는다. (주문 순서, 매출 집계 재계산)
+     * 엔티티가 아닌 projection 이라 영속성 컨텍스트에 쌓이지 않으므로 하루치 주문이 많아도 메모리가 일정하다.
+     * 트랜잭션 안에서 호출하고 다 읽으면 close 한다.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = OrderRepository.STREAM_FETCH_SIZE))
+    @Query("select o.id as orderId, o.registeredDateTime as registeredDateTime, o.totalPrice as totalPrice, " +
+            "op.productNumber as productNumber, op.quantity as quantity, op.productPrice as productPrice " +
+            "from OrderProduct op join op.order o " +
+            "where o.registeredDateTime >= :startDateTime and o.registeredDateTime < :endDateTime " +
+            "and o.orderStatus = :orderStatus " +
+            "order by o.registeredDateTime, o.id")
+    Stream<OrderProductLineView> streamLinesBy(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
 }
@@ -0,0 +1,13 @@
+package sample.cafekiosk.spring.domain.orderproduct;
+
+/**
+ * 상품별 판매 수량, 매출 합계 (GROUP BY 결과)
+ */
+public interface OrderProductSalesView {
+
+    String getProductNumber();
+
+    long getQuantity();
+
+    long getRevenue();
+}
@@ -0,0 +1,50 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.BaseEntity;
+
+import java.time.LocalDate;
+
+/**
+ * 시간대별 매출 집계 (결제완료 주문 수, 매출)
+ *
+ * 주문 등록 시각 기준으로 집계하고, 주문이 결제완료가 되거나 결제완료에서 벗어날 때 더하고 뺀다. (SalesAggregateService)
+ * 하루 매출은 그 날의 시간대 행(최대 24개)을 합쳐서 읽는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"salesDate", "salesHour"}))
+@Entity
+public class HourlySales extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hourly_sales_seq")
+    @SequenceGenerator(name = "hourly_sales_seq", sequenceName = "hourly_sales_seq", allocationSize = 50)
+    private Long id;
+
+    private LocalDate salesDate;
+
+    private int salesHour;
+
+    private long orderCount;
+
+    private long revenue;
+
+    @Builder
+    private HourlySales(LocalDate salesDate, int salesHour, long orderCount, long revenue) {
+        this.salesDate = salesDate;
+        this.salesHour = salesHour;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+    }
+}
@@ -0,0 +1,39 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface HourlySalesRepository extends JpaRepository<HourlySales, Long> {
+
+    List<HourlySales> findAllBySalesDateOrderBySalesHour(LocalDate salesDate);
+
+    /**
+     * 집계 행에 주문 수와 매출을 더한다. (조건부 UPDATE, 행이 없으면 0 을 반환)
+     */
+    @Modifying
+    @Query("update HourlySales s set s.orderCount = s.orderCount + :orderCount, s.revenue = s.revenue + :revenue " +
+            "where s.salesDate = :salesDate and s.salesHour = :salesHour")
+    int add(LocalDate salesDate, int salesHour, long orderCount, long revenue);
+
+    /**
+     * 집계 행이 없으면 0건, 0원인 행을 만든다. (이미 있으면 그대로 둔다)
+     * 호출한 트랜잭션 안에서 실행된다. id 는 엔티티와 같은 sequence 에서 받는다.
+     */
+    @Modifying
+    @Query(value = "merge into hourly_sales s " +
+            "using (select cast(:salesDate as date) as sales_date, cast(:salesHour as int) as sales_hour) v " +
+            "on s.sales_date = v.sales_date and s.sales_hour = v.sales_hour " +
+            "when not matched then insert (id, sales_date, sales_hour, order_count, revenue, create_date_time, modified_date_time) " +
+            "values (next value for hourly_sales_seq, v.sales_date, v.sales_hour, 0, 0, localtimestamp, localtimestamp)", nativeQuery = true)
+    int createIfAbsent(LocalDate salesDate, int salesHour);
+
+    @Modifying
+    @Query("delete from HourlySales s where s.salesDate = :salesDate")
+    int deleteAllBySalesDate(LocalDate salesDate);
+}
@@ -0,0 +1,47 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.BaseEntity;
+
+import java.time.LocalDate;
+
+/**
+ * 상품별 일 매출 집계 (결제완료 주문의 판매 수량, 매출)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"salesDate", "productNumber"}))
+@Entity
+public class ProductDailySales extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_daily_sales_seq")
+    @SequenceGenerator(name = "product_daily_sales_seq", sequenceName = "product_daily_sales_seq", allocationSize = 50)
+    private Long id;
+
+    private LocalDate salesDate;
+
+    private String productNumber;
+
+    private long quantity;
+
+    private long revenue;
+
+    @Builder
+    private ProductDailySales(LocalDate salesDate, String productNumber, long quantity, long revenue) {
+        this.salesDate = salesDate;
+        this.productNumber = productNumber;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+}
@@ -0,0 +1,39 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ProductDailySalesRepository extends JpaRepository<ProductDailySales, Long> {
+
+    List<ProductDailySales> findAllBySalesDateOrderByProductNumber(LocalDate salesDate);
+
+    /**
+     * 집계 행에 판매 수량과 매출을 더한다. (조건부 UPDATE, 행이 없으면 0 을 반환)
+     */
+    @Modifying
+    @Query("update ProductDailySales s set s.quantity = s.quantity + :quantity, s.revenue = s.revenue + :revenue " +
+            "where s.salesDate = :salesDate and s.productNumber = :productNumber")
+    int add(LocalDate salesDate, String productNumber, long quantity, long revenue);
+
+    /**
+     * 집계 행이 없으면 0개, 0원인 행을 만든다. (이미 있으면 그대로 둔다)
+     * 호출한 트랜잭션 안에서 실행된다. id 는 엔티티와 같은 sequence 에서 받는다.
+     */
+    @Modifying
+    @Query(value = "merge into product_daily_sales s " +
+            "using (select cast(:salesDate as date) as sales_date, cast(:productNumber as varchar) as product_number) v " +
+            "on s.sales_date = v.sales_date and s.product_number = v.product_number " +
+            "when not matched then insert (id, sales_date, product_number, quantity, revenue, create_date_time, modified_date_time) " +
+            "values (next value for product_daily_sales_seq, v.sales_date, v.product_number, 0, 0, localtimestamp, localtimestamp)", nativeQuery = true)
+    int createIfAbsent(LocalDate salesDate, String productNumber);
+
+    @Modifying
+    @Query("delete from ProductDailySales s where s.salesDate = :salesDate")
+    int deleteAllBySalesDate(LocalDate salesDate);
+}
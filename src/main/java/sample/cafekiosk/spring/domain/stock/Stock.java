@@ -4,34 +4,57 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import sample.cafekiosk.spring.domain.BaseEntity;
 
+/**
+ * 상품의 재고는 여러 행(bucket)으로 나눠 저장할 수 있다. (인기 상품의 행 잠금 경합 분산)
+ * 나누지 않은 상품은 0번 bucket 하나만 가진다. 상품 전체 재고는 StockShards 로 읽는다.
+ */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"productNumber", "bucket"}))
 @Entity
 public class Stock extends BaseEntity {
 
+    public static final int DEFAULT_BUCKET = 0;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_seq")
+    @SequenceGenerator(name = "stock_seq", sequenceName = "stock_seq", allocationSize = 50)
     private Long id;
 
     public String productNumber;
 
+    private int bucket;
+
     private int quantity;
 
+    @Version // 낙관적 락, 조건부 UPDATE 로 차감할 때도 함께 증가시킨다.
+    private Long version;
+
     @Builder
-    public Stock(String productNumber, int quantity) {
+    public Stock(String productNumber, int bucket, int quantity) {
         this.productNumber = productNumber;
+        this.bucket = bucket;
         this.quantity = quantity;
     }
 
     public static Stock create(String productNumber, int quantity) {
+        return createBucket(productNumber, DEFAULT_BUCKET, quantity);
+    }
+
+    public static Stock createBucket(String productNumber, int bucket, int quantity) {
         return Stock.builder()
                 .productNumber(productNumber)
+                .bucket(bucket)
                 .quantity(quantity)
                 .build();
     }
@@ -51,4 +74,11 @@ public class Stock extends BaseEntity {
         }
         this.quantity-=quantity;
     }
+
+    /**
+     * bucket 재분배 시에만 사용한다.
+     */
+    public void changeQuantity(int quantity) {
+        this.quantity = quantity;
+    }
 }
@@ -0,0 +1,13 @@
+package sample.cafekiosk.spring.domain.stock;
+
+/**
+ * 영속성 컨텍스트에 올리지 않고 읽는 재고 bucket 의 수량/버전
+ */
+public interface StockQuantityView {
+
+    int getBucket();
+
+    int getQuantity();
+
+    Long getVersion();
+}
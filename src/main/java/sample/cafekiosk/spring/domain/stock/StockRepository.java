@@ -1,14 +1,55 @@
 package sample.cafekiosk.spring.domain.stock;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface StockRepository extends JpaRepository<Stock, Long> {
 
     List<Stock> findAllByProductNumberIn(List<String> productNumbers);
 
+    List<Stock> findAllByProductNumberInAndBucket(List<String> productNumbers, int bucket);
 
+    /**
+     * select ... from stock where product_number in (...) order by product_number, bucket for update
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Stock s where s.productNumber in :productNumbers order by s.productNumber, s.bucket")
+    List<Stock> findAllForUpdateByProductNumberIn(List<String> productNumbers);
+
+    /**
+     * 여러 bucket 으로 나뉜 재고의 전체 수량
+     */
+    @Query("select coalesce(sum(s.quantity), 0) from Stock s where s.productNumber = :productNumber")
+    long sumQuantityByProductNumber(String productNumber);
+
+    @Query("select s.bucket as bucket, s.quantity as quantity, s.version as version from Stock s " +
+            "where s.productNumber = :productNumber order by s.bucket")
+    List<StockQuantityView> findQuantityViewsByProductNumber(String productNumber);
+
+    @Query("select s.bucket as bucket, s.quantity as quantity, s.version as version from Stock s " +
+            "where s.productNumber = :productNumber and s.bucket = :bucket")
+    Optional<StockQuantityView> findQuantityView(String productNumber, int bucket);
+
+    @Modifying
+    @Query("update Stock s set s.quantity = s.quantity - :quantity, s.version = s.version + 1 " +
+            "where s.productNumber = :productNumber and s.bucket = :bucket and s.version = :version and s.quantity >= :quantity")
+    int deductQuantityIfVersionMatches(String productNumber, int bucket, int quantity, Long version);
+
+    @Modifying
+    @Query("update Stock s set s.quantity = s.quantity - :quantity, s.version = s.version + 1 " +
+            "where s.productNumber = :productNumber and s.bucket = :bucket and s.quantity >= :quantity")
+    int deductQuantityIfEnough(String productNumber, int bucket, int quantity);
+
+    @Modifying
+    @Query("update Stock s set s.quantity = s.quantity + :quantity, s.version = s.version + 1 " +
+            "where s.productNumber = :productNumber and s.bucket = :bucket")
+    int increaseQuantity(String productNumber, int bucket, int quantity);
 }
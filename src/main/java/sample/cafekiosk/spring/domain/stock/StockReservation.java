@@ -0,0 +1,70 @@
+package sample.cafekiosk.spring.domain.stock;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 생성(INIT) 시 차감한 재고의 예약
+ *
+ * 결제 완료 시 확정되고, 결제 실패/주문 취소 시 해제되며 재고가 되돌아간다.
+ * 만료 시각까지 결정되지 않으면 만료되어 재고가 되돌아간다.
+ * 상태 변경은 조건부 UPDATE 로만 하므로 확정/해제/만료 중 하나만 성공한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(columnList = "orderId"),
+        @Index(columnList = "status")
+})
+@Entity
+public class StockReservation extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_reservation_seq")
+    @SequenceGenerator(name = "stock_reservation_seq", sequenceName = "stock_reservation_seq", allocationSize = 50)
+    private Long id;
+
+    private Long orderId;
+
+    private String productNumber;
+
+    private int quantity;
+
+    @Enumerated(EnumType.STRING)
+    private StockReservationStatus status;
+
+    private LocalDateTime expiredDateTime;
+
+    @Builder
+    private StockReservation(Long orderId, String productNumber, int quantity, StockReservationStatus status, LocalDateTime expiredDateTime) {
+        this.orderId = orderId;
+        this.productNumber = productNumber;
+        this.quantity = quantity;
+        this.status = status;
+        this.expiredDateTime = expiredDateTime;
+    }
+
+    public static StockReservation hold(Long orderId, String productNumber, int quantity, LocalDateTime expiredDateTime) {
+        return StockReservation.builder()
+                .orderId(orderId)
+                .productNumber(productNumber)
+                .quantity(quantity)
+                .status(StockReservationStatus.HELD)
+                .expiredDateTime(expiredDateTime)
+                .build();
+    }
+}
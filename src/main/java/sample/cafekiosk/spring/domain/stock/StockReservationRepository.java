@@ -0,0 +1,25 @@
+package sample.cafekiosk.spring.domain.stock;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    List<StockReservation> findAllByOrderId(Long orderId);
+
+    List<StockReservation> findAllByStatus(StockReservationStatus status);
+
+    /**
+     * 주문의 예약 중 statuses 상태인 것만 status 로 바꾼다.
+     * 바뀐 행이 없으면 다른 쪽(확정/해제/만료)이 먼저 처리한 것이다.
+     */
+    @Modifying
+    @Query("update StockReservation r set r.status = :status " +
+            "where r.orderId = :orderId and r.status in :statuses")
+    int changeStatus(Long orderId, List<StockReservationStatus> statuses, StockReservationStatus status);
+}
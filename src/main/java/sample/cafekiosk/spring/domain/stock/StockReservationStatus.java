@@ -0,0 +1,25 @@
+package sample.cafekiosk.spring.domain.stock;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public enum StockReservationStatus {
+
+    HELD("예약중"),
+    CONFIRMED("예약확정"),
+    RELEASED("예약해제"),
+    EXPIRED("예약만료");
+
+    private final String text;
+
+    /**
+     * 해제 시 재고를 되돌려야 하는 상태 (결제 후 취소도 재고를 되돌린다)
+     */
+    public static List<StockReservationStatus> forRelease() {
+        return List.of(HELD, CONFIRMED);
+    }
+}
@@ -0,0 +1,76 @@
+package sample.cafekiosk.spring.domain.stock;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 한 상품의 재고 bucket 들을 묶어서 하나의 재고처럼 다룬다.
+ */
+public class StockShards {
+
+    private final String productNumber;
+    private final List<Stock> buckets;
+
+    private StockShards(String productNumber, List<Stock> buckets) {
+        this.productNumber = productNumber;
+        this.buckets = buckets;
+    }
+
+    public static StockShards of(String productNumber, List<Stock> stocks) {
+        List<Stock> buckets = stocks.stream()
+                .filter(stock -> stock.getProductNumber().equals(productNumber))
+                .sorted(Comparator.comparingInt(Stock::getBucket))
+                .toList();
+        return new StockShards(productNumber, buckets);
+    }
+
+    /**
+     * total 을 bucketCount 개로 나눌 때 bucket 번째 몫 (앞쪽 bucket 이 나머지를 하나씩 더 가진다)
+     */
+    public static int shareOf(int total, int bucketCount, int bucket) {
+        return total / bucketCount + (bucket < total % bucketCount ? 1 : 0);
+    }
+
+    public String getProductNumber() {
+        return productNumber;
+    }
+
+    public List<Stock> getBuckets() {
+        return buckets;
+    }
+
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    public int getQuantity() {
+        return buckets.stream()
+                .mapToInt(Stock::getQuantity)
+                .sum();
+    }
+
+    public boolean isQuantityLessThan(int quantity) {
+        return getQuantity() < quantity;
+    }
+
+    /**
+     * 전체 재고가 충분하면 앞쪽 bucket 부터 비워가며 차감한다.
+     */
+    public void deductQuantity(int quantity) {
+        if (isQuantityLessThan(quantity)) {
+            throw new IllegalArgumentException("차감할 재고 수량이 없습니다.");
+        }
+
+        int remaining = quantity;
+        for (Stock bucket : buckets) {
+            int deduction = Math.min(bucket.getQuantity(), remaining);
+            if (deduction > 0) {
+                bucket.deductQuantity(deduction);
+                remaining -= deduction;
+            }
+            if (remaining == 0) {
+                return;
+            }
+        }
+    }
+}
@@ -1,4 +1,4 @@
-insert into product(product_number, type, selling_status, name, price)
-values ('001', 'HANDMADE', 'SELLING', '아메리카노', 4000),
-       ('002', 'HANDMADE', 'HOLD', '카페라떼', 4500),
-       ('003', 'BAKERY', 'STOP_SELLING', '크루아상', 3500);
\ No newline at end of file
+insert into product(id, product_number, type, selling_status, name, price, create_date_time, modified_date_time)
+values (next value for product_seq, '001', 'HANDMADE', 'SELLING', '아메리카노', 4000, now(), now()),
+       (next value for product_seq, '002', 'HANDMADE', 'HOLD', '카페라떼', 4500, now(), now()),
+       (next value for product_seq, '003', 'BAKERY', 'STOP_SELLING', '크루아상', 3500, now(), now());
\ No newline at end of file
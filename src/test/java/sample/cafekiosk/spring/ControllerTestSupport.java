@@ -7,12 +7,23 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 import sample.cafekiosk.spring.api.controller.order.OrderController;
 import sample.cafekiosk.spring.api.controller.product.ProductController;
+import sample.cafekiosk.spring.api.controller.sales.SalesController;
+import sample.cafekiosk.spring.api.controller.stock.StockController;
+import sample.cafekiosk.spring.api.service.order.OrderExportService;
 import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.product.ProductImportService;
 import sample.cafekiosk.spring.api.service.product.ProductService;
+import sample.cafekiosk.spring.api.service.sales.SalesAggregateService;
+import sample.cafekiosk.spring.api.service.sales.SalesCubeService;
+import sample.cafekiosk.spring.api.service.sales.SalesRangeReportService;
+import sample.cafekiosk.spring.api.service.sales.SalesReportService;
+import sample.cafekiosk.spring.api.service.stock.StockShardService;
 
 @WebMvcTest(controllers = {
         OrderController.class,
-        ProductController.class
+        ProductController.class,
+        SalesController.class,
+        StockController.class
 })
 public abstract class ControllerTestSupport {
 
@@ -25,7 +36,28 @@ public abstract class ControllerTestSupport {
     @MockBean
     protected OrderService orderService;
 
+    @MockBean
+    protected OrderExportService orderExportService;
+
     @MockBean
     protected ProductService productService;
 
+    @MockBean
+    protected ProductImportService productImportService;
+
+    @MockBean
+    protected SalesAggregateService salesAggregateService;
+
+    @MockBean
+    protected SalesReportService salesReportService;
+
+    @MockBean
+    protected SalesRangeReportService salesRangeReportService;
+
+    @MockBean
+    protected SalesCubeService salesCubeService;
+
+    @MockBean
+    protected StockShardService stockShardService;
+
 }
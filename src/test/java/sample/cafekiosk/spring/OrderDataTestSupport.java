@@ -0,0 +1,77 @@
+package sample.cafekiosk.spring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.ProductRepository;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.sales.HourlySalesRepository;
+import sample.cafekiosk.spring.domain.sales.ProductDailySalesRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static sample.cafekiosk.spring.domain.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.ProductType.HANDMADE;
+
+/**
+ * 상품과 주문을 저장해두고 읽는 쪽(매출 집계/보고서, 주문 내보내기)을 검증하는 테스트의 공통 데이터
+ * 테스트가 끝나면 주문 줄, 상품, 주문과 결제완료 주문이 더해진 매출 집계를 지운다.
+ */
+public abstract class OrderDataTestSupport extends IntegrationTestSupport {
+
+    @Autowired
+    protected ProductRepository productRepository;
+
+    @Autowired
+    protected OrderRepository orderRepository;
+
+    @Autowired
+    protected OrderProductRepository orderProductRepository;
+
+    @Autowired
+    protected HourlySalesRepository hourlySalesRepository;
+
+    @Autowired
+    protected ProductDailySalesRepository productDailySalesRepository;
+
+    @AfterEach
+    void deleteOrderData() {
+        orderProductRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        hourlySalesRepository.deleteAllInBatch();
+        productDailySalesRepository.deleteAllInBatch();
+    }
+
+    /**
+     * 001(1000원), 002(2000원) 두 상품을 저장한다.
+     */
+    protected List<Product> createProducts() {
+        return productRepository.saveAll(List.of(
+                createProduct("001", 1000),
+                createProduct("002", 2000)
+        ));
+    }
+
+    protected Order createOrder(List<Product> products, LocalDateTime registeredDateTime, OrderStatus orderStatus) {
+        return orderRepository.save(Order.builder()
+                .products(products)
+                .orderStatus(orderStatus)
+                .registeredDateTime(registeredDateTime)
+                .build());
+    }
+
+    private Product createProduct(String productNumber, int price) {
+        return Product.builder()
+                .type(HANDMADE)
+                .productNumber(productNumber)
+                .price(price)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .build();
+    }
+}
@@ -6,20 +6,34 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import sample.cafekiosk.spring.ControllerTestSupport;
+import sample.cafekiosk.spring.api.controller.order.request.OrderBatchCreateRequest;
 import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.controller.order.request.OrderLineRequest;
+import sample.cafekiosk.spring.api.controller.order.request.OrderStatusChangeRequest;
 import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
 import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.response.OrderCreateResult;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
 import sample.cafekiosk.spring.domain.ProductSellingStatus;
 import sample.cafekiosk.spring.domain.ProductType;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -80,5 +94,355 @@ class OrderControllerTest extends ControllerTestSupport {
         ; // 검증
     }
 
+    @DisplayName("상품번호와 수량으로 된 주문 줄로 신규 주문을 등록한다.")
+    @Test
+    void createOrderWithOrderLines() throws Exception{
+        //given
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .orderLines(List.of(OrderLineRequest.builder().productNumber("003").quantity(5).build()))
+                .build();
+
+        //when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/new")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.status").value("OK"))
+                .andExpect(jsonPath("$.message").value("OK"))
+        ;
+    }
+
+    @DisplayName("신규 주문을 등록할 때 주문 줄의 수량은 양수여야 한다.")
+    @Test
+    void createOrderWithZeroQuantity() throws Exception{
+        //given
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .orderLines(List.of(OrderLineRequest.builder().productNumber("003").quantity(0).build()))
+                .build();
+
+        //when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/new")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$.message").value("주문 수량은 양수여야 합니다."))
+                .andExpect(jsonPath("$.data").isEmpty())
+        ;
+    }
+
+    @DisplayName("신규 주문을 등록할 때 주문 줄의 수량은 10000개 이하여야 한다.")
+    @Test
+    void createOrderWithTooLargeQuantity() throws Exception{
+        //given
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .orderLines(List.of(OrderLineRequest.builder().productNumber("003").quantity(600000).build()))
+                .build();
+
+        //when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/new")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$.message").value("주문 수량은 10000개 이하여야 합니다."))
+                .andExpect(jsonPath("$.data").isEmpty())
+        ;
+    }
+
+    @DisplayName("신규 주문을 등록할 때 주문 줄은 100개 이하여야 한다.")
+    @Test
+    void createOrderWithTooManyOrderLines() throws Exception{
+        //given
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .orderLines(IntStream.range(0, 101)
+                        .mapToObj(i -> OrderLineRequest.builder().productNumber("003").quantity(1).build())
+                        .toList())
+                .build();
+
+        //when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/new")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$.message").value("한 주문의 주문 줄은 100개 이하입니다."))
+                .andExpect(jsonPath("$.data").isEmpty())
+        ;
+    }
+
+    @DisplayName("주문 상태를 변경한다.")
+    @Test
+    void changeOrderStatus() throws Exception{
+        //given
+        OrderStatusChangeRequest request = OrderStatusChangeRequest.builder()
+                .orderStatus(OrderStatus.PAYMENT_COMPLETED)
+                .build();
+
+        //when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/1/status")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.status").value("OK"))
+                .andExpect(jsonPath("$.message").value("OK"))
+        ;
+    }
+
+    @DisplayName("주문 상태를 변경할 때 주문 상태는 필수값이다.")
+    @Test
+    void changeOrderStatusWithoutOrderStatus() throws Exception{
+        //given
+        OrderStatusChangeRequest request = OrderStatusChangeRequest.builder()
+                .build();
+
+        //when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/1/status")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$.message").value("주문 상태는 필수입니다."))
+                .andExpect(jsonPath("$.data").isEmpty())
+        ;
+    }
+
+    @DisplayName("여러 주문을 한번에 등록한다.")
+    @Test
+    void createOrders() throws Exception{
+        //given
+        OrderBatchCreateRequest request = OrderBatchCreateRequest.builder()
+                .orders(List.of(
+                        OrderCreateRequest.builder().productNumbers(List.of("001")).build(),
+                        OrderCreateRequest.builder().productNumbers(List.of("002")).build()
+                ))
+                .build();
+        given(orderService.createOrders(argThat(requests -> requests.size() == 2), any()))
+                .willReturn(List.of(
+                        OrderCreateResult.success(OrderResponse.builder().id(1L).build()),
+                        OrderCreateResult.success(OrderResponse.builder().id(2L).build())
+                ));
+
+        //when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/batch")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.status").value("OK"))
+                .andExpect(jsonPath("$.message").value("OK"))
+                .andExpect(jsonPath("$.data[0].success").value(true))
+                .andExpect(jsonPath("$.data[1].success").value(true))
+        ;
+    }
+
+    @DisplayName("여러 주문을 한번에 등록할 때 상품번호가 없는 주문만 실패하고 나머지 주문은 등록된다.")
+    @Test
+    void createOrdersWithEmptyProductNumbers() throws Exception{
+        //given
+        OrderBatchCreateRequest request = OrderBatchCreateRequest.builder()
+                .orders(List.of(
+                        OrderCreateRequest.builder().productNumbers(List.of("001")).build(),
+                        OrderCreateRequest.builder().productNumbers(List.of()).build()
+                ))
+                .build();
+        given(orderService.createOrders(argThat(requests -> requests.size() == 1), any()))
+                .willReturn(List.of(OrderCreateResult.success(OrderResponse.builder().id(1L).build())));
+
+        //when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/batch")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.data[0].success").value(true))
+                .andExpect(jsonPath("$.data[0].order.id").value(1))
+                .andExpect(jsonPath("$.data[1].success").value(false))
+                .andExpect(jsonPath("$.data[1].errorMessage").value("상품 번호 리스트는 필수입니다."))
+        ;
+    }
+
+    @DisplayName("여러 주문을 한번에 등록할 때 검증에 실패한 주문과 재고가 부족한 주문만 실패하고 결과는 요청 순서대로 돌려준다.")
+    @Test
+    void createOrdersWithMixedOrders() throws Exception{
+        //given
+        OrderBatchCreateRequest request = OrderBatchCreateRequest.builder()
+                .orders(List.of(
+                        OrderCreateRequest.builder().productNumbers(List.of("001")).build(),
+                        OrderCreateRequest.builder()
+                                .orderLines(List.of(OrderLineRequest.builder().productNumber("001").quantity(10001).build()))
+                                .build(),
+                        OrderCreateRequest.builder().productNumbers(List.of("002")).build()
+                ))
+                .build();
+        given(orderService.createOrders(argThat(requests -> requests.size() == 2), any()))
+                .willReturn(List.of(
+                        OrderCreateResult.success(OrderResponse.builder().id(1L).build()),
+                        OrderCreateResult.failure("재고가 부족한 상품이 있습니다.")
+                ));
+
+        //when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/batch")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].success").value(true))
+                .andExpect(jsonPath("$.data[0].order.id").value(1))
+                .andExpect(jsonPath("$.data[1].success").value(false))
+                .andExpect(jsonPath("$.data[1].errorMessage").value("주문 수량은 10000개 이하여야 합니다."))
+                .andExpect(jsonPath("$.data[2].success").value(false))
+                .andExpect(jsonPath("$.data[2].errorMessage").value("재고가 부족한 상품이 있습니다."))
+        ;
+    }
+
+    @DisplayName("여러 주문을 한번에 등록할 때 비어있는(null) 주문이 있으면 안 된다.")
+    @Test
+    void createOrdersWithNullOrder() throws Exception{
+        //when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/batch")
+                                .content("{\"orders\":[{\"productNumbers\":[\"001\"]},null]}")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$.message").value("비어있는 주문이 있습니다."))
+                .andExpect(jsonPath("$.data").isEmpty())
+        ;
+    }
 
-}
\ No newline at end of file
+    @DisplayName("주문 목록을 조회한다.")
+    @Test
+    void getOrders() throws Exception{
+        //when // then
+        mockMvc.perform(
+                        get("/api/v1/orders")
+                                .param("from", "2024-03-01T00:00:00")
+                                .param("to", "2024-03-02T00:00:00")
+                                .param("status", "PAYMENT_COMPLETED")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.status").value("OK"))
+                .andExpect(jsonPath("$.message").value("OK"))
+        ;
+    }
+
+    @DisplayName("주문 목록을 조회할 때 조회 시작 일시는 필수값이다.")
+    @Test
+    void getOrdersWithoutFrom() throws Exception{
+        //when // then
+        mockMvc.perform(
+                        get("/api/v1/orders")
+                                .param("to", "2024-03-02T00:00:00")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$.message").value("조회 시작 일시는 필수입니다."))
+                .andExpect(jsonPath("$.data").isEmpty())
+        ;
+    }
+
+    @DisplayName("기간별 주문을 CSV 로 내보낸다.")
+    @Test
+    void exportOrders() throws Exception{
+        //when // then
+        mockMvc.perform(
+                        get("/api/v1/orders/export")
+                                .param("from", "2024-03-01T00:00:00")
+                                .param("to", "2024-03-02T00:00:00")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders.csv\""))
+        ;
+    }
+
+    @DisplayName("주문을 내보낼 때 조회 종료 일시는 필수값이다.")
+    @Test
+    void exportOrdersWithoutTo() throws Exception{
+        //when // then
+        mockMvc.perform(
+                        get("/api/v1/orders/export")
+                                .param("from", "2024-03-01T00:00:00")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("조회 종료 일시는 필수입니다."))
+        ;
+    }
+
+    @DisplayName("주문을 내보낼 때 조회 종료 일시는 시작 일시 이후여야 한다.")
+    @Test
+    void exportOrdersWithReversedRange() throws Exception{
+        //when // then
+        mockMvc.perform(
+                        get("/api/v1/orders/export")
+                                .param("from", "2024-03-02T00:00:00")
+                                .param("to", "2024-03-01T00:00:00")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("조회 종료 일시는 시작 일시 이후여야 합니다."))
+        ;
+    }
+
+    @DisplayName("주문을 내보낼 때 조회 기간은 366일 이하여야 한다.")
+    @Test
+    void exportOrdersWithTooLongRange() throws Exception{
+        //when // then
+        mockMvc.perform(
+                        get("/api/v1/orders/export")
+                                .param("from", "2023-01-01T00:00:00")
+                                .param("to", "2024-01-02T00:00:01")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("조회 기간은 366일 이하여야 합니다."))
+        ;
+    }
+}
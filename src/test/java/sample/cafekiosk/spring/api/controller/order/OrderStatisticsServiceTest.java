@@ -18,6 +18,8 @@ import sample.cafekiosk.spring.domain.order.Order;
 import sample.cafekiosk.spring.domain.order.OrderRepository;
 import sample.cafekiosk.spring.domain.order.OrderStatus;
 import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.sales.HourlySalesRepository;
+import sample.cafekiosk.spring.domain.sales.ProductDailySalesRepository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -48,6 +50,12 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
     @Autowired
     private MailSendHistoryRepository mailSendHistoryRepository;
 
+    @Autowired
+    private HourlySalesRepository hourlySalesRepository;
+
+    @Autowired
+    private ProductDailySalesRepository productDailySalesRepository;
+
 //    @MockBean
 //    private MailSendClient mailSendClient;
 
@@ -57,6 +65,8 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
         orderRepository.deleteAllInBatch();
         productRepository.deleteAllInBatch();
         mailSendHistoryRepository.deleteAllInBatch();
+        hourlySalesRepository.deleteAllInBatch();
+        productDailySalesRepository.deleteAllInBatch();
     }
 
     @DisplayName("결제완료 주문들을 조회하여 매출 통계 메일을 전송한다.")
@@ -87,9 +97,43 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
         assertThat(result).isTrue();
 
         List<MailSendHistory> histories = mailSendHistoryRepository.findAll();
-        assertThat(histories).hasSize(1)
-                .extracting("content")
-                .contains("총 매출 합계는 12000원입니다.");
+        assertThat(histories).hasSize(1);
+        assertThat(histories.get(0).getContent())
+                .startsWith("총 매출 합계는 12000원입니다.")
+                .contains("총 주문 수는 2건입니다.")
+                .contains("00시 1건 6000원", "23시 1건 6000원")
+                .contains("001 2개 2000원", "002 2개 4000원", "003 2개 6000원");
+    }
+
+    @DisplayName("기간 안의 결제완료 주문들을 합산하여 기간 매출 통계 메일을 전송한다.")
+    @Test
+    void sendOrderStatisticsMailForRange(){
+        //given
+        Product product1 = createProduct(HANDMADE,"001",1000);
+        Product product2 = createProduct(HANDMADE,"002",2000);
+        List<Product> products = List.of(product1, product2);
+        productRepository.saveAll(products);
+
+        createPaymentCompletedOrder(products, LocalDateTime.of(2023, 2, 28, 23, 59, 59));
+        createPaymentCompletedOrder(products, LocalDateTime.of(2023, 3, 1, 9, 0));
+        createPaymentCompletedOrder(products, LocalDateTime.of(2023, 3, 7, 18, 0));
+        createPaymentCompletedOrder(products, LocalDateTime.of(2023, 3, 8, 0, 0));
+
+        Mockito.when(mailSendClient.sendEmail(any(String.class),any(String.class),any(String.class),any(String.class)))
+                .thenReturn(true);
+
+        //when
+        boolean result = orderStatisticsService.sendOrderStatisticsMail(LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 7), "test@test.com");
+
+        //then
+        assertThat(result).isTrue();
+
+        List<MailSendHistory> histories = mailSendHistoryRepository.findAll();
+        assertThat(histories).hasSize(1);
+        assertThat(histories.get(0).getSubject()).isEqualTo("[매출통계] 2023-03-01 ~ 2023-03-07");
+        assertThat(histories.get(0).getContent())
+                .startsWith("총 매출 합계는 6000원입니다.")
+                .contains("09시 1건 3000원", "18시 1건 3000원");
     }
 
     private Order createPaymentCompletedOrder(List<Product> products, LocalDateTime now) {
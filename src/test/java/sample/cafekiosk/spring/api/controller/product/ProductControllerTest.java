@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -13,6 +14,8 @@ import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import sample.cafekiosk.spring.ControllerTestSupport;
 import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
+import sample.cafekiosk.spring.api.controller.product.dto.request.ProductUpdateRequest;
+import sample.cafekiosk.spring.api.service.product.ProductCatalogSnapshot;
 import sample.cafekiosk.spring.api.service.product.ProductService;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
 import sample.cafekiosk.spring.domain.ProductSellingStatus;
@@ -23,6 +26,7 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -167,7 +171,7 @@ class ProductControllerTest extends ControllerTestSupport {
     void getSellingProduct() throws Exception{
         //given
         List<ProductResponse> result = List.of();
-        when(productService.getSellingProducts()).thenReturn(result);
+        when(productService.getSellingProductsSnapshot()).thenReturn(ProductCatalogSnapshot.of(objectMapper, result, true));
 
 
         //when // then
@@ -176,10 +180,169 @@ class ProductControllerTest extends ControllerTestSupport {
                 )
                 .andDo(print()) // 로그를 보기 위함
                 .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
                 .andExpect(jsonPath("$.code").value("200"))
                 .andExpect(jsonPath("$.status").value("OK"))
                 .andExpect(jsonPath("$.message").value("OK"))
                 .andExpect(jsonPath("$.data").isArray())
         ; // 검증
     }
-}
\ No newline at end of file
+
+    @DisplayName("판매상품 목록이 바뀌지 않았으면 본문 없이 304 로 응답한다.")
+    @Test
+    void getSellingProductNotModified() throws Exception{
+        //given
+        ProductCatalogSnapshot snapshot = ProductCatalogSnapshot.of(objectMapper, List.of(), true);
+        when(productService.getSellingProductsSnapshot()).thenReturn(snapshot);
+
+        //when // then
+        mockMvc.perform(
+                        get("/api/v1/products/selling")
+                                .header(HttpHeaders.IF_NONE_MATCH, snapshot.getEtag())
+                )
+                .andDo(print()) // 로그를 보기 위함
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, snapshot.getEtag()))
+                .andExpect(content().bytes(new byte[0]))
+        ; // 검증
+    }
+
+    @DisplayName("gzip 을 받을 수 있으면 미리 압축해 둔 판매상품 목록을 내려준다.")
+    @Test
+    void getSellingProductGzipped() throws Exception{
+        //given
+        ProductCatalogSnapshot snapshot = ProductCatalogSnapshot.of(objectMapper, List.of(), true);
+        when(productService.getSellingProductsSnapshot()).thenReturn(snapshot);
+
+        //when // then
+        mockMvc.perform(
+                        get("/api/v1/products/selling")
+                                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                )
+                .andDo(print()) // 로그를 보기 위함
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(content().bytes(snapshot.getGzippedBody()))
+        ; // 검증
+    }
+
+    @DisplayName("gzip 의 q 값이 0 이면 압축하지 않은 판매상품 목록을 내려준다.")
+    @Test
+    void getSellingProductWithGzipRejected() throws Exception{
+        //given
+        ProductCatalogSnapshot snapshot = ProductCatalogSnapshot.of(objectMapper, List.of(), true);
+        when(productService.getSellingProductsSnapshot()).thenReturn(snapshot);
+
+        //when // then
+        mockMvc.perform(
+                        get("/api/v1/products/selling")
+                                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate")
+                )
+                .andDo(print()) // 로그를 보기 위함
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().bytes(snapshot.getBody()))
+        ; // 검증
+    }
+
+    @DisplayName("상품의 가격과 판매 상태를 변경한다.")
+    @Test
+    void updateProduct() throws Exception{
+        //given
+        ProductUpdateRequest request = ProductUpdateRequest.builder()
+                .sellingStatus(ProductSellingStatus.STOP_SELLING)
+                .price(4500)
+                .build();
+
+        //when // then
+        mockMvc.perform(
+                        patch("/api/v1/products/001")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print()) // 로그를 보기 위함
+                .andExpect(status().isOk()); // 검증
+    }
+
+    @DisplayName("상품 가격을 변경할 때 가격은 양수이다.")
+    @Test
+    void updateProductWithZeroPrice() throws Exception{
+        //given
+        ProductUpdateRequest request = ProductUpdateRequest.builder()
+                .price(0)
+                .build();
+
+        //when // then
+        mockMvc.perform(
+                        patch("/api/v1/products/001")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print()) // 로그를 보기 위함
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$.message").value("상품 가격은 양수여야 합니다."))
+                .andExpect(jsonPath("$.data").isEmpty())
+        ; // 검증
+    }
+
+    @DisplayName("상품 변경분을 동기화한다.")
+    @Test
+    void syncProducts() throws Exception{
+        //when // then
+        mockMvc.perform(
+                        get("/api/v1/products/sync")
+                                .param("since", "2024-01-01T10:00:00")
+                                .param("sinceId", "3")
+                )
+                .andDo(print()) // 로그를 보기 위함
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+        ; // 검증
+    }
+
+    @DisplayName("상품 변경분을 동기화할 때 페이지 크기는 500 이하이다.")
+    @Test
+    void syncProductsWithTooLargeSize() throws Exception{
+        //when // then
+        mockMvc.perform(
+                        get("/api/v1/products/sync")
+                                .param("size", "501")
+                )
+                .andDo(print()) // 로그를 보기 위함
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("페이지 크기는 500 이하여야 합니다."))
+        ; // 검증
+    }
+
+    @DisplayName("상품을 NDJSON 으로 일괄 등록한다.")
+    @Test
+    void importProducts() throws Exception{
+        //when // then
+        mockMvc.perform(
+                        post("/api/v1/products/import")
+                                .content("{\"type\":\"HANDMADE\",\"sellingStatus\":\"SELLING\",\"name\":\"아메리카노\",\"price\":4000}")
+                                .contentType("application/x-ndjson")
+                )
+                .andDo(print()) // 로그를 보기 위함
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+        ; // 검증
+    }
+
+    @DisplayName("상품 일괄 등록은 NDJSON, CSV 형식만 지원한다.")
+    @Test
+    void importProductsWithUnsupportedType() throws Exception{
+        //when // then
+        mockMvc.perform(
+                        post("/api/v1/products/import")
+                                .content("[]")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print()) // 로그를 보기 위함
+                .andExpect(status().isUnsupportedMediaType())
+        ; // 검증
+    }
+}
@@ -0,0 +1,145 @@
+package sample.cafekiosk.spring.api.controller.sales;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.cafekiosk.spring.ControllerTestSupport;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class SalesControllerTest extends ControllerTestSupport {
+
+    @DisplayName("하루 매출 집계를 조회한다.")
+    @Test
+    void getDailySales() throws Exception {
+        //when //then
+        mockMvc.perform(
+                        get("/api/v1/sales/daily/2023-03-05")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"));
+    }
+
+    @DisplayName("하루 매출 집계를 다시 계산한다.")
+    @Test
+    void rebuild() throws Exception {
+        //when //then
+        mockMvc.perform(
+                        post("/api/v1/sales/daily/2023-03-05/rebuild")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"));
+    }
+
+    @DisplayName("기간별 매출 보고서를 조회한다.")
+    @Test
+    void getReport() throws Exception {
+        //when //then
+        mockMvc.perform(
+                        get("/api/v1/sales/report")
+                                .param("from", "2023-03-01")
+                                .param("to", "2023-03-31")
+                                .param("statuses", "PAYMENT_COMPLETED", "COMPLETED")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"));
+    }
+
+    @DisplayName("매출 보고서를 조회할 때 시작일은 필수값이다.")
+    @Test
+    void getReportWithoutFrom() throws Exception {
+        //when //then
+        mockMvc.perform(
+                        get("/api/v1/sales/report")
+                                .param("to", "2023-03-31")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("조회 시작일은 필수입니다."))
+                .andExpect(jsonPath("$.data").isEmpty());
+    }
+
+    @DisplayName("매출 보고서의 종료일은 시작일보다 앞설 수 없다.")
+    @Test
+    void getReportWithReversedRange() throws Exception {
+        //when //then
+        mockMvc.perform(
+                        get("/api/v1/sales/report")
+                                .param("from", "2023-03-31")
+                                .param("to", "2023-03-01")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("조회 종료일은 시작일 이후여야 합니다."));
+    }
+
+    @DisplayName("긴 기간의 매출 보고서를 조회한다.")
+    @Test
+    void getRangeReport() throws Exception {
+        //when //then
+        mockMvc.perform(
+                        get("/api/v1/sales/range-report")
+                                .param("from", "2023-01-01")
+                                .param("to", "2023-12-31")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"));
+    }
+
+    @DisplayName("긴 기간의 매출 보고서는 366일을 넘을 수 없다.")
+    @Test
+    void getRangeReportWithTooLongRange() throws Exception {
+        //when //then
+        mockMvc.perform(
+                        get("/api/v1/sales/range-report")
+                                .param("from", "2023-01-01")
+                                .param("to", "2024-01-02")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("조회 기간은 366일 이하여야 합니다."));
+    }
+
+    @DisplayName("매출 큐브를 상품별로 묶어 조회한다.")
+    @Test
+    void getCube() throws Exception {
+        //when //then
+        mockMvc.perform(
+                        get("/api/v1/sales/cube")
+                                .param("from", "2023-03-01")
+                                .param("to", "2023-03-31")
+                                .param("hours", "9", "10", "11")
+                                .param("statuses", "PAYMENT_COMPLETED", "COMPLETED")
+                                .param("groupBy", "PRODUCT")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"));
+    }
+
+    @DisplayName("매출 큐브의 조회 시간대는 0~23 사이여야 한다.")
+    @Test
+    void getCubeWithInvalidHour() throws Exception {
+        //when //then
+        mockMvc.perform(
+                        get("/api/v1/sales/cube")
+                                .param("from", "2023-03-01")
+                                .param("to", "2023-03-31")
+                                .param("hours", "24")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("조회 시간대는 0~23 사이여야 합니다."));
+    }
+}
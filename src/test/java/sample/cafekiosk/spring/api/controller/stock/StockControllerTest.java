@@ -0,0 +1,55 @@
+package sample.cafekiosk.spring.api.controller.stock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import sample.cafekiosk.spring.ControllerTestSupport;
+import sample.cafekiosk.spring.api.controller.stock.request.StockRebalanceRequest;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class StockControllerTest extends ControllerTestSupport {
+
+    @DisplayName("상품의 재고를 여러 bucket 으로 나눈다.")
+    @Test
+    void rebalance() throws Exception {
+        //given
+        StockRebalanceRequest request = StockRebalanceRequest.builder()
+                .bucketCount(4)
+                .build();
+
+        //when //then
+        mockMvc.perform(
+                        post("/api/v1/stocks/001/rebalance")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"));
+    }
+
+    @DisplayName("재고 bucket 수는 양수여야 한다.")
+    @Test
+    void rebalanceWithZeroBucketCount() throws Exception {
+        //given
+        StockRebalanceRequest request = StockRebalanceRequest.builder()
+                .bucketCount(0)
+                .build();
+
+        //when //then
+        mockMvc.perform(
+                        post("/api/v1/stocks/001/rebalance")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("재고 bucket 수는 양수여야 합니다."))
+                .andExpect(jsonPath("$.data").isEmpty());
+    }
+}
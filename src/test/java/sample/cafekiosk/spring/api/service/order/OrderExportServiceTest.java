@@ -0,0 +1,93 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.OrderDataTestSupport;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderExportServiceTest extends OrderDataTestSupport {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2023, 3, 5, 0, 0);
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DisplayName("기간/상태에 맞는 주문을 주문 일시 순으로 CSV 에 쓴다.")
+    @Test
+    void exportOrders() throws IOException {
+        //given
+        List<Product> products = createProducts();
+        Order order1 = createOrder(products, FROM.plusHours(10), OrderStatus.PAYMENT_COMPLETED);
+        Order order2 = createOrder(products, FROM.plusHours(9), OrderStatus.PAYMENT_COMPLETED);
+        createOrder(products, FROM.plusHours(11), OrderStatus.CANCELED);
+        createOrder(products, FROM.plusDays(1), OrderStatus.PAYMENT_COMPLETED);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        long count = orderExportService.exportOrders(FROM, FROM.plusDays(1), OrderStatus.PAYMENT_COMPLETED, out);
+
+        //then
+        assertThat(count).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(String.join("\n",
+                OrderExportService.HEADER,
+                order2.getId() + ",2023-03-05T09:00,PAYMENT_COMPLETED,3000",
+                order1.getId() + ",2023-03-05T10:00,PAYMENT_COMPLETED,3000"
+        ));
+    }
+
+    @DisplayName("내보내는 중에 영속성 컨텍스트를 비워도 나머지 주문을 이어서 읽는다.")
+    @Test
+    void exportOrdersWithClear() {
+        //given
+        List<Product> products = createProducts();
+        for (int i = 0; i < 5; i++) {
+            createOrder(products, FROM.plusMinutes(i), OrderStatus.INIT);
+        }
+        OrderExportService clearingEachOrder = new OrderExportService(orderRepository, entityManager, 2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        Long count = transactionTemplate.execute(status -> {
+            try {
+                return clearingEachOrder.exportOrders(FROM, FROM.plusDays(1), null, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        //then
+        assertThat(count).isEqualTo(5);
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).hasSize(6);
+    }
+
+    @DisplayName("영속성 컨텍스트를 비우는 간격은 양수여야 한다.")
+    @Test
+    void createWithNonPositiveClearInterval() {
+        //when //then
+        assertThatThrownBy(() -> new OrderExportService(orderRepository, entityManager, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 내보내기 clear-interval 은 양수여야 합니다.");
+    }
+}
@@ -0,0 +1,98 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderCreateResult;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderGroupCommitterTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private OrderGroupCommitter orderGroupCommitter;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트에서는 모든 요청이 한 group 에 모이도록 넉넉하게 기다린다.
+        orderGroupCommitter = new OrderGroupCommitter(orderService, Duration.ofMillis(200), 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderGroupCommitter.shutdown();
+    }
+
+    @DisplayName("동시에 들어온 주문을 모아 한번에 생성하고, 요청마다 자기 주문의 결과를 돌려준다.")
+    @Test
+    void submit() {
+        //given
+        AtomicLong orderId = new AtomicLong();
+        given(orderService.createOrders(anyList(), any())).willAnswer(invocation -> {
+            List<OrderCreateServiceRequest> requests = invocation.getArgument(0);
+            return requests.stream()
+                    .map(request -> request.getProductNumbers().contains("009")
+                            ? OrderCreateResult.failure("존재하지 않는 상품이 있습니다.")
+                            : OrderCreateResult.success(OrderResponse.builder().id(orderId.incrementAndGet()).build()))
+                    .toList();
+        });
+
+        //when
+        List<CompletableFuture<OrderResponse>> futures = new ArrayList<>();
+        for (String productNumber : List.of("001", "009", "002", "003")) {
+            futures.add(orderGroupCommitter.submit(createRequest(productNumber), LocalDateTime.now()));
+        }
+        orderGroupCommitter.start();
+
+        //then
+        assertThat(futures.get(0).orTimeout(5, TimeUnit.SECONDS).join().getId()).isEqualTo(1L);
+        assertThatThrownBy(() -> futures.get(1).join())
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasRootCauseMessage("존재하지 않는 상품이 있습니다.");
+        assertThat(futures.get(2).join().getId()).isEqualTo(2L);
+        assertThat(futures.get(3).join().getId()).isEqualTo(3L);
+        verify(orderService, times(1)).createOrders(anyList(), any());
+    }
+
+    @DisplayName("주문 생성 트랜잭션이 실패하면 group 의 모든 요청이 실패한다.")
+    @Test
+    void submitWithFailedCommit() {
+        //given
+        given(orderService.createOrders(anyList(), any())).willThrow(new IllegalStateException("DB 오류"));
+        orderGroupCommitter.start();
+
+        //when //then
+        assertThatThrownBy(() -> orderGroupCommitter.createOrder(createRequest("001"), LocalDateTime.now()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("DB 오류");
+    }
+
+    private OrderCreateServiceRequest createRequest(String productNumber) {
+        return OrderCreateServiceRequest.builder()
+                .productNumbers(List.of(productNumber))
+                .build();
+    }
+}
@@ -9,14 +9,23 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 import sample.cafekiosk.spring.IntegrationTestSupport;
 import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.request.OrderLineServiceRequest;
+import sample.cafekiosk.spring.api.service.order.request.OrderSearchServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderCreateResult;
+import sample.cafekiosk.spring.api.service.order.response.OrderPageResponse;
 import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
 import sample.cafekiosk.spring.domain.Product;
 import sample.cafekiosk.spring.domain.ProductRepository;
 import sample.cafekiosk.spring.domain.ProductType;
 import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
 import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.sales.HourlySalesRepository;
+import sample.cafekiosk.spring.domain.sales.ProductDailySalesRepository;
 import sample.cafekiosk.spring.domain.stock.Stock;
 import sample.cafekiosk.spring.domain.stock.StockRepository;
+import sample.cafekiosk.spring.domain.stock.StockReservationRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -48,6 +57,15 @@ class OrderServiceTest extends IntegrationTestSupport {
     @Autowired
     private StockRepository stockRepository;
 
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private HourlySalesRepository hourlySalesRepository;
+
+    @Autowired
+    private ProductDailySalesRepository productDailySalesRepository;
+
     /**
      * 데이터 클렌징 작업.
      * 테스트가 끝날때마다 delete를 해줌.
@@ -64,6 +82,9 @@ class OrderServiceTest extends IntegrationTestSupport {
         productRepository.deleteAllInBatch();
         orderRepository.deleteAllInBatch();
         stockRepository.deleteAllInBatch();
+        stockReservationRepository.deleteAllInBatch();
+        hourlySalesRepository.deleteAllInBatch();
+        productDailySalesRepository.deleteAllInBatch();
     }
 
     @DisplayName("주문번호 리스트를 받아 주문을 생성한다.")
@@ -121,11 +142,10 @@ class OrderServiceTest extends IntegrationTestSupport {
         assertThat(orderResponse)
                 .extracting("registeredDateTime","totalPrice")
                 .contains(registeredDateTime,2000);
-        assertThat(orderResponse.getProducts()).hasSize(2)
-                .extracting("productNumber", "price")
-                .containsExactlyInAnyOrder(
-                        tuple("001",1000),
-                        tuple("001",1000)
+        assertThat(orderResponse.getProducts()).hasSize(1)
+                .extracting("productNumber", "price", "quantity")
+                .containsExactly(
+                        tuple("001",1000,2)
                 );
     }
 
@@ -156,13 +176,12 @@ class OrderServiceTest extends IntegrationTestSupport {
         assertThat(orderResponse)
                 .extracting("registeredDateTime","totalPrice")
                 .contains(registeredDateTime, 10000);
-        assertThat(orderResponse.getProducts()).hasSize(4)
-                .extracting("productNumber", "price")
+        assertThat(orderResponse.getProducts()).hasSize(3)
+                .extracting("productNumber", "price", "quantity")
                 .containsExactlyInAnyOrder(
-                        tuple("001",1000),
-                        tuple("001",1000),
-                        tuple("002",3000),
-                        tuple("003",5000)
+                        tuple("001",1000,2),
+                        tuple("002",3000,1),
+                        tuple("003",5000,1)
                 );
 
         List<Stock> stocks = stockRepository.findAll();
@@ -175,6 +194,57 @@ class OrderServiceTest extends IntegrationTestSupport {
                 );
     }
 
+    @DisplayName("상품번호와 수량으로 된 주문 줄로 주문을 생성한다.")
+    @Test
+    void createOrderWithOrderLines(){
+
+        //given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        Product product1 = createProduct(BAKERY,"001",3500);
+        Product product2 = createProduct(HANDMADE,"002",4000);
+        productRepository.saveAll(List.of(product1,product2));
+
+        stockRepository.save(Stock.create("001",10));
+
+        OrderCreateServiceRequest request = OrderCreateServiceRequest.builder()
+                .orderLines(List.of(
+                        OrderLineServiceRequest.builder().productNumber("001").quantity(5).build(),
+                        OrderLineServiceRequest.builder().productNumber("002").quantity(2).build()
+                ))
+                .build();
+
+        //when
+        OrderResponse orderResponse = orderService.createOrder(request, registeredDateTime);
+
+        //then
+        assertThat(orderResponse.getTotalPrice()).isEqualTo(25500);
+        assertThat(orderResponse.getProducts()).hasSize(2)
+                .extracting("productNumber", "price", "quantity")
+                .containsExactly(
+                        tuple("001",3500,5),
+                        tuple("002",4000,2)
+                );
+        assertThat(orderProductRepository.findAll()).hasSize(2);
+        assertThat(stockRepository.findAll().get(0).getQuantity()).isEqualTo(5);
+    }
+
+    @DisplayName("존재하지 않는 상품으로 주문을 생성하려는 경우 예외가 발생한다.")
+    @Test
+    void createOrderWithUnknownProduct(){
+
+        //given
+        productRepository.save(createProduct(HANDMADE,"001",1000));
+
+        OrderCreateServiceRequest request = OrderCreateServiceRequest.builder()
+                .productNumbers(List.of("001","009"))
+                .build();
+
+        //when //then
+        assertThatThrownBy(() -> orderService.createOrder(request, LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 상품이 있습니다.");
+    }
+
     @DisplayName("재고가 부족한 상품으로 주문을 생성하려는 경우 예외가 발생한다.")
     @Test
     void createOrderWithNoStock(){
@@ -203,6 +273,216 @@ class OrderServiceTest extends IntegrationTestSupport {
 
     }
 
+    @DisplayName("주문 총액이 허용 범위를 넘으면 재고를 차감하지 않고 예외가 발생한다.")
+    @Test
+    void createOrderWithOverflowingTotalPrice(){
+
+        //given
+        Product product1 = createProduct(BOTTLE,"001",1000);
+        Product product2 = createProduct(HANDMADE,"002",3000);
+        productRepository.saveAll(List.of(product1,product2));
+
+        stockRepository.save(Stock.create("001",10));
+
+        OrderCreateServiceRequest request = OrderCreateServiceRequest.builder()
+                .orderLines(List.of(
+                        OrderLineServiceRequest.builder().productNumber("001").quantity(1).build(),
+                        OrderLineServiceRequest.builder().productNumber("002").quantity(1_000_000).build()
+                ))
+                .build();
+
+        //when //then
+        assertThatThrownBy(() -> orderService.createOrder(request, LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 총액이 허용 범위를 넘습니다.");
+        assertThat(orderRepository.findAll()).isEmpty();
+        assertThat(stockRepository.findAll().get(0).getQuantity()).isEqualTo(10);
+    }
+
+    @DisplayName("여러 주문을 한번에 생성할 때 재고가 부족하거나 없는 상품이 있는 주문만 실패한다.")
+    @Test
+    void createOrders(){
+
+        //given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        Product product1 = createProduct(BOTTLE,"001",1000);
+        Product product2 = createProduct(HANDMADE,"002",3000);
+        productRepository.saveAll(List.of(product1,product2));
+
+        stockRepository.save(Stock.create("001",2));
+
+        List<OrderCreateServiceRequest> requests = List.of(
+                createServiceRequest("001","002"),
+                createServiceRequest("001","001"), // 앞 주문이 1개를 가져가서 재고 부족
+                createServiceRequest("009"),       // 없는 상품
+                createServiceRequest("001")
+        );
+
+        //when
+        List<OrderCreateResult> results = orderService.createOrders(requests, registeredDateTime);
+
+        //then
+        assertThat(results)
+                .extracting("success", "errorMessage")
+                .containsExactly(
+                        tuple(true, null),
+                        tuple(false, "재고가 부족한 상품이 있습니다."),
+                        tuple(false, "존재하지 않는 상품이 있습니다."),
+                        tuple(true, null)
+                );
+        assertThat(results.get(0).getOrder())
+                .extracting("registeredDateTime","totalPrice")
+                .contains(registeredDateTime, 4000);
+        assertThat(orderRepository.findAll()).hasSize(2);
+        assertThat(stockRepository.findAll().get(0).getQuantity()).isZero();
+    }
+
+    @DisplayName("여러 주문을 한번에 생성할 때 수량이나 총액이 허용 범위를 넘는 주문만 실패하고, 그 주문의 재고는 차감하지 않는다.")
+    @Test
+    void createOrdersWithOverflowingOrder(){
+
+        //given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        Product product1 = createProduct(BOTTLE,"001",1000);
+        Product product2 = createProduct(HANDMADE,"002",3000);
+        productRepository.saveAll(List.of(product1,product2));
+
+        stockRepository.save(Stock.create("001",10));
+
+        List<OrderCreateServiceRequest> requests = List.of(
+                createServiceRequest("001","002"),
+                OrderCreateServiceRequest.builder()
+                        .productNumbers(List.of("001"))
+                        .orderLines(List.of(OrderLineServiceRequest.builder().productNumber("001").quantity(Integer.MAX_VALUE).build()))
+                        .build(),
+                OrderCreateServiceRequest.builder()
+                        .orderLines(List.of(
+                                OrderLineServiceRequest.builder().productNumber("001").quantity(1).build(),
+                                OrderLineServiceRequest.builder().productNumber("002").quantity(1_000_000).build()
+                        ))
+                        .build(),
+                createServiceRequest("001")
+        );
+
+        //when
+        List<OrderCreateResult> results = orderService.createOrders(requests, registeredDateTime);
+
+        //then
+        assertThat(results)
+                .extracting("success", "errorMessage")
+                .containsExactly(
+                        tuple(true, null),
+                        tuple(false, "주문 수량이 허용 범위를 넘습니다."),
+                        tuple(false, "주문 총액이 허용 범위를 넘습니다."),
+                        tuple(true, null)
+                );
+        assertThat(orderRepository.findAll()).hasSize(2);
+        assertThat(stockRepository.findAll().get(0).getQuantity()).isEqualTo(8);
+    }
+
+    @DisplayName("주문 상세를 주문 줄과 함께 조회한다.")
+    @Test
+    void getOrder(){
+
+        //given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        productRepository.saveAll(List.of(createProduct(HANDMADE,"001",1000), createProduct(HANDMADE,"002",3000)));
+        OrderResponse created = orderService.createOrder(createServiceRequest("001","001","002"), registeredDateTime);
+
+        //when
+        OrderResponse orderResponse = orderService.getOrder(created.getId());
+
+        //then
+        assertThat(orderResponse)
+                .extracting("id","orderStatus","totalPrice")
+                .contains(created.getId(), OrderStatus.INIT, 5000);
+        assertThat(orderResponse.getProducts())
+                .extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        tuple("001",2),
+                        tuple("002",1)
+                );
+    }
+
+    @DisplayName("존재하지 않는 주문을 조회하면 예외가 발생한다.")
+    @Test
+    void getOrderWithUnknownId(){
+        //when //then
+        assertThatThrownBy(() -> orderService.getOrder(-1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 주문입니다.");
+    }
+
+    @DisplayName("기간 내 주문을 등록 일시, id 순으로 keyset 페이지 조회한다.")
+    @Test
+    void getOrders(){
+
+        //given
+        LocalDateTime from = LocalDateTime.of(2024, 3, 1, 0, 0);
+        productRepository.save(createProduct(HANDMADE,"001",1000));
+        OrderResponse order1 = orderService.createOrder(createServiceRequest("001"), from.plusHours(1));
+        OrderResponse order2 = orderService.createOrder(createServiceRequest("001"), from.plusHours(1));
+        OrderResponse order3 = orderService.createOrder(createServiceRequest("001"), from.plusHours(2));
+        orderService.createOrder(createServiceRequest("001"), from.plusDays(1)); // 기간 밖
+
+        OrderSearchServiceRequest firstPage = OrderSearchServiceRequest.builder()
+                .from(from)
+                .to(from.plusDays(1))
+                .size(2)
+                .build();
+
+        //when
+        OrderPageResponse page1 = orderService.getOrders(firstPage);
+        OrderPageResponse page2 = orderService.getOrders(OrderSearchServiceRequest.builder()
+                .from(from)
+                .to(from.plusDays(1))
+                .cursorDateTime(page1.getNextCursorDateTime())
+                .cursorId(page1.getNextCursorId())
+                .size(2)
+                .build());
+
+        //then
+        assertThat(page1.isHasNext()).isTrue();
+        assertThat(page1.getOrders())
+                .extracting("id")
+                .containsExactly(Math.min(order1.getId(), order2.getId()), Math.max(order1.getId(), order2.getId()));
+        assertThat(page2.isHasNext()).isFalse();
+        assertThat(page2.getOrders())
+                .extracting("id")
+                .containsExactly(order3.getId());
+    }
+
+    @DisplayName("주문 목록을 주문 상태로 걸러서 조회한다.")
+    @Test
+    void getOrdersWithStatus(){
+
+        //given
+        LocalDateTime from = LocalDateTime.of(2024, 3, 1, 0, 0);
+        productRepository.save(createProduct(HANDMADE,"001",1000));
+        OrderResponse paid = orderService.createOrder(createServiceRequest("001"), from.plusHours(1));
+        orderService.createOrder(createServiceRequest("001"), from.plusHours(2));
+        orderService.changeOrderStatus(paid.getId(), OrderStatus.PAYMENT_COMPLETED);
+
+        //when
+        OrderPageResponse page = orderService.getOrders(OrderSearchServiceRequest.builder()
+                .from(from)
+                .to(from.plusDays(1))
+                .status(OrderStatus.PAYMENT_COMPLETED)
+                .size(10)
+                .build());
+
+        //then
+        assertThat(page.getOrders())
+                .extracting("id", "orderStatus")
+                .containsExactly(tuple(paid.getId(), OrderStatus.PAYMENT_COMPLETED));
+    }
+
+    private OrderCreateServiceRequest createServiceRequest(String... productNumbers){
+        return OrderCreateServiceRequest.builder()
+                .productNumbers(List.of(productNumbers))
+                .build();
+    }
+
     // product 를 생성하기 위한 메서드
     private Product createProduct(ProductType type, String productNumber, int price){
         return Product.builder()
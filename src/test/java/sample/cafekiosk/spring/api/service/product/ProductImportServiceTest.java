@@ -0,0 +1,152 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.product.response.ProductImportResponse;
+import sample.cafekiosk.spring.domain.ProductNumberCounterRepository;
+import sample.cafekiosk.spring.domain.ProductRepository;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.domain.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.ProductType.BAKERY;
+import static sample.cafekiosk.spring.domain.ProductType.BOTTLE;
+import static sample.cafekiosk.spring.domain.ProductType.HANDMADE;
+
+class ProductImportServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private ProductNumberCounterRepository productNumberCounterRepository;
+
+    @Autowired
+    private ProductNumberAllocator productNumberAllocator;
+
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+        stockRepository.deleteAllInBatch();
+        productNumberCounterRepository.deleteAllInBatch();
+        productNumberAllocator.reset();
+        productCatalogCache.invalidate();
+    }
+
+    @DisplayName("NDJSON 으로 상품을 일괄 등록한다. 재고를 관리하는 상품은 재고도 함께 등록된다.")
+    @Test
+    void importNdjson() throws IOException {
+        //given
+        String body = """
+                {"type":"HANDMADE","sellingStatus":"SELLING","name":"아메리카노","price":4000}
+                {"type":"BOTTLE","sellingStatus":"SELLING","name":"콜라","price":2000,"stockQuantity":10}
+
+                {"type":"BAKERY","sellingStatus":"SELLING","name":"크루아상","price":3500,"stockQuantity":5}
+                """;
+
+        //when
+        ProductImportResponse response = productImportService.importProducts(toStream(body), ProductImportFormat.NDJSON);
+
+        //then
+        assertThat(response.getTotalCount()).isEqualTo(3);
+        assertThat(response.getImportedCount()).isEqualTo(3);
+        assertThat(response.getFailedCount()).isZero();
+
+        assertThat(productRepository.findAll()).hasSize(3)
+                .extracting("productNumber", "type", "name", "price")
+                .containsExactlyInAnyOrder(
+                        tuple("001", HANDMADE, "아메리카노", 4000),
+                        tuple("002", BOTTLE, "콜라", 2000),
+                        tuple("003", BAKERY, "크루아상", 3500)
+                );
+        assertThat(stockRepository.findAll())
+                .extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        tuple("002", 10),
+                        tuple("003", 5)
+                );
+    }
+
+    @DisplayName("형식이 잘못되었거나 검증에 실패한 행은 건너뛰고 줄 번호와 함께 오류로 알려준다.")
+    @Test
+    void importNdjsonWithInvalidRows() throws IOException {
+        //given
+        String body = """
+                {"type":"HANDMADE","sellingStatus":"SELLING","name":"아메리카노","price":4000}
+                {"type":"COFFEE","sellingStatus":"SELLING","name":"라떼","price":4500}
+                {"type":"HANDMADE","sellingStatus":"SELLING","name":"","price":0}
+                {"type":"HANDMADE","sellingStatus":"SELLING","name":"카푸치노","price":5000
+                """;
+
+        //when
+        ProductImportResponse response = productImportService.importProducts(toStream(body), ProductImportFormat.NDJSON);
+
+        //then
+        assertThat(response.getTotalCount()).isEqualTo(4);
+        assertThat(response.getImportedCount()).isEqualTo(1);
+        assertThat(response.getFailedCount()).isEqualTo(3);
+        assertThat(response.isErrorsTruncated()).isFalse();
+        assertThat(response.getErrors())
+                .extracting("line", "message")
+                .containsExactly(
+                        tuple(2L, "잘못된 형식의 행입니다."),
+                        tuple(3L, "상품 가격은 양수여야 합니다., 상품 이름은 필수입니다."),
+                        tuple(4L, "잘못된 형식의 행입니다.")
+                );
+        assertThat(productRepository.findAll()).hasSize(1);
+    }
+
+    @DisplayName("CSV 로 상품을 일괄 등록한다. 첫 줄은 헤더이고 쉼표가 있는 값은 큰따옴표로 감싼다.")
+    @Test
+    void importCsv() throws IOException {
+        //given
+        String body = """
+                name,type,sellingStatus,price,stockQuantity
+                아메리카노,HANDMADE,SELLING,4000,
+                "치즈, 베이글",BAKERY,SELLING,3000,7
+                콜라,BOTTLE,SELLING,abc,3
+                """;
+
+        //when
+        ProductImportResponse response = productImportService.importProducts(toStream(body), ProductImportFormat.CSV);
+
+        //then
+        assertThat(response.getTotalCount()).isEqualTo(3);
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(response.getErrors())
+                .extracting("line", "message")
+                .containsExactly(tuple(4L, "잘못된 형식의 행입니다."));
+
+        assertThat(productRepository.findAll())
+                .extracting("name", "type", "sellingStatus", "price")
+                .containsExactlyInAnyOrder(
+                        tuple("아메리카노", HANDMADE, SELLING, 4000),
+                        tuple("치즈, 베이글", BAKERY, SELLING, 3000)
+                );
+        assertThat(stockRepository.findAll())
+                .extracting("quantity")
+                .containsExactly(7);
+    }
+
+    private static InputStream toStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
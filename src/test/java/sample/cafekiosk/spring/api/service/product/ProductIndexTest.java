@@ -0,0 +1,123 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.product.request.ProductUpdateServiceRequest;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.ProductRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.ProductType.HANDMADE;
+
+class ProductIndexTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProductIndex productIndex;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+        productIndex.reload();
+    }
+
+    @DisplayName("상품번호로 상품을 찾고, 없는 상품번호가 있으면 걸러낸다.")
+    @Test
+    void current() {
+        //given
+        productRepository.saveAll(List.of(createProduct("001", 4000), createProduct("002", 4500)));
+
+        //when
+        ProductIndex.Snapshot snapshot = productIndex.current();
+
+        //then
+        assertThat(snapshot.get("001").getPrice()).isEqualTo(4000);
+        assertThat(snapshot.containsAll(List.of("001", "002"))).isTrue();
+        assertThat(snapshot.containsAll(List.of("001", "999"))).isFalse();
+        assertThat(snapshot.get("999")).isNull();
+    }
+
+    @DisplayName("상품이 바뀌지 않으면 같은 스냅샷을 돌려준다.")
+    @Test
+    void currentWithoutChange() {
+        //given
+        productRepository.save(createProduct("001", 4000));
+        ProductIndex.Snapshot first = productIndex.current();
+
+        //when
+        ProductIndex.Snapshot second = productIndex.current();
+
+        //then
+        assertThat(second).isSameAs(first);
+    }
+
+    @DisplayName("상품이 바뀌면 커밋 후 새 스냅샷으로 교체된다.")
+    @Test
+    void currentAfterProductChanged() {
+        //given
+        productRepository.save(createProduct("001", 4000));
+        ProductIndex.Snapshot before = productIndex.current();
+
+        //when
+        productService.updateProduct("001", ProductUpdateServiceRequest.builder().price(4200).build());
+        ProductIndex.Snapshot after = productIndex.current();
+
+        //then
+        assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+        assertThat(before.get("001").getPrice()).isEqualTo(4000);
+        assertThat(after.get("001").getPrice()).isEqualTo(4200);
+    }
+
+    @DisplayName("주기적으로 확인할 때 상품이 바뀌지 않았으면 같은 스냅샷을 유지한다.")
+    @Test
+    void refreshWithoutChange() {
+        //given
+        productRepository.save(createProduct("001", 4000));
+        ProductIndex.Snapshot before = productIndex.current();
+
+        //when
+        productIndex.refresh();
+
+        //then
+        assertThat(productIndex.current()).isSameAs(before);
+    }
+
+    @DisplayName("이벤트 없이 바뀐 상품은 주기적으로 확인할 때 상품 수가 달라진 것을 보고 다시 읽는다.")
+    @Test
+    void refreshAfterBulkChange() {
+        //given
+        productRepository.saveAll(List.of(createProduct("001", 4000), createProduct("002", 4500)));
+        ProductIndex.Snapshot before = productIndex.current();
+        productRepository.deleteAllInBatch();
+
+        //when
+        productIndex.refresh();
+        ProductIndex.Snapshot after = productIndex.current();
+
+        //then
+        assertThat(before.get("001")).isNotNull();
+        assertThat(after.get("001")).isNull();
+        assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+    }
+
+    private Product createProduct(String productNumber, int price) {
+        return Product.builder()
+                .productNumber(productNumber)
+                .type(HANDMADE)
+                .sellingStatus(SELLING)
+                .name("아메리카노")
+                .price(price)
+                .build();
+    }
+}
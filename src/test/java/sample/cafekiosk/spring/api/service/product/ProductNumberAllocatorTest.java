@@ -0,0 +1,127 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.ProductNumberCounter;
+import sample.cafekiosk.spring.domain.ProductNumberCounterRepository;
+import sample.cafekiosk.spring.domain.ProductRepository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.ProductType.HANDMADE;
+
+class ProductNumberAllocatorTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProductNumberAllocator productNumberAllocator;
+
+    @Autowired
+    private ProductNumberCounterRepository productNumberCounterRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+        productNumberCounterRepository.deleteAllInBatch();
+        productNumberAllocator.reset();
+    }
+
+    @DisplayName("카운터가 없으면 저장된 상품 번호 다음부터 발급한다.")
+    @Test
+    void allocateAfterExistingProducts() {
+        //given
+        productRepository.save(Product.builder()
+                .productNumber("009")
+                .type(HANDMADE)
+                .sellingStatus(SELLING)
+                .name("아메리카노")
+                .price(4000)
+                .build());
+
+        //when
+        String first = productNumberAllocator.allocate();
+        String second = productNumberAllocator.allocate();
+
+        //then
+        assertThat(first).isEqualTo("010");
+        assertThat(second).isEqualTo("011");
+    }
+
+    @DisplayName("번호는 block 단위로 카운터에 예약된다.")
+    @Test
+    void allocateReservesBlock() {
+        //when
+        productNumberAllocator.allocate();
+        productNumberAllocator.allocate();
+
+        //then
+        ProductNumberCounter counter = productNumberCounterRepository.findById(ProductNumberCounter.PRODUCT_NUMBER).orElseThrow();
+        assertThat(counter.getLastValue()).isEqualTo(50);
+    }
+
+    @DisplayName("동시에 발급해도 같은 번호가 두번 발급되지 않는다.")
+    @Test
+    void allocateConcurrently() throws InterruptedException {
+        //given
+        int threadCount = 8;
+        int perThread = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < perThread; j++) {
+                        numbers.add(productNumberAllocator.allocate());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        //then
+        assertThat(numbers).hasSize(threadCount * perThread);
+    }
+
+    @DisplayName("여러 개를 한번에 발급하면 연속된 번호를 받는다.")
+    @Test
+    void allocateBulk() {
+        //when
+        String single = productNumberAllocator.allocate();
+        List<String> bulk = productNumberAllocator.allocate(100);
+
+        //then
+        assertThat(single).isEqualTo("001");
+        assertThat(bulk).hasSize(100)
+                .startsWith("051", "052")
+                .endsWith("150")
+                .doesNotContain(single);
+    }
+
+    @DisplayName("상품 번호는 최소 세 자리로 발급된다.")
+    @Test
+    void format() {
+        assertThat(ProductNumberAllocator.format(1)).isEqualTo("001");
+        assertThat(ProductNumberAllocator.format(42)).isEqualTo("042");
+        assertThat(ProductNumberAllocator.format(1000)).isEqualTo("1000");
+    }
+}
@@ -8,15 +8,21 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import sample.cafekiosk.spring.IntegrationTestSupport;
 import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
+import sample.cafekiosk.spring.api.service.product.request.ProductSyncServiceRequest;
+import sample.cafekiosk.spring.api.service.product.request.ProductUpdateServiceRequest;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.api.service.product.response.ProductSyncResponse;
 import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.ProductNumberCounterRepository;
 import sample.cafekiosk.spring.domain.ProductRepository;
 import sample.cafekiosk.spring.domain.ProductSellingStatus;
 import sample.cafekiosk.spring.domain.ProductType;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.*;
 import static sample.cafekiosk.spring.domain.ProductSellingStatus.*;
@@ -31,9 +37,22 @@ class ProductServiceTest extends IntegrationTestSupport {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+
+    @Autowired
+    private ProductNumberCounterRepository productNumberCounterRepository;
+
+    @Autowired
+    private ProductNumberAllocator productNumberAllocator;
+
     @AfterEach
     void tearDown(){
         productRepository.deleteAllInBatch();
+        // 벌크 삭제는 엔티티 리스너를 거치지 않으므로 캐시를 직접 비운다.
+        productCatalogCache.invalidate();
+        productNumberCounterRepository.deleteAllInBatch();
+        productNumberAllocator.reset();
     }
 
     @DisplayName("신규 상품을 등록한다. 상품번호는 가장 최근 상품의 상품번호에서 1증가한 값이다.")
@@ -99,6 +118,181 @@ class ProductServiceTest extends IntegrationTestSupport {
 
     }
 
+    @DisplayName("판매 상품을 조회한다. 화면에 보이는 판매 상태의 상품만 조회된다.")
+    @Test
+    void getSellingProducts(){
+        // given
+        Product product1 = createProduct("001", HANDMADE, SELLING, "아메리카노", 4000);
+        Product product2 = createProduct("002", HANDMADE, HOLD, "카페라떼", 4500);
+        Product product3 = createProduct("003", HANDMADE, STOP_SELLING, "팥빙수", 7000);
+        productRepository.saveAll(List.of(product1, product2, product3));
+
+        // when
+        List<ProductResponse> productResponses = productService.getSellingProducts();
+
+        //then
+        assertThat(productResponses).hasSize(2)
+                .extracting("productNumber","sellingStatus")
+                .containsExactlyInAnyOrder(
+                        tuple("001", SELLING),
+                        tuple("002", HOLD)
+                );
+    }
+
+    @DisplayName("신규 상품을 등록하면 캐시된 판매 상품 목록에도 보인다.")
+    @Test
+    void getSellingProductsAfterCreateProduct(){
+        // given
+        productRepository.save(createProduct("001", HANDMADE, SELLING, "아메리카노", 4000));
+        productService.getSellingProducts();
+
+        ProductCreateRequest request = ProductCreateRequest.builder()
+                .type(HANDMADE)
+                .sellingStatus(SELLING)
+                .name("카푸치노")
+                .price(5000)
+                .build();
+
+        // when
+        productService.createProduct(request.toServiceRequest());
+        List<ProductResponse> productResponses = productService.getSellingProducts();
+
+        //then
+        assertThat(productResponses).hasSize(2)
+                .extracting("productNumber","name")
+                .containsExactlyInAnyOrder(
+                        tuple("001", "아메리카노"),
+                        tuple("002", "카푸치노")
+                );
+    }
+
+    @DisplayName("상품의 가격과 판매 상태를 변경하면 캐시된 판매 상품 목록에도 반영된다.")
+    @Test
+    void updateProduct(){
+        // given
+        Product product1 = createProduct("001", HANDMADE, SELLING, "아메리카노", 4000);
+        Product product2 = createProduct("002", HANDMADE, SELLING, "카페라떼", 4500);
+        productRepository.saveAll(List.of(product1, product2));
+        productService.getSellingProducts();
+
+        // when
+        productService.updateProduct("001", ProductUpdateServiceRequest.builder().price(4200).build());
+        productService.updateProduct("002", ProductUpdateServiceRequest.builder().sellingStatus(STOP_SELLING).build());
+        List<ProductResponse> productResponses = productService.getSellingProducts();
+
+        //then
+        assertThat(productResponses).hasSize(1)
+                .extracting("productNumber","sellingStatus","price")
+                .containsExactly(
+                        tuple("001", SELLING, 4200)
+                );
+    }
+
+    @DisplayName("존재하지 않는 상품은 변경할 수 없다.")
+    @Test
+    void updateProductWithNoProduct(){
+        // when //then
+        assertThatThrownBy(() -> productService.updateProduct("001", ProductUpdateServiceRequest.builder().price(4200).build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 상품입니다.");
+    }
+
+    @DisplayName("처음 동기화하면 판매 중인 상품 전체와 판매 중지된 상품 번호를 받는다.")
+    @Test
+    void syncProducts(){
+        // given
+        Product product1 = createProduct("001", HANDMADE, SELLING, "아메리카노", 4000);
+        Product product2 = createProduct("002", HANDMADE, HOLD, "카페라떼", 4500);
+        Product product3 = createProduct("003", HANDMADE, STOP_SELLING, "팥빙수", 7000);
+        productRepository.saveAll(List.of(product1, product2, product3));
+
+        // when
+        ProductSyncResponse response = productService.syncProducts(
+                ProductSyncServiceRequest.builder().size(10).build(), LocalDateTime.now().plusMinutes(1));
+
+        //then
+        assertThat(response.getProducts()).hasSize(2)
+                .extracting("productNumber")
+                .containsExactlyInAnyOrder("001", "002");
+        assertThat(response.getRemovedProductNumbers()).containsExactly("003");
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextSince()).isNotNull();
+    }
+
+    @DisplayName("이전 동기화 이후 변경된 상품만 받고, 변경이 없으면 같은 cursor 를 돌려받는다.")
+    @Test
+    void syncProductsSinceLastSync(){
+        // given
+        Product product1 = createProduct("001", HANDMADE, SELLING, "아메리카노", 4000);
+        Product product2 = createProduct("002", HANDMADE, SELLING, "카페라떼", 4500);
+        productRepository.saveAll(List.of(product1, product2));
+
+        ProductSyncResponse first = productService.syncProducts(
+                ProductSyncServiceRequest.builder().size(10).build(), LocalDateTime.now().plusMinutes(1));
+        ProductSyncServiceRequest next = ProductSyncServiceRequest.builder()
+                .since(first.getNextSince())
+                .sinceId(first.getNextSinceId())
+                .size(10)
+                .build();
+
+        // when
+        ProductSyncResponse unchanged = productService.syncProducts(next, LocalDateTime.now().plusMinutes(1));
+        productService.updateProduct("002", ProductUpdateServiceRequest.builder().sellingStatus(STOP_SELLING).build());
+        ProductSyncResponse changed = productService.syncProducts(next, LocalDateTime.now().plusMinutes(1));
+
+        //then
+        assertThat(unchanged.getProducts()).isEmpty();
+        assertThat(unchanged.getRemovedProductNumbers()).isEmpty();
+        assertThat(unchanged.getNextSince()).isEqualTo(first.getNextSince());
+        assertThat(unchanged.getNextSinceId()).isEqualTo(first.getNextSinceId());
+
+        assertThat(changed.getProducts()).isEmpty();
+        assertThat(changed.getRemovedProductNumbers()).containsExactly("002");
+    }
+
+    @DisplayName("변경분이 페이지 크기보다 많으면 다음 cursor 로 이어서 받는다.")
+    @Test
+    void syncProductsWithPaging(){
+        // given
+        Product product1 = createProduct("001", HANDMADE, SELLING, "아메리카노", 4000);
+        Product product2 = createProduct("002", HANDMADE, SELLING, "카페라떼", 4500);
+        Product product3 = createProduct("003", HANDMADE, SELLING, "팥빙수", 7000);
+        productRepository.saveAll(List.of(product1, product2, product3));
+        LocalDateTime now = LocalDateTime.now().plusMinutes(1);
+
+        // when
+        ProductSyncResponse first = productService.syncProducts(ProductSyncServiceRequest.builder().size(2).build(), now);
+        ProductSyncResponse second = productService.syncProducts(ProductSyncServiceRequest.builder()
+                .since(first.getNextSince())
+                .sinceId(first.getNextSinceId())
+                .size(2)
+                .build(), now);
+
+        //then
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(first.getProducts()).hasSize(2);
+        assertThat(second.getProducts()).hasSize(1);
+        assertThat(List.of(first.getProducts().get(0), first.getProducts().get(1), second.getProducts().get(0)))
+                .extracting("productNumber")
+                .containsExactlyInAnyOrder("001", "002", "003");
+    }
+
+    @DisplayName("방금 변경된 상품은 커밋 지연을 고려해 다음 동기화에 받는다.")
+    @Test
+    void syncProductsExcludesUnsettledChanges(){
+        // given
+        productRepository.save(createProduct("001", HANDMADE, SELLING, "아메리카노", 4000));
+
+        // when
+        ProductSyncResponse response = productService.syncProducts(
+                ProductSyncServiceRequest.builder().size(10).build(), LocalDateTime.now());
+
+        //then
+        assertThat(response.getProducts()).isEmpty();
+        assertThat(response.getNextSince()).isNull();
+    }
+
     private static Product createProduct(String productNumber, ProductType type, ProductSellingStatus sellingStatus, String name, int price) {
         return Product.builder()
                 .productNumber(productNumber)
@@ -0,0 +1,134 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.OrderDataTestSupport;
+import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.sales.response.DailySalesResponse;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SalesAggregateServiceTest extends OrderDataTestSupport {
+
+    private static final LocalDate SALES_DATE = LocalDate.of(2023, 3, 5);
+
+    @Autowired
+    private SalesAggregateService salesAggregateService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @DisplayName("주문이 결제완료가 되면 시간대별 매출과 상품별 판매 수량에 더해진다.")
+    @Test
+    void addOnPaymentCompleted() {
+        //given
+        List<Product> products = createProducts();
+        Order order1 = createOrder(products, SALES_DATE.atTime(9, 10), OrderStatus.INIT);
+        Order order2 = createOrder(List.of(products.get(0)), SALES_DATE.atTime(9, 50), OrderStatus.INIT);
+        Order order3 = createOrder(products, SALES_DATE.atTime(13, 0), OrderStatus.INIT);
+
+        //when
+        orderService.changeOrderStatus(order1.getId(), OrderStatus.PAYMENT_COMPLETED);
+        orderService.changeOrderStatus(order2.getId(), OrderStatus.PAYMENT_COMPLETED);
+        orderService.changeOrderStatus(order3.getId(), OrderStatus.PAYMENT_COMPLETED);
+
+        //then
+        DailySalesResponse sales = salesAggregateService.getDailySales(SALES_DATE);
+        assertThat(sales.getOrderCount()).isEqualTo(3);
+        assertThat(sales.getRevenue()).isEqualTo(7000);
+        assertThat(sales.getHours())
+                .extracting("hour", "orderCount", "revenue")
+                .containsExactly(
+                        tuple(9, 2L, 4000L),
+                        tuple(13, 1L, 3000L)
+                );
+        assertThat(sales.getProducts())
+                .extracting("productNumber", "quantity", "revenue")
+                .containsExactly(
+                        tuple("001", 3L, 3000L),
+                        tuple("002", 2L, 4000L)
+                );
+    }
+
+    @DisplayName("결제완료 상태로 바로 저장된 주문도 매출 집계에 더해진다.")
+    @Test
+    void addOnCreatedAsPaymentCompleted() {
+        //given
+        List<Product> products = createProducts();
+
+        //when
+        createOrder(products, SALES_DATE.atTime(9, 10), OrderStatus.PAYMENT_COMPLETED);
+        createOrder(List.of(products.get(0)), SALES_DATE.atTime(9, 50), OrderStatus.PAYMENT_COMPLETED);
+        createOrder(products, SALES_DATE.atTime(10, 0), OrderStatus.INIT);
+
+        //then
+        DailySalesResponse sales = salesAggregateService.getDailySales(SALES_DATE);
+        assertThat(sales.getOrderCount()).isEqualTo(2);
+        assertThat(sales.getRevenue()).isEqualTo(4000);
+        assertThat(sales.getProducts())
+                .extracting("productNumber", "quantity", "revenue")
+                .containsExactly(
+                        tuple("001", 2L, 2000L),
+                        tuple("002", 1L, 2000L)
+                );
+    }
+
+    @DisplayName("결제완료 주문이 다른 상태로 바뀌면 매출 집계에서 빠진다.")
+    @Test
+    void subtractOnLeavingPaymentCompleted() {
+        //given
+        List<Product> products = createProducts();
+        Order order1 = createOrder(products, SALES_DATE.atTime(9, 10), OrderStatus.INIT);
+        Order order2 = createOrder(products, SALES_DATE.atTime(9, 20), OrderStatus.INIT);
+        orderService.changeOrderStatus(order1.getId(), OrderStatus.PAYMENT_COMPLETED);
+        orderService.changeOrderStatus(order2.getId(), OrderStatus.PAYMENT_COMPLETED);
+
+        //when
+        orderService.changeOrderStatus(order2.getId(), OrderStatus.CANCELED);
+
+        //then
+        DailySalesResponse sales = salesAggregateService.getDailySales(SALES_DATE);
+        assertThat(sales.getOrderCount()).isEqualTo(1);
+        assertThat(sales.getRevenue()).isEqualTo(3000);
+        assertThat(sales.getProducts())
+                .extracting("productNumber", "quantity")
+                .containsExactly(
+                        tuple("001", 1L),
+                        tuple("002", 1L)
+                );
+    }
+
+    @DisplayName("하루치 매출 집계를 결제완료 주문에서 다시 계산한다.")
+    @Test
+    void rebuild() {
+        //given
+        List<Product> products = createProducts();
+        Order paid = createOrder(products, SALES_DATE.atTime(10, 0), OrderStatus.INIT);
+        createOrder(products, SALES_DATE.atTime(11, 0), OrderStatus.INIT); // 결제 전 주문은 집계하지 않는다.
+        orderService.changeOrderStatus(paid.getId(), OrderStatus.PAYMENT_COMPLETED);
+        hourlySalesRepository.deleteAllInBatch();
+        productDailySalesRepository.deleteAllInBatch();
+
+        //when
+        DailySalesResponse sales = salesAggregateService.rebuild(SALES_DATE);
+
+        //then
+        assertThat(sales.getOrderCount()).isEqualTo(1);
+        assertThat(sales.getRevenue()).isEqualTo(3000);
+        assertThat(salesAggregateService.getDailySales(SALES_DATE).getRevenue()).isEqualTo(3000);
+        assertThat(productDailySalesRepository.findAllBySalesDateOrderByProductNumber(SALES_DATE))
+                .extracting("productNumber", "quantity", "revenue")
+                .containsExactly(
+                        tuple("001", 1L, 1000L),
+                        tuple("002", 1L, 2000L)
+                );
+    }
+}
@@ -0,0 +1,119 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.OrderDataTestSupport;
+import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.sales.request.SalesCubeServiceRequest;
+import sample.cafekiosk.spring.api.service.sales.response.SalesCubeResponse;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SalesCubeServiceTest extends OrderDataTestSupport {
+
+    // 큐브는 최근 load-days 일만 담는다.
+    private static final LocalDate SALES_DATE = LocalDate.now().minusDays(1);
+
+    @Autowired
+    private SalesCubeService salesCubeService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        // 다른 테스트에서 만든 주문이 큐브에 남지 않도록 빈 DB 에서 다시 읽는다.
+        salesCubeService.reload();
+    }
+
+    @DisplayName("시작할 때 주문을 큐브로 읽어와 시간대별로 묶어 조회한다.")
+    @Test
+    void reload() {
+        //given
+        List<Product> products = createProducts();
+        createOrder(products, SALES_DATE.atTime(9, 10), OrderStatus.PAYMENT_COMPLETED);
+        createOrder(List.of(products.get(0)), SALES_DATE.atTime(9, 50), OrderStatus.PAYMENT_COMPLETED);
+        createOrder(products, SALES_DATE.atTime(13, 0), OrderStatus.PAYMENT_COMPLETED);
+        createOrder(products, SALES_DATE.atTime(14, 0), OrderStatus.INIT);
+
+        //when
+        salesCubeService.reload();
+        SalesCubeResponse response = salesCubeService.query(request(SalesCubeDimension.HOUR, null));
+
+        //then
+        assertThat(response.getOrderCount()).isEqualTo(3);
+        assertThat(response.getQuantity()).isEqualTo(5);
+        assertThat(response.getRevenue()).isEqualTo(7000);
+        assertThat(response.getRows())
+                .extracting("key", "orderCount", "quantity", "revenue")
+                .containsExactly(
+                        tuple("09", 2L, 3L, 4000L),
+                        tuple("13", 1L, 2L, 3000L)
+                );
+    }
+
+    @DisplayName("새로 만든 주문과 상태가 바뀐 주문이 큐브에 바로 반영된다.")
+    @Test
+    void keepCurrent() {
+        //given
+        List<Product> products = createProducts();
+        Order order1 = createOrder(products, SALES_DATE.atTime(9, 10), OrderStatus.INIT);
+        Order order2 = createOrder(products, SALES_DATE.atTime(10, 0), OrderStatus.INIT);
+
+        //when
+        orderService.changeOrderStatus(order1.getId(), OrderStatus.PAYMENT_COMPLETED);
+        orderService.changeOrderStatus(order2.getId(), OrderStatus.PAYMENT_FAILED);
+
+        //then
+        SalesCubeResponse response = salesCubeService.query(SalesCubeServiceRequest.builder()
+                .from(SALES_DATE)
+                .to(SALES_DATE)
+                .statuses(List.of(OrderStatus.values()))
+                .groupBy(SalesCubeDimension.STATUS)
+                .build());
+        assertThat(response.getRows())
+                .extracting("key", "orderCount", "revenue")
+                .containsExactly(
+                        tuple("PAYMENT_COMPLETED", 1L, 3000L),
+                        tuple("PAYMENT_FAILED", 1L, 3000L)
+                );
+    }
+
+    @DisplayName("상품으로 거르면 그 상품이 들어있는 주문 수와 그 상품의 수량/매출만 합친다.")
+    @Test
+    void queryWithProductFilter() {
+        //given
+        List<Product> products = createProducts();
+        createOrder(products, SALES_DATE.atTime(9, 10), OrderStatus.PAYMENT_COMPLETED);
+        createOrder(List.of(products.get(0), products.get(0)), SALES_DATE.atTime(9, 50), OrderStatus.PAYMENT_COMPLETED);
+        createOrder(List.of(products.get(1)), SALES_DATE.atTime(13, 0), OrderStatus.PAYMENT_COMPLETED);
+
+        //when
+        SalesCubeResponse response = salesCubeService.query(request(SalesCubeDimension.DAY, List.of("001")));
+
+        //then
+        assertThat(response.getRows())
+                .extracting("key", "orderCount", "quantity", "revenue")
+                .containsExactly(
+                        tuple(SALES_DATE.toString(), 2L, 3L, 3000L)
+                );
+    }
+
+    private SalesCubeServiceRequest request(SalesCubeDimension groupBy, List<String> productNumbers) {
+        return SalesCubeServiceRequest.builder()
+                .from(SALES_DATE)
+                .to(SALES_DATE)
+                .productNumbers(productNumbers)
+                .groupBy(groupBy)
+                .build();
+    }
+}
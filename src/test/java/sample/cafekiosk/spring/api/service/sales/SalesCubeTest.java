@@ -0,0 +1,197 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.cafekiosk.spring.api.service.sales.request.SalesCubeServiceRequest;
+import sample.cafekiosk.spring.api.service.sales.response.SalesCubeResponse;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.domain.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.ProductType.HANDMADE;
+
+class SalesCubeTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2023, 3, 1);
+
+    @DisplayName("일자별로 묶으면 시작일 이전 주문은 빼고 주문이 있는 날만 돌려준다.")
+    @Test
+    void groupByDay() {
+        //given
+        SalesCube cube = new SalesCube(START_DATE);
+        Product product = createProduct("001", 1000);
+        cube.add(createOrder(List.of(product), START_DATE.minusDays(1), 10), OrderStatus.PAYMENT_COMPLETED, 1);
+        cube.add(createOrder(List.of(product), START_DATE, 10), OrderStatus.PAYMENT_COMPLETED, 1);
+        cube.add(createOrder(List.of(product, product), START_DATE.plusDays(2), 11), OrderStatus.PAYMENT_COMPLETED, 1);
+
+        //when
+        SalesCubeResponse response = cube.query(SalesCubeServiceRequest.builder()
+                .from(START_DATE.minusDays(1))
+                .to(START_DATE.plusDays(40))
+                .groupBy(SalesCubeDimension.DAY)
+                .build());
+
+        //then
+        assertThat(response.getOrderCount()).isEqualTo(2);
+        assertThat(response.getRows())
+                .extracting("key", "orderCount", "quantity", "revenue")
+                .containsExactly(
+                        tuple("2023-03-01", 1L, 1L, 1000L),
+                        tuple("2023-03-03", 1L, 2L, 2000L)
+                );
+    }
+
+    @DisplayName("조회 기간이 큐브보다 길어도 큐브에 있는 일자만큼만 일자별로 묶는다.")
+    @Test
+    void groupByDayWithWideRange() {
+        //given
+        SalesCube cube = new SalesCube(START_DATE);
+        Product product = createProduct("001", 1000);
+        cube.add(createOrder(List.of(product), START_DATE.plusDays(1), 10), OrderStatus.PAYMENT_COMPLETED, 1);
+
+        //when
+        SalesCubeResponse wide = cube.query(SalesCubeServiceRequest.builder()
+                .from(LocalDate.of(1900, 1, 1))
+                .to(LocalDate.of(9999, 12, 31))
+                .groupBy(SalesCubeDimension.DAY)
+                .build());
+        SalesCubeResponse after = cube.query(SalesCubeServiceRequest.builder()
+                .from(LocalDate.of(9000, 1, 1))
+                .to(LocalDate.of(9999, 12, 31))
+                .groupBy(SalesCubeDimension.DAY)
+                .build());
+
+        //then
+        assertThat(wide.getRows())
+                .extracting("key", "orderCount")
+                .containsExactly(tuple("2023-03-02", 1L));
+        assertThat(after.getOrderCount()).isZero();
+        assertThat(after.getRows()).isEmpty();
+    }
+
+    @DisplayName("상품별로 묶어도 전체 주문 수는 주문마다 한번 센다.")
+    @Test
+    void groupByProductCountsOrdersOnce() {
+        //given
+        SalesCube cube = new SalesCube(START_DATE);
+        cube.add(createOrder(List.of(createProduct("001", 1000), createProduct("002", 2000)), START_DATE, 9), OrderStatus.PAYMENT_COMPLETED, 1);
+
+        //when
+        SalesCubeResponse response = cube.query(SalesCubeServiceRequest.builder()
+                .from(START_DATE)
+                .to(START_DATE)
+                .groupBy(SalesCubeDimension.PRODUCT)
+                .build());
+
+        //then
+        assertThat(response.getOrderCount()).isEqualTo(1);
+        assertThat(response.getRevenue()).isEqualTo(3000);
+        assertThat(response.getRows())
+                .extracting("key", "orderCount")
+                .containsExactly(
+                        tuple("001", 1L),
+                        tuple("002", 1L)
+                );
+    }
+
+    @DisplayName("주문 상태가 바뀌면 이전 상태 칸에서 빠지고 새 상태 칸으로 옮겨진다.")
+    @Test
+    void move() {
+        //given
+        SalesCube cube = new SalesCube(START_DATE);
+        Order order = createOrder(List.of(createProduct("001", 1000), createProduct("002", 2000)), START_DATE, 9);
+        cube.add(order, OrderStatus.PAYMENT_COMPLETED, 1);
+
+        //when
+        cube.move(order, OrderStatus.PAYMENT_COMPLETED, OrderStatus.CANCELED);
+
+        //then
+        SalesCubeResponse response = cube.query(SalesCubeServiceRequest.builder()
+                .from(START_DATE)
+                .to(START_DATE)
+                .statuses(List.of(OrderStatus.PAYMENT_COMPLETED, OrderStatus.CANCELED))
+                .groupBy(SalesCubeDimension.PRODUCT)
+                .build());
+        assertThat(response.getRows())
+                .extracting("key", "orderCount", "revenue")
+                .containsExactly(
+                        tuple("001", 1L, 1000L),
+                        tuple("002", 1L, 2000L)
+                );
+        assertThat(cube.query(SalesCubeServiceRequest.builder()
+                .from(START_DATE)
+                .to(START_DATE)
+                .build()).getOrderCount()).isZero();
+    }
+
+    @DisplayName("상품이 많아도 시간대와 상품으로 걸러 합친다.")
+    @Test
+    void queryWithFilters() {
+        //given
+        SalesCube cube = new SalesCube(START_DATE);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            products.add(createProduct(String.format("%03d", i + 1), 1000));
+        }
+        for (int hour = 0; hour < 24; hour++) {
+            cube.add(createOrder(products, START_DATE, hour), OrderStatus.PAYMENT_COMPLETED, 1);
+        }
+
+        //when
+        SalesCubeResponse response = cube.query(SalesCubeServiceRequest.builder()
+                .from(START_DATE)
+                .to(START_DATE)
+                .hours(List.of(9, 10))
+                .productNumbers(List.of("001", "300", "999"))
+                .groupBy(SalesCubeDimension.HOUR)
+                .build());
+
+        //then
+        assertThat(response.getQuantity()).isEqualTo(4);
+        assertThat(response.getRevenue()).isEqualTo(4000);
+        assertThat(response.getRows())
+                .extracting("key", "orderCount")
+                .containsExactly(
+                        tuple("09", 2L),
+                        tuple("10", 2L)
+                );
+    }
+
+    @DisplayName("조회 시간대가 0~23 을 벗어나면 예외가 발생한다.")
+    @Test
+    void queryWithInvalidHour() {
+        //given
+        SalesCube cube = new SalesCube(START_DATE);
+
+        //when //then
+        assertThatThrownBy(() -> cube.query(SalesCubeServiceRequest.builder()
+                .from(START_DATE)
+                .to(START_DATE)
+                .hours(List.of(24))
+                .build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("조회 시간대는 0~23 사이여야 합니다.");
+    }
+
+    private Order createOrder(List<Product> products, LocalDate salesDate, int hour) {
+        return Order.create(products, salesDate.atTime(hour, 0));
+    }
+
+    private Product createProduct(String productNumber, int price) {
+        return Product.builder()
+                .type(HANDMADE)
+                .productNumber(productNumber)
+                .price(price)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .build();
+    }
+}
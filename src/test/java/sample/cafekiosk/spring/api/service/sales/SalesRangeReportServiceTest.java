@@ -0,0 +1,203 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.OrderDataTestSupport;
+import sample.cafekiosk.spring.api.service.sales.request.SalesReportServiceRequest;
+import sample.cafekiosk.spring.api.service.sales.response.SalesReportResponse;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SalesRangeReportServiceTest extends OrderDataTestSupport {
+
+    @Autowired
+    private SalesRangeReportService salesRangeReportService;
+
+    @Autowired
+    private SalesReportService salesReportService;
+
+    @DisplayName("일 단위 파티션의 부분 결과를 합친 보고서는 기간 전체를 한번에 집계한 보고서와 같다.")
+    @Test
+    void getReport() {
+        //given
+        List<Product> products = createProducts();
+        createOrder(products, LocalDateTime.of(2023, 3, 1, 9, 0), OrderStatus.PAYMENT_COMPLETED);
+        createOrder(List.of(products.get(0)), LocalDateTime.of(2023, 3, 10, 9, 30), OrderStatus.PAYMENT_COMPLETED);
+        createOrder(List.of(products.get(1)), LocalDateTime.of(2023, 3, 20, 13, 0), OrderStatus.PAYMENT_COMPLETED);
+        createOrder(products, LocalDateTime.of(2023, 3, 31, 23, 59, 59), OrderStatus.PAYMENT_COMPLETED);
+        createOrder(products, LocalDateTime.of(2023, 4, 1, 0, 0), OrderStatus.PAYMENT_COMPLETED);
+
+        SalesReportServiceRequest request = SalesReportServiceRequest.builder()
+                .from(LocalDate.of(2023, 3, 1))
+                .to(LocalDate.of(2023, 3, 31))
+                .build();
+
+        //when
+        SalesReportResponse report = salesRangeReportService.getReport(request);
+
+        //then
+        SalesReportResponse expected = salesReportService.getReport(request);
+        assertThat(report.getOrderCount()).isEqualTo(expected.getOrderCount()).isEqualTo(4);
+        assertThat(report.getRevenue()).isEqualTo(expected.getRevenue()).isEqualTo(9000);
+        assertThat(report.getHours())
+                .extracting("hour", "orderCount", "revenue")
+                .containsExactly(
+                        tuple(9, 2L, 4000L),
+                        tuple(13, 1L, 2000L),
+                        tuple(23, 1L, 3000L)
+                );
+        assertThat(report.getProducts())
+                .extracting("productNumber", "quantity", "revenue")
+                .containsExactly(
+                        tuple("001", 3L, 3000L),
+                        tuple("002", 3L, 6000L)
+                );
+    }
+
+    @DisplayName("파티션이 끝날 때마다 진행 상황을 알린다.")
+    @Test
+    void submitWithProgress() throws Exception {
+        //given
+        SalesReportServiceRequest request = SalesReportServiceRequest.builder()
+                .from(LocalDate.of(2023, 3, 1))
+                .to(LocalDate.of(2023, 3, 10))
+                .build();
+        List<Integer> progress = new CopyOnWriteArrayList<>();
+
+        //when
+        SalesRangeReport report = salesRangeReportService.submit(request, (completed, total) -> progress.add(completed));
+        report.getResult().get(10, TimeUnit.SECONDS);
+
+        //then
+        assertThat(report.getTotalPartitions()).isEqualTo(10);
+        assertThat(report.getCompletedPartitions()).isEqualTo(10);
+        assertThat(progress).containsExactlyInAnyOrder(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @DisplayName("취소하면 남은 파티션을 실행하지 않고 보고서가 취소된다.")
+    @Test
+    void cancel() throws Exception {
+        //given
+        SalesReportServiceRequest request = SalesReportServiceRequest.builder()
+                .from(LocalDate.of(2023, 1, 1))
+                .to(LocalDate.of(2023, 12, 31))
+                .build();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SalesRangeReport report = salesRangeReportService.submit(request, (completed, total) -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        started.await(10, TimeUnit.SECONDS);
+
+        //when
+        boolean cancelled = report.cancel();
+        release.countDown();
+
+        //then
+        assertThat(cancelled).isTrue();
+        assertThat(report.isCancelled()).isTrue();
+        assertThat(report.getCompletedPartitions()).isLessThan(report.getTotalPartitions());
+        assertThatThrownBy(() -> report.getResult().get())
+                .isInstanceOf(CancellationException.class);
+    }
+
+    @DisplayName("보고서의 종료일은 시작일보다 앞설 수 없다.")
+    @Test
+    void submitWithReversedRange() {
+        //given
+        SalesReportServiceRequest request = SalesReportServiceRequest.builder()
+                .from(LocalDate.of(2023, 3, 10))
+                .to(LocalDate.of(2023, 3, 1))
+                .build();
+
+        //when //then
+        assertThatThrownBy(() -> salesRangeReportService.submit(request, SalesReportProgressListener.NONE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("조회 종료일은 시작일 이후여야 합니다.");
+    }
+
+    @DisplayName("보고서 기간은 366일을 넘을 수 없다.")
+    @Test
+    void submitWithTooLongRange() {
+        //given
+        SalesReportServiceRequest leapYear = SalesReportServiceRequest.builder()
+                .from(LocalDate.of(2024, 1, 1))
+                .to(LocalDate.of(2024, 12, 31))
+                .build();
+        SalesReportServiceRequest tooLong = SalesReportServiceRequest.builder()
+                .from(LocalDate.of(2023, 1, 1))
+                .to(LocalDate.of(2024, 1, 2))
+                .build();
+
+        //when //then
+        assertThat(salesRangeReportService.partition(leapYear)).hasSize(366);
+        assertThatThrownBy(() -> salesRangeReportService.submit(tooLong, SalesReportProgressListener.NONE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("조회 기간은 366일 이하여야 합니다.");
+    }
+
+    @DisplayName("나눌 파티션이 없는 보고서는 바로 빈 결과로 완료된다.")
+    @Test
+    void reportWithoutPartitions() throws Exception {
+        //given
+        SalesReportServiceRequest request = SalesReportServiceRequest.builder()
+                .from(LocalDate.of(2023, 3, 1))
+                .to(LocalDate.of(2023, 3, 1))
+                .build();
+
+        //when
+        SalesRangeReport report = new SalesRangeReport(request, 0, SalesReportProgressListener.NONE);
+
+        //then
+        SalesReportResponse response = report.getResult().get(1, TimeUnit.SECONDS);
+        assertThat(response.getOrderCount()).isZero();
+        assertThat(response.getHours()).isEmpty();
+        assertThat(response.getProducts()).isEmpty();
+    }
+
+    @DisplayName("기간을 일 단위로 나누고, 일수가 병렬도보다 적으면 한시간 단위로 나눈다.")
+    @Test
+    void partition() {
+        //given
+        SalesReportServiceRequest month = SalesReportServiceRequest.builder()
+                .from(LocalDate.of(2023, 3, 1))
+                .to(LocalDate.of(2023, 3, 31))
+                .build();
+        SalesReportServiceRequest day = SalesReportServiceRequest.builder()
+                .from(LocalDate.of(2023, 3, 1))
+                .to(LocalDate.of(2023, 3, 1))
+                .build();
+
+        //when
+        List<SalesRangeReportService.Partition> monthPartitions = salesRangeReportService.partition(month);
+        List<SalesRangeReportService.Partition> dayPartitions = salesRangeReportService.partition(day);
+
+        //then
+        assertThat(monthPartitions).hasSize(31);
+        assertThat(monthPartitions.get(0).end()).isEqualTo(LocalDateTime.of(2023, 3, 2, 0, 0));
+        assertThat(dayPartitions).hasSize(24);
+        assertThat(dayPartitions.get(23).end()).isEqualTo(LocalDateTime.of(2023, 3, 2, 0, 0));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
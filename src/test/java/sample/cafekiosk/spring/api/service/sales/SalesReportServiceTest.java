@@ -0,0 +1,89 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.OrderDataTestSupport;
+import sample.cafekiosk.spring.api.service.sales.request.SalesReportServiceRequest;
+import sample.cafekiosk.spring.api.service.sales.response.SalesReportResponse;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SalesReportServiceTest extends OrderDataTestSupport {
+
+    @Autowired
+    private SalesReportService salesReportService;
+
+    @DisplayName("기간 안의 결제완료 주문을 시간대별, 상품별로 합산한다.")
+    @Test
+    void getReport() {
+        //given
+        List<Product> products = createProducts();
+        Product product1 = products.get(0);
+        Product product2 = products.get(1);
+
+        createOrder(List.of(product1, product2), LocalDateTime.of(2023, 3, 1, 9, 0), OrderStatus.PAYMENT_COMPLETED);
+        createOrder(List.of(product1, product1), LocalDateTime.of(2023, 3, 15, 9, 30), OrderStatus.PAYMENT_COMPLETED);
+        createOrder(List.of(product2), LocalDateTime.of(2023, 3, 31, 23, 59, 59), OrderStatus.PAYMENT_COMPLETED);
+        createOrder(List.of(product2), LocalDateTime.of(2023, 3, 10, 12, 0), OrderStatus.CANCELED);
+        createOrder(List.of(product1), LocalDateTime.of(2023, 4, 1, 0, 0), OrderStatus.PAYMENT_COMPLETED);
+
+        SalesReportServiceRequest request = SalesReportServiceRequest.builder()
+                .from(LocalDate.of(2023, 3, 1))
+                .to(LocalDate.of(2023, 3, 31))
+                .build();
+
+        //when
+        SalesReportResponse report = salesReportService.getReport(request);
+
+        //then
+        assertThat(report.getStatuses()).containsExactly(OrderStatus.PAYMENT_COMPLETED);
+        assertThat(report.getOrderCount()).isEqualTo(3);
+        assertThat(report.getRevenue()).isEqualTo(7000);
+        assertThat(report.getHours())
+                .extracting("hour", "orderCount", "revenue")
+                .containsExactly(
+                        tuple(9, 2L, 5000L),
+                        tuple(23, 1L, 2000L)
+                );
+        assertThat(report.getProducts())
+                .extracting("productNumber", "quantity", "revenue")
+                .containsExactly(
+                        tuple("001", 3L, 3000L),
+                        tuple("002", 2L, 4000L)
+                );
+    }
+
+    @DisplayName("지정한 주문 상태들만 합산한다.")
+    @Test
+    void getReportWithStatuses() {
+        //given
+        Product product = createProducts().get(0);
+
+        createOrder(List.of(product), LocalDateTime.of(2023, 3, 1, 9, 0), OrderStatus.PAYMENT_COMPLETED);
+        createOrder(List.of(product), LocalDateTime.of(2023, 3, 1, 10, 0), OrderStatus.CANCELED);
+        createOrder(List.of(product), LocalDateTime.of(2023, 3, 1, 11, 0), OrderStatus.PAYMENT_FAILED);
+
+        SalesReportServiceRequest request = SalesReportServiceRequest.builder()
+                .from(LocalDate.of(2023, 3, 1))
+                .to(LocalDate.of(2023, 3, 1))
+                .statuses(List.of(OrderStatus.CANCELED, OrderStatus.PAYMENT_FAILED))
+                .build();
+
+        //when
+        SalesReportResponse report = salesReportService.getReport(request);
+
+        //then
+        assertThat(report.getOrderCount()).isEqualTo(2);
+        assertThat(report.getHours())
+                .extracting("hour")
+                .containsExactly(10, 11);
+    }
+}
@@ -0,0 +1,76 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTest {
+
+    private final List<String> expired = new CopyOnWriteArrayList<>();
+    private final CountDownLatch latch = new CountDownLatch(2);
+
+    private final HashedTimingWheel<String> wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(10), 8, task -> {
+        expired.add(task);
+        latch.countDown();
+    });
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @DisplayName("만료 시간이 지난 순서대로 만료 처리하고, wheel 한 바퀴보다 먼 만료도 처리한다.")
+    @Test
+    void expire() throws InterruptedException {
+        //given
+        wheel.schedule("later", Duration.ofMillis(300)); // 8 slot * 10ms 보다 멀다.
+        wheel.schedule("sooner", Duration.ofMillis(30));
+
+        //when
+        wheel.start();
+        boolean completed = latch.await(5, TimeUnit.SECONDS);
+
+        //then
+        assertThat(completed).isTrue();
+        assertThat(expired).containsExactly("sooner", "later");
+    }
+
+    @DisplayName("취소한 항목은 만료 처리하지 않는다.")
+    @Test
+    void cancel() throws InterruptedException {
+        //given
+        wheel.schedule("canceled", Duration.ofMillis(20)).cancel();
+        wheel.schedule("first", Duration.ofMillis(40));
+        wheel.schedule("second", Duration.ofMillis(60));
+
+        //when
+        wheel.start();
+        latch.await(5, TimeUnit.SECONDS);
+
+        //then
+        assertThat(expired).containsExactly("first", "second");
+    }
+
+    @DisplayName("이미 지난 만료 시간으로 등록하면 다음 tick 에 만료 처리한다.")
+    @Test
+    void expireWithPastDeadline() {
+        //given
+        HashedTimingWheel<String> hourWheel = new HashedTimingWheel<>("test-hour-wheel", Duration.ofHours(1), 8, expired::add);
+        hourWheel.schedule("past", Duration.ofMillis(-100));
+        hourWheel.schedule("later", Duration.ofHours(2));
+
+        //when
+        hourWheel.advance();
+
+        //then
+        assertThat(expired).containsExactly("past");
+    }
+}
@@ -0,0 +1,137 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 메모리 원장(LEDGER)은 DB 반영이 비동기라 StockLedgerTest 에서 따로 검증한다.
+ */
+class StockDeductionStrategyTest extends IntegrationTestSupport {
+
+    @Autowired
+    private StockDeductionStrategies stockDeductionStrategies;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        stockRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("상품별 수량만큼 재고를 차감한다.")
+    @ParameterizedTest
+    @EnumSource(value = StockDeductionMode.class, names = {"PESSIMISTIC", "OPTIMISTIC", "CONDITIONAL", "SHARDED"})
+    void deduct(StockDeductionMode mode) {
+        //given
+        stockRepository.saveAll(List.of(Stock.create("001", 2), Stock.create("002", 2)));
+
+        //when
+        deductInTransaction(mode, Map.of("001", 2, "002", 1));
+
+        //then
+        assertThat(stockRepository.findAll()).hasSize(2)
+                .extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 0),
+                        tuple("002", 1)
+                );
+    }
+
+    @DisplayName("재고가 부족한 상품이 있으면 예외가 발생하고 어떤 상품의 재고도 차감되지 않는다.")
+    @ParameterizedTest
+    @EnumSource(value = StockDeductionMode.class, names = {"PESSIMISTIC", "OPTIMISTIC", "CONDITIONAL", "SHARDED"})
+    void deductWithNoStock(StockDeductionMode mode) {
+        //given
+        stockRepository.saveAll(List.of(Stock.create("001", 2), Stock.create("002", 1)));
+
+        //when //then
+        assertThatThrownBy(() -> deductInTransaction(mode, Map.of("001", 1, "002", 2)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재고가 부족한 상품이 있습니다.");
+
+        assertThat(stockRepository.findAll())
+                .extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 2),
+                        tuple("002", 1)
+                );
+    }
+
+    @DisplayName("동시에 주문이 들어와도 재고보다 많이 차감되지 않는다.")
+    @ParameterizedTest
+    @EnumSource(value = StockDeductionMode.class, names = {"PESSIMISTIC", "OPTIMISTIC", "CONDITIONAL", "SHARDED"})
+    void deductConcurrently(StockDeductionMode mode) throws InterruptedException {
+        //given
+        stockRepository.save(Stock.create("001", 5));
+
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    deductInTransaction(mode, Map.of("001", 1));
+                    successCount.incrementAndGet();
+                } catch (RuntimeException ignored) {
+                    // 재고 부족 또는 재시도 초과
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        //then
+        Stock stock = stockRepository.findAll().get(0);
+        assertThat(stock.getQuantity()).isNotNegative();
+        assertThat(successCount.get()).isEqualTo(5 - stock.getQuantity());
+    }
+
+    @DisplayName("여러 bucket 으로 나뉜 재고는 한 bucket 으로 부족하면 다른 bucket 에서 나눠서 차감한다.")
+    @ParameterizedTest
+    @EnumSource(value = StockDeductionMode.class, names = {"PESSIMISTIC", "SHARDED"})
+    void deductFromShards(StockDeductionMode mode) {
+        //given
+        stockRepository.saveAll(List.of(
+                Stock.createBucket("001", 0, 2),
+                Stock.createBucket("001", 1, 2)
+        ));
+
+        //when
+        deductInTransaction(mode, Map.of("001", 3));
+
+        //then
+        assertThat(stockRepository.sumQuantityByProductNumber("001")).isEqualTo(1);
+    }
+
+    private void deductInTransaction(StockDeductionMode mode, Map<String, Integer> quantities) {
+        transactionTemplate.executeWithoutResult(status -> stockDeductionStrategies.get(mode).deduct(quantities));
+    }
+}
@@ -0,0 +1,156 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StockLedgerTest {
+
+    @Mock
+    private StockRepository stockRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private StockLedger stockLedger;
+
+    @BeforeEach
+    void setUp() {
+        stockLedger = new StockLedger(stockRepository, jdbcTemplate);
+    }
+
+    @DisplayName("재고가 충분하면 원장에서 재고를 차감한다.")
+    @Test
+    void deductAll() {
+        //given
+        given(stockRepository.findAllByProductNumberInAndBucket(anyList(), eq(Stock.DEFAULT_BUCKET)))
+                .willReturn(List.of(Stock.create("001", 2), Stock.create("002", 2)));
+
+        //when
+        stockLedger.deductAll(Map.of("001", 2, "002", 1));
+
+        //then
+        assertThat(stockLedger.getAvailableQuantity("001")).isZero();
+        assertThat(stockLedger.getAvailableQuantity("002")).isEqualTo(1);
+    }
+
+    @DisplayName("재고가 부족한 상품이 있으면 예외가 발생하고 먼저 차감한 상품의 재고도 되돌린다.")
+    @Test
+    void deductAllWithNoStock() {
+        //given
+        given(stockRepository.findAllByProductNumberInAndBucket(anyList(), eq(Stock.DEFAULT_BUCKET)))
+                .willReturn(List.of(Stock.create("001", 2), Stock.create("002", 1)));
+
+        //when //then
+        assertThatThrownBy(() -> stockLedger.deductAll(Map.of("001", 1, "002", 2)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재고가 부족한 상품이 있습니다.");
+
+        assertThat(stockLedger.getAvailableQuantity("001")).isEqualTo(2);
+        assertThat(stockLedger.getAvailableQuantity("002")).isEqualTo(1);
+    }
+
+    @DisplayName("동시에 차감을 시도해도 재고보다 많이 차감되지 않는다.")
+    @Test
+    void tryDeductConcurrently() throws InterruptedException {
+        //given
+        given(stockRepository.findAllByProductNumberInAndBucket(anyList(), eq(Stock.DEFAULT_BUCKET)))
+                .willReturn(List.of(Stock.create("001", 100)));
+        stockLedger.getAvailableQuantity("001");
+
+        int threadCount = 32;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < 10; j++) {
+                        if (stockLedger.tryDeduct("001", 1)) {
+                            successCount.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        //then
+        assertThat(successCount.get()).isEqualTo(100);
+        assertThat(stockLedger.getAvailableQuantity("001")).isZero();
+    }
+
+    @DisplayName("누적된 차감 수량을 stock 테이블에 한번의 batch update 로 반영한다.")
+    @Test
+    void flush() {
+        //given
+        given(stockRepository.findAllByProductNumberInAndBucket(anyList(), eq(Stock.DEFAULT_BUCKET)))
+                .willReturn(List.of(Stock.create("001", 5), Stock.create("002", 5)));
+        stockLedger.deductAll(Map.of("001", 2, "002", 1));
+        stockLedger.deductAll(Map.of("001", 1));
+
+        //when
+        stockLedger.flush();
+
+        //then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+
+        List<String> flushed = new ArrayList<>();
+        captor.getValue().forEach(args -> flushed.add(args[1] + ":" + args[0]));
+        assertThat(flushed).containsExactlyInAnyOrder("001:3", "002:1");
+    }
+
+    @DisplayName("원장에 읽어오지 않은 상품의 재고를 되돌리면 먼저 읽어온 뒤 되돌리고, 되돌린 수량도 stock 테이블에 반영한다.")
+    @Test
+    void restoreAfterCommitWithNotLoadedEntry() {
+        //given
+        given(stockRepository.findAllByProductNumberInAndBucket(anyList(), eq(Stock.DEFAULT_BUCKET)))
+                .willReturn(List.of(Stock.create("001", 3)));
+
+        //when
+        stockLedger.restoreAfterCommit(Map.of("001", 2));
+        stockLedger.flush();
+
+        //then
+        assertThat(stockLedger.getAvailableQuantity("001")).isEqualTo(5);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue())
+                .extracting(args -> args[1] + ":" + args[0])
+                .containsExactly("001:-2");
+    }
+}
@@ -0,0 +1,194 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.ProductRepository;
+import sample.cafekiosk.spring.domain.ProductType;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.sales.HourlySalesRepository;
+import sample.cafekiosk.spring.domain.sales.ProductDailySalesRepository;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+import sample.cafekiosk.spring.domain.stock.StockReservationRepository;
+import sample.cafekiosk.spring.domain.stock.StockReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.domain.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.ProductType.BOTTLE;
+import static sample.cafekiosk.spring.domain.ProductType.HANDMADE;
+
+class StockReservationServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private HourlySalesRepository hourlySalesRepository;
+
+    @Autowired
+    private ProductDailySalesRepository productDailySalesRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        stockRepository.deleteAllInBatch();
+        stockReservationRepository.deleteAllInBatch();
+        hourlySalesRepository.deleteAllInBatch();
+        productDailySalesRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("주문을 생성하면 차감한 재고만큼 예약이 잡힌다.")
+    @Test
+    void hold() {
+        //given
+        OrderResponse order = createOrderWithStock();
+
+        //when
+        //then
+        assertThat(stockReservationRepository.findAllByOrderId(order.getId()))
+                .extracting("productNumber", "quantity", "status")
+                .containsExactly(tuple("001", 2, StockReservationStatus.HELD));
+        assertThat(stockRepository.findAll().get(0).getQuantity()).isEqualTo(1);
+    }
+
+    @DisplayName("결제가 완료되면 예약이 확정되고 재고는 그대로다.")
+    @Test
+    void confirm() {
+        //given
+        OrderResponse order = createOrderWithStock();
+
+        //when
+        orderService.changeOrderStatus(order.getId(), OrderStatus.PAYMENT_COMPLETED);
+
+        //then
+        assertThat(stockReservationRepository.findAllByOrderId(order.getId()))
+                .extracting("status")
+                .containsExactly(StockReservationStatus.CONFIRMED);
+        assertThat(stockRepository.findAll().get(0).getQuantity()).isEqualTo(1);
+    }
+
+    @DisplayName("결제에 실패하면 예약이 해제되고 재고가 되돌아간다.")
+    @Test
+    void releaseWithPaymentFailed() {
+        //given
+        OrderResponse order = createOrderWithStock();
+
+        //when
+        orderService.changeOrderStatus(order.getId(), OrderStatus.PAYMENT_FAILED);
+
+        //then
+        assertThat(stockReservationRepository.findAllByOrderId(order.getId()))
+                .extracting("status")
+                .containsExactly(StockReservationStatus.RELEASED);
+        assertThat(stockRepository.findAll().get(0).getQuantity()).isEqualTo(3);
+    }
+
+    @DisplayName("결제 후 주문을 취소해도 예약이 해제되고 재고가 되돌아간다.")
+    @Test
+    void releaseWithCanceledAfterPayment() {
+        //given
+        OrderResponse order = createOrderWithStock();
+        orderService.changeOrderStatus(order.getId(), OrderStatus.PAYMENT_COMPLETED);
+
+        //when
+        orderService.changeOrderStatus(order.getId(), OrderStatus.CANCELED);
+
+        //then
+        assertThat(stockReservationRepository.findAllByOrderId(order.getId()))
+                .extracting("status")
+                .containsExactly(StockReservationStatus.RELEASED);
+        assertThat(stockRepository.findAll().get(0).getQuantity()).isEqualTo(3);
+    }
+
+    @DisplayName("결정되지 않은 예약이 만료되면 재고가 되돌아가고 주문이 취소된다.")
+    @Test
+    void expire() {
+        //given
+        OrderResponse order = createOrderWithStock();
+
+        //when
+        stockReservationService.expire(order.getId());
+
+        //then
+        assertThat(stockReservationRepository.findAllByOrderId(order.getId()))
+                .extracting("status")
+                .containsExactly(StockReservationStatus.EXPIRED);
+        assertThat(stockRepository.findAll().get(0).getQuantity()).isEqualTo(3);
+        assertThat(orderRepository.findById(order.getId())).get()
+                .extracting("orderStatus")
+                .isEqualTo(OrderStatus.CANCELED);
+    }
+
+    @DisplayName("이미 확정된 예약은 만료되지 않는다.")
+    @Test
+    void expireAfterConfirm() {
+        //given
+        OrderResponse order = createOrderWithStock();
+        orderService.changeOrderStatus(order.getId(), OrderStatus.PAYMENT_COMPLETED);
+
+        //when
+        stockReservationService.expire(order.getId());
+
+        //then
+        assertThat(stockReservationRepository.findAllByOrderId(order.getId()))
+                .extracting("status")
+                .containsExactly(StockReservationStatus.CONFIRMED);
+        assertThat(stockRepository.findAll().get(0).getQuantity()).isEqualTo(1);
+        assertThat(orderRepository.findById(order.getId())).get()
+                .extracting("orderStatus")
+                .isEqualTo(OrderStatus.PAYMENT_COMPLETED);
+    }
+
+    private OrderResponse createOrderWithStock() {
+        productRepository.saveAll(List.of(createProduct(BOTTLE, "001"), createProduct(HANDMADE, "002")));
+        stockRepository.save(Stock.create("001", 3));
+
+        OrderCreateServiceRequest request = OrderCreateServiceRequest.builder()
+                .productNumbers(List.of("001", "001", "002"))
+                .build();
+        return orderService.createOrder(request, LocalDateTime.now());
+    }
+
+    private Product createProduct(ProductType type, String productNumber) {
+        return Product.builder()
+                .type(type)
+                .productNumber(productNumber)
+                .price(1000)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .build();
+    }
+}
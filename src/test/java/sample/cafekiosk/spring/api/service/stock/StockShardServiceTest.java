@@ -0,0 +1,81 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.stock.response.StockResponse;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class StockShardServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private StockShardService stockShardService;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @AfterEach
+    void tearDown() {
+        stockRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("상품의 재고를 여러 bucket 으로 고르게 나눈다.")
+    @Test
+    void rebalance() {
+        //given
+        stockRepository.save(Stock.create("001", 10));
+
+        //when
+        StockResponse response = stockShardService.rebalance("001", 3);
+
+        //then
+        assertThat(response)
+                .extracting("productNumber", "quantity", "bucketCount")
+                .contains("001", 10, 3);
+        assertThat(stockRepository.findAll())
+                .extracting("bucket", "quantity")
+                .containsExactlyInAnyOrder(
+                        tuple(0, 4),
+                        tuple(1, 3),
+                        tuple(2, 3)
+                );
+    }
+
+    @DisplayName("bucket 수를 줄이면 없어지는 bucket 의 수량을 남은 bucket 으로 옮긴다.")
+    @Test
+    void rebalanceToFewerBuckets() {
+        //given
+        stockRepository.saveAll(List.of(
+                Stock.createBucket("001", 0, 1),
+                Stock.createBucket("001", 1, 2),
+                Stock.createBucket("001", 2, 3)
+        ));
+
+        //when
+        stockShardService.rebalance("001", 1);
+
+        //then
+        assertThat(stockRepository.findAll())
+                .extracting("bucket", "quantity")
+                .containsExactly(tuple(0, 6));
+        assertThat(stockRepository.sumQuantityByProductNumber("001")).isEqualTo(6);
+    }
+
+    @DisplayName("재고가 없는 상품은 bucket 을 나눌 수 없다.")
+    @Test
+    void rebalanceWithoutStock() {
+        //when //then
+        assertThatThrownBy(() -> stockShardService.rebalance("001", 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재고가 없는 상품입니다.");
+    }
+}
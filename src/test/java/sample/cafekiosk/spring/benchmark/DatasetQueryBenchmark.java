@@ -0,0 +1,125 @@
+package sample.cafekiosk.spring.benchmark;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.product.ProductCatalogCache;
+import sample.cafekiosk.spring.api.service.product.ProductIndex;
+import sample.cafekiosk.spring.api.service.product.ProductService;
+import sample.cafekiosk.spring.api.service.sales.SalesReportService;
+import sample.cafekiosk.spring.api.service.sales.request.SalesReportServiceRequest;
+import sample.cafekiosk.spring.dataset.DatasetGenerator;
+import sample.cafekiosk.spring.dataset.DatasetSpec;
+import sample.cafekiosk.spring.domain.ProductRepository;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운영 규모 데이터에서의 조회 벤치마크
+ *
+ * DatasetGenerator 로 주문 이력(기본 1년, 평일 하루 3000건)을 채운 뒤
+ * 하루치 주문 조회(findOrdersBy), 마지막 날 keyset 페이지 조회, 마지막 30일 매출 보고서(GROUP BY),
+ * 판매 상품 목록 조회(캐시 없이)의 평균 시간을 잰다.
+ * ./gradlew benchmark --tests '*DatasetQueryBenchmark' -Ddataset.days=90 -Ddataset.orders-per-day=5000
+ */
+@Tag("benchmark")
+class DatasetQueryBenchmark extends IntegrationTestSupport {
+
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private SalesReportService salesReportService;
+
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+
+    @Autowired
+    private ProductIndex productIndex;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        stockRepository.deleteAllInBatch();
+        productCatalogCache.invalidate();
+        productIndex.reload();
+    }
+
+    @DisplayName("주문 이력이 많아도 하루치 조회와 keyset 페이지 조회 시간이 기간 전체에 비례해 늘지 않는다.")
+    @Test
+    void queriesOnProductionSizedData() {
+        DatasetSpec spec = DatasetSpec.fromSystemProperties();
+
+        long started = System.nanoTime();
+        DatasetGenerator.Dataset dataset = new DatasetGenerator(jdbcTemplate).generate(spec);
+        double loadSeconds = (System.nanoTime() - started) / 1e9;
+        productCatalogCache.invalidate();
+        productIndex.reload();
+
+        LocalDateTime lastDay = spec.getStartDate().plusDays(spec.getDays() - 1L).atStartOfDay();
+
+        double findOrdersBy = averageMillis(() ->
+                orderRepository.findOrdersBy(lastDay, lastDay.plusDays(1), OrderStatus.COMPLETED));
+        double keysetPage = averageMillis(() ->
+                orderRepository.findIdsAfter(lastDay, lastDay.plusDays(1), null, lastDay.plusHours(12), 0L, Limit.of(21)));
+        SalesReportServiceRequest monthReport = SalesReportServiceRequest.builder()
+                .from(lastDay.toLocalDate().minusDays(29))
+                .to(lastDay.toLocalDate())
+                .build();
+        double salesReport = averageMillis(() -> salesReportService.getReport(monthReport));
+        double sellingProducts = averageMillis(() -> {
+            productCatalogCache.invalidate();
+            return productService.getSellingProducts();
+        });
+
+        System.out.printf("%ndataset  products=%d orders=%d order_products=%d (%.1fs, %.0f rows/s)%n",
+                dataset.products().size(), dataset.orderCount(), dataset.orderProductCount(), loadSeconds,
+                (dataset.orderCount() + dataset.orderProductCount()) / loadSeconds);
+        System.out.printf("%-28s %10.2f ms%n", "findOrdersBy (1 day)", findOrdersBy);
+        System.out.printf("%-28s %10.2f ms%n", "findIdsAfter (page of 20)", keysetPage);
+        System.out.printf("%-28s %10.2f ms%n", "salesReport (30 days)", salesReport);
+        System.out.printf("%-28s %10.2f ms%n", "getSellingProducts (cold)", sellingProducts);
+
+        assertThat(orderRepository.count()).isEqualTo(dataset.orderCount());
+    }
+
+    private static double averageMillis(Supplier<?> query) {
+        query.get(); // warm up
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - started) / 1e6 / ITERATIONS;
+    }
+}
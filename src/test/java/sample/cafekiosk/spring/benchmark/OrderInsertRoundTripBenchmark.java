@@ -0,0 +1,110 @@
+package sample.cafekiosk.spring.benchmark;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.ProductRepository;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.ProductType.HANDMADE;
+
+/**
+ * 주문 크기별 DB round trip 수 벤치마크
+ *
+ * Hibernate 통계의 prepared statement 수를 round trip 수로 본다. (JDBC batch 하나는 prepare 한번으로 잡힌다)
+ * IDENTITY 전략에서는 insert 마다 id 를 받아와야 해서 상품 N개 주문이 N+1 번 이상이었다.
+ * ./gradlew benchmark --tests '*OrderInsertRoundTripBenchmark'
+ */
+@Tag("benchmark")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderInsertRoundTripBenchmark extends IntegrationTestSupport {
+
+    private static final int[] ORDER_SIZES = {1, 5, 10, 50};
+    private static final int ORDERS_PER_SIZE = 100;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("주문 크기가 커져도 주문당 round trip 수는 거의 늘지 않는다.")
+    @Test
+    void roundTripsPerOrder() {
+        List<String> productNumbers = createProducts(ORDER_SIZES[ORDER_SIZES.length - 1]);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-10s %14s %14s", "items", "round trips", "per order"));
+
+        for (int size : ORDER_SIZES) {
+            OrderCreateServiceRequest request = OrderCreateServiceRequest.builder()
+                    .productNumbers(productNumbers.subList(0, size))
+                    .build();
+
+            statistics.clear();
+            for (int i = 0; i < ORDERS_PER_SIZE; i++) {
+                orderService.createOrder(request, LocalDateTime.now());
+            }
+            long roundTrips = statistics.getPrepareStatementCount();
+            double perOrder = (double) roundTrips / ORDERS_PER_SIZE;
+
+            report.add(String.format("%-10d %14d %14.2f", size, roundTrips, perOrder));
+            if (size >= 10) {
+                assertThat(perOrder).isLessThan(size);
+            }
+        }
+
+        report.forEach(System.out::println);
+    }
+
+    private List<String> createProducts(int count) {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            products.add(Product.builder()
+                    .type(HANDMADE)
+                    .productNumber(String.format("R%03d", i))
+                    .price(1000)
+                    .sellingStatus(SELLING)
+                    .name("메뉴 이름")
+                    .build());
+        }
+        productRepository.saveAll(products);
+        return products.stream()
+                .map(Product::getProductNumber)
+                .toList();
+    }
+}
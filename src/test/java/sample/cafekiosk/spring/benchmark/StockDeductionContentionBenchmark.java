@@ -0,0 +1,158 @@
+package sample.cafekiosk.spring.benchmark;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.stock.StockDeductionMode;
+import sample.cafekiosk.spring.api.service.stock.StockDeductionStrategies;
+import sample.cafekiosk.spring.api.service.stock.StockDeductionStrategy;
+import sample.cafekiosk.spring.api.service.stock.StockLedger;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+import sample.cafekiosk.spring.domain.stock.StockShards;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 차감 방식별 경합 벤치마크
+ *
+ * 같은 작업량(스레드 수, 주문 수, 인기 상품 쏠림)으로 각 방식의 처리량과 p99 지연시간을 비교한다.
+ * ./gradlew benchmark --tests '*StockDeductionContentionBenchmark'
+ */
+@Tag("benchmark")
+class StockDeductionContentionBenchmark extends IntegrationTestSupport {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int ORDERS_PER_THREAD = 200;
+    private static final int PRODUCT_COUNT = 4;
+    private static final int INITIAL_QUANTITY = 100_000;
+    private static final int SHARD_BUCKET_COUNT = 4; // SHARDED 방식에서 상품별 재고 행 수
+    private static final double HOT_PRODUCT_RATIO = 0.7; // 주문의 70%가 첫번째 상품에 몰린다.
+
+    @Autowired
+    private StockDeductionStrategies stockDeductionStrategies;
+
+    @Autowired
+    private StockLedger stockLedger;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        stockRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("재고 차감 방식별 처리량과 p99 지연시간을 비교한다.")
+    @Test
+    void compareStrategies() throws InterruptedException {
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-12s %10s %8s %10s %10s", "mode", "orders/s", "failed", "p50(ms)", "p99(ms)"));
+
+        for (StockDeductionMode mode : StockDeductionMode.values()) {
+            report.add(run(mode));
+        }
+
+        report.forEach(System.out::println);
+    }
+
+    private String run(StockDeductionMode mode) throws InterruptedException {
+        List<String> productNumbers = createStocks(mode);
+        StockDeductionStrategy strategy = stockDeductionStrategies.get(mode);
+
+        long[] latencies = new long[THREAD_COUNT * ORDERS_PER_THREAD];
+        AtomicInteger cursor = new AtomicInteger();
+        AtomicInteger deductedQuantity = new AtomicInteger();
+        AtomicInteger failedCount = new AtomicInteger();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < ORDERS_PER_THREAD; j++) {
+                        String productNumber = pickProductNumber(productNumbers);
+                        long begin = System.nanoTime();
+                        try {
+                            transactionTemplate.executeWithoutResult(status -> strategy.deduct(Map.of(productNumber, 1)));
+                            deductedQuantity.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            failedCount.incrementAndGet();
+                        }
+                        latencies[cursor.getAndIncrement()] = System.nanoTime() - begin;
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(5, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - startedAt;
+        executorService.shutdown();
+
+        if (mode == StockDeductionMode.LEDGER) {
+            stockLedger.flush();
+        }
+
+        // 성공한 차감 수량과 실제로 줄어든 재고가 같아야 한다. (oversell 검증)
+        int remaining = stockRepository.findAllByProductNumberIn(productNumbers).stream()
+                .mapToInt(Stock::getQuantity)
+                .sum();
+        assertThat(INITIAL_QUANTITY * PRODUCT_COUNT - remaining).isEqualTo(deductedQuantity.get());
+
+        Arrays.sort(latencies);
+        double throughput = deductedQuantity.get() / (elapsed / 1_000_000_000.0);
+        return String.format("%-12s %10.0f %8d %10.2f %10.2f",
+                mode, throughput, failedCount.get(), percentile(latencies, 0.50), percentile(latencies, 0.99));
+    }
+
+    private List<String> createStocks(StockDeductionMode mode) {
+        int bucketCount = mode == StockDeductionMode.SHARDED ? SHARD_BUCKET_COUNT : 1;
+
+        List<String> productNumbers = new ArrayList<>();
+        List<Stock> stocks = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            // 메모리 원장이 이전 방식의 재고를 캐시하지 않도록 방식마다 다른 상품번호를 쓴다.
+            String productNumber = String.format("B%d%02d", mode.ordinal(), i);
+            productNumbers.add(productNumber);
+            for (int bucket = 0; bucket < bucketCount; bucket++) {
+                stocks.add(Stock.createBucket(productNumber, bucket, StockShards.shareOf(INITIAL_QUANTITY, bucketCount, bucket)));
+            }
+        }
+        stockRepository.saveAll(stocks);
+        return productNumbers;
+    }
+
+    private static String pickProductNumber(List<String> productNumbers) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < HOT_PRODUCT_RATIO) {
+            return productNumbers.get(0);
+        }
+        return productNumbers.get(1 + random.nextInt(productNumbers.size() - 1));
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,279 @@
+package sample.cafekiosk.spring.dataset;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.ProductType;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.stock.Stock;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크/부하 테스트용 대량 데이터 생성기 (상품, 재고, 주문, 주문 줄)
+ *
+ * JPA 를 거치지 않고 JdbcTemplate batch insert 로 바로 넣는다. (수백만 행을 엔티티로 만들지 않는다)
+ * 주문 시각은 출근/점심/오후 시간대에 몰리고, 상품은 Zipf 분포로 인기 상품에 몰린다.
+ * seed 가 같고 테이블이 같은 상태에서 시작하면 항상 같은 행이 만들어진다.
+ *
+ * id 는 각 테이블의 max(id) 다음부터 직접 채우고, 끝나면 시퀀스를 그 뒤로 옮긴다.
+ * 애플리케이션이 주문을 받는 중에 실행하면 id 가 겹칠 수 있으므로 테스트 준비 단계에서만 쓴다.
+ * 엔티티 리스너/도메인 이벤트를 거치지 않으므로 판매 상품 캐시/상품 인덱스는 직접 invalidate 하고,
+ * 매출 집계가 필요하면 SalesAggregateService.rebuild 로 날짜별로 다시 계산한다.
+ */
+public class DatasetGenerator {
+
+    private static final String INSERT_PRODUCT = "insert into product " +
+            "(id, product_number, type, selling_status, name, price, create_date_time, modified_date_time) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_STOCK = "insert into stock " +
+            "(id, product_number, bucket, quantity, version, create_date_time, modified_date_time) " +
+            "values (?, ?, ?, ?, 0, ?, ?)";
+    private static final String INSERT_ORDER = "insert into orders " +
+            "(id, order_status, total_price, registered_date_time, create_date_time, modified_date_time) " +
+            "values (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER_PRODUCT = "insert into order_product " +
+            "(id, order_id, product_id, product_number, product_name, product_type, product_price, quantity, create_date_time, modified_date_time) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 시간대별 주문 비중 (7시 ~ 21시 영업)
+    private static final int OPEN_HOUR = 7;
+    private static final int[] HOURLY_WEIGHTS = {4, 10, 8, 5, 7, 10, 8, 5, 6, 5, 5, 4, 3, 2, 1};
+    private static final double WEEKEND_FACTOR = 1.3;
+
+    // 주문 줄 수 (1 ~ 5줄) 비중
+    private static final int[] LINE_COUNT_WEIGHTS = {50, 30, 12, 5, 3};
+
+    // 매출 통계는 결제완료(PAYMENT_COMPLETED) 주문만 집계하므로 그 비중을 넉넉히 둔다.
+    private static final OrderStatus[] STATUSES = {
+            OrderStatus.COMPLETED, OrderStatus.PAYMENT_COMPLETED, OrderStatus.CANCELED, OrderStatus.PAYMENT_FAILED, OrderStatus.INIT
+    };
+    private static final int[] STATUS_WEIGHTS = {58, 30, 6, 4, 2};
+
+    private static final ProductType[] TYPES = ProductType.values();
+    private static final int[] PRICES = {1500, 2000, 2500, 3000, 3500, 4000, 4500, 5000, 5500, 6000};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DatasetGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 상품과 재고를 만들고, 그 상품들로 주문 이력을 채운다.
+     */
+    public Dataset generate(DatasetSpec spec) {
+        SplittableRandom random = new SplittableRandom(spec.getSeed());
+        List<DatasetProduct> products = insertProducts(spec, random);
+        insertStocks(spec, products);
+        return insertOrders(spec, products, random);
+    }
+
+    /**
+     * 이미 저장된 상품들로 주문 이력만 채운다. (부하 테스트처럼 상품을 따로 만든 경우)
+     */
+    public Dataset generateOrders(DatasetSpec spec, List<Product> products) {
+        List<DatasetProduct> datasetProducts = products.stream()
+                .map(DatasetProduct::of)
+                .toList();
+        return insertOrders(spec, datasetProducts, new SplittableRandom(spec.getSeed()));
+    }
+
+    private List<DatasetProduct> insertProducts(DatasetSpec spec, SplittableRandom random) {
+        long nextId = maxId("product") + 1;
+        long nextNumber = maxProductNumber() + 1;
+        Timestamp now = Timestamp.valueOf(spec.getStartDate().atStartOfDay());
+
+        List<DatasetProduct> products = new ArrayList<>(spec.getProductCount());
+        List<Object[]> batchArgs = new ArrayList<>(spec.getProductCount());
+        for (int i = 0; i < spec.getProductCount(); i++) {
+            ProductType type = TYPES[random.nextInt(TYPES.length)];
+            DatasetProduct product = new DatasetProduct(
+                    nextId++,
+                    String.format("%03d", nextNumber++),
+                    type.getText() + " " + (i + 1),
+                    type,
+                    PRICES[random.nextInt(PRICES.length)]
+            );
+            products.add(product);
+            batchArgs.add(new Object[]{
+                    product.id(), product.productNumber(), type.name(), ProductSellingStatus.SELLING.name(),
+                    product.name(), product.price(), now, now
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT, batchArgs);
+        restartSequence("product_seq", nextId);
+        // 상품 번호 카운터는 다음 발급 때 저장된 최대 번호부터 다시 만든다.
+        jdbcTemplate.update("delete from product_number_counter");
+        return products;
+    }
+
+    private void insertStocks(DatasetSpec spec, List<DatasetProduct> products) {
+        long nextId = maxId("stock") + 1;
+        Timestamp now = Timestamp.valueOf(spec.getStartDate().atStartOfDay());
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (DatasetProduct product : products) {
+            if (ProductType.containsStockType(product.type())) {
+                batchArgs.add(new Object[]{
+                        nextId++, product.productNumber(), Stock.DEFAULT_BUCKET, spec.getInitialStock(), now, now
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_STOCK, batchArgs);
+        restartSequence("stock_seq", nextId);
+    }
+
+    private Dataset insertOrders(DatasetSpec spec, List<DatasetProduct> products, SplittableRandom random) {
+        if (products.isEmpty()) {
+            throw new IllegalArgumentException("주문을 만들 상품이 없습니다.");
+        }
+        ZipfianGenerator productSampler = new ZipfianGenerator(products.size(), spec.getZipfExponent());
+        int totalHourlyWeight = sum(HOURLY_WEIGHTS);
+
+        long nextOrderId = maxId("orders") + 1;
+        long nextOrderProductId = maxId("order_product") + 1;
+        long orderCount = 0;
+        long orderProductCount = 0;
+
+        List<Object[]> orderArgs = new ArrayList<>(spec.getBatchSize());
+        List<Object[]> orderProductArgs = new ArrayList<>(spec.getBatchSize() * 2);
+        List<DatasetProduct> lineProducts = new ArrayList<>();
+        for (int day = 0; day < spec.getDays(); day++) {
+            LocalDate date = spec.getStartDate().plusDays(day);
+            int ordersOfDay = ordersOfDay(spec, date, random);
+
+            for (int hourIndex = 0; hourIndex < HOURLY_WEIGHTS.length; hourIndex++) {
+                int ordersOfHour = (int) Math.round((double) ordersOfDay * HOURLY_WEIGHTS[hourIndex] / totalHourlyWeight);
+                LocalDateTime hourStart = date.atTime(OPEN_HOUR + hourIndex, 0);
+
+                // 한 시간 안의 주문 시각은 정렬해서 만든다. (실제처럼 id 와 주문 시각 순서가 같다)
+                long[] seconds = new long[ordersOfHour];
+                for (int i = 0; i < ordersOfHour; i++) {
+                    seconds[i] = random.nextLong(3_600);
+                }
+                Arrays.sort(seconds);
+
+                for (int i = 0; i < ordersOfHour; i++) {
+                    Timestamp registered = Timestamp.valueOf(hourStart.plusSeconds(seconds[i]));
+                    long orderId = nextOrderId++;
+
+                    pickLineProducts(products, productSampler, random, lineProducts);
+                    int totalPrice = 0;
+                    for (DatasetProduct product : lineProducts) {
+                        int quantity = random.nextInt(10) == 0 ? 2 : 1;
+                        totalPrice += product.price() * quantity;
+                        orderProductArgs.add(new Object[]{
+                                nextOrderProductId++, orderId, product.id(), product.productNumber(), product.name(),
+                                product.type().name(), product.price(), quantity, registered, registered
+                        });
+                    }
+                    OrderStatus status = STATUSES[weightedIndex(STATUS_WEIGHTS, random)];
+                    orderArgs.add(new Object[]{orderId, status.ordinal(), totalPrice, registered, registered, registered});
+
+                    orderCount++;
+                    orderProductCount += lineProducts.size();
+                    if (orderArgs.size() >= spec.getBatchSize()) {
+                        flush(orderArgs, orderProductArgs);
+                    }
+                }
+            }
+        }
+        flush(orderArgs, orderProductArgs);
+
+        restartSequence("orders_seq", nextOrderId);
+        restartSequence("order_product_seq", nextOrderProductId);
+        return new Dataset(products, orderCount, orderProductCount);
+    }
+
+    private static int ordersOfDay(DatasetSpec spec, LocalDate date, SplittableRandom random) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        double factor = dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY ? WEEKEND_FACTOR : 1.0;
+        // 하루 주문 수는 평균의 ±20% 안에서 흔들린다.
+        double noise = 0.8 + random.nextDouble() * 0.4;
+        return (int) Math.round(spec.getOrdersPerDay() * factor * noise);
+    }
+
+    /**
+     * 주문 줄 수를 고르고, 서로 다른 상품을 인기도에 따라 뽑는다.
+     */
+    private static void pickLineProducts(List<DatasetProduct> products, ZipfianGenerator productSampler,
+                                         SplittableRandom random, List<DatasetProduct> lineProducts) {
+        lineProducts.clear();
+        int lineCount = Math.min(weightedIndex(LINE_COUNT_WEIGHTS, random) + 1, products.size());
+        while (lineProducts.size() < lineCount) {
+            DatasetProduct product = products.get(productSampler.next(random));
+            if (!lineProducts.contains(product)) {
+                lineProducts.add(product);
+            }
+        }
+    }
+
+    private void flush(List<Object[]> orderArgs, List<Object[]> orderProductArgs) {
+        if (!orderArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ORDER, orderArgs);
+            orderArgs.clear();
+        }
+        if (!orderProductArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ORDER_PRODUCT, orderProductArgs);
+            orderProductArgs.clear();
+        }
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    /**
+     * 숫자로만 된 상품 번호 중 가장 큰 값 (ProductRepository.findMaxProductNumber 와 같은 조건, R001 같은 번호는 제외)
+     */
+    private long maxProductNumber() {
+        Long max = jdbcTemplate.queryForObject("select max(cast(product_number as bigint)) from product " +
+                "where regexp_like(product_number, '^[0-9]+$')", Long.class);
+        return max == null ? 0 : max;
+    }
+
+    /**
+     * 시퀀스(allocationSize 50)를 직접 넣은 id 뒤로 옮긴다. 한 블록만큼 더 띄워 Hibernate 가 받는 범위와 겹치지 않게 한다.
+     */
+    private void restartSequence(String sequence, long nextId) {
+        jdbcTemplate.execute("alter sequence " + sequence + " restart with " + (nextId + 50));
+    }
+
+    private static int weightedIndex(int[] weights, SplittableRandom random) {
+        int value = random.nextInt(sum(weights));
+        for (int i = 0; i < weights.length; i++) {
+            value -= weights[i];
+            if (value < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static int sum(int[] values) {
+        int sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    public record DatasetProduct(Long id, String productNumber, String name, ProductType type, int price) {
+
+        static DatasetProduct of(Product product) {
+            return new DatasetProduct(product.getId(), product.getProductNumber(), product.getName(), product.getType(), product.getPrice());
+        }
+    }
+
+    public record Dataset(List<DatasetProduct> products, long orderCount, long orderProductCount) {
+    }
+}
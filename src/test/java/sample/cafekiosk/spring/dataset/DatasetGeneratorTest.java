@@ -0,0 +1,140 @@
+package sample.cafekiosk.spring.dataset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.ProductRepository;
+import sample.cafekiosk.spring.domain.ProductType;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.ProductType.HANDMADE;
+
+class DatasetGeneratorTest extends IntegrationTestSupport {
+
+    private static final String ORDER_ROWS = "select o.id, o.order_status, o.total_price, o.registered_date_time, " +
+            "op.product_number, op.quantity from orders o join order_product op on op.order_id = o.id order by o.id, op.id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    private DatasetGenerator datasetGenerator;
+
+    private final DatasetSpec spec = DatasetSpec.builder()
+            .seed(7L)
+            .productCount(20)
+            .initialStock(100)
+            .startDate(LocalDate.of(2024, 3, 1))
+            .days(3)
+            .ordersPerDay(100)
+            .batchSize(64)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        datasetGenerator = new DatasetGenerator(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        stockRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("상품, 재고 관리 상품의 재고, 기간 안의 주문과 주문 줄을 만든다.")
+    @Test
+    void generate() {
+        //when
+        DatasetGenerator.Dataset dataset = datasetGenerator.generate(spec);
+
+        //then
+        assertThat(productRepository.count()).isEqualTo(20);
+        long stockManaged = dataset.products().stream()
+                .filter(product -> ProductType.containsStockType(product.type()))
+                .count();
+        assertThat(stockRepository.count()).isEqualTo(stockManaged);
+
+        assertThat(orderRepository.count()).isEqualTo(dataset.orderCount()).isPositive();
+        assertThat(orderProductRepository.count()).isEqualTo(dataset.orderProductCount());
+
+        // 주문 총액은 주문 줄의 가격 * 수량 합과 같다.
+        Long mismatched = jdbcTemplate.queryForObject("select count(*) from orders o where o.total_price <> " +
+                "(select sum(op.product_price * op.quantity) from order_product op where op.order_id = o.id)", Long.class);
+        assertThat(mismatched).isZero();
+
+        LocalDateTime from = spec.getStartDate().atStartOfDay();
+        List<Order> orders = orderRepository.findOrdersBy(from, from.plusDays(spec.getDays()), OrderStatus.COMPLETED);
+        assertThat(orders).isNotEmpty()
+                .allSatisfy(order -> assertThat(order.getRegisteredDateTime().getHour()).isBetween(7, 21));
+    }
+
+    @DisplayName("seed 가 같으면 같은 주문이 만들어진다.")
+    @Test
+    void generateWithSameSeed() {
+        //given
+        datasetGenerator.generate(spec);
+        List<Map<String, Object>> first = jdbcTemplate.queryForList(ORDER_ROWS);
+        tearDown();
+
+        //when
+        datasetGenerator.generate(spec);
+        List<Map<String, Object>> second = jdbcTemplate.queryForList(ORDER_ROWS);
+
+        //then
+        assertThat(second).hasSameSizeAs(first);
+        for (int i = 0; i < first.size(); i++) {
+            assertThat(second.get(i).get("PRODUCT_NUMBER")).isEqualTo(first.get(i).get("PRODUCT_NUMBER"));
+            assertThat(second.get(i).get("TOTAL_PRICE")).isEqualTo(first.get(i).get("TOTAL_PRICE"));
+            assertThat(second.get(i).get("REGISTERED_DATE_TIME")).isEqualTo(first.get(i).get("REGISTERED_DATE_TIME"));
+        }
+    }
+
+    @DisplayName("생성한 뒤에도 JPA 로 저장하는 행의 id 가 생성된 행과 겹치지 않는다.")
+    @Test
+    void saveAfterGenerate() {
+        //given
+        datasetGenerator.generate(spec);
+        long productCount = productRepository.count();
+
+        //when
+        productRepository.save(Product.builder()
+                .productNumber("999")
+                .type(HANDMADE)
+                .sellingStatus(SELLING)
+                .name("아메리카노")
+                .price(4000)
+                .build());
+
+        //then
+        assertThat(productRepository.count()).isEqualTo(productCount + 1);
+    }
+}
@@ -0,0 +1,58 @@
+package sample.cafekiosk.spring.dataset;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 생성할 데이터셋의 크기와 분포. seed 가 같으면 같은 데이터가 만들어진다.
+ */
+@Getter
+@Builder
+public class DatasetSpec {
+
+    @Builder.Default
+    private final long seed = 42L;
+
+    @Builder.Default
+    private final int productCount = 50;
+
+    @Builder.Default
+    private final int initialStock = 10_000;
+
+    // 첫 주문일 (이 날부터 days 일 동안의 주문을 만든다)
+    @Builder.Default
+    private final LocalDate startDate = LocalDate.of(2024, 1, 1);
+
+    @Builder.Default
+    private final int days = 365;
+
+    // 평일 하루 평균 주문 수 (주말은 WEEKEND_FACTOR 배)
+    @Builder.Default
+    private final int ordersPerDay = 3_000;
+
+    // 상품 인기도 쏠림 정도 (0 이면 균등)
+    @Builder.Default
+    private final double zipfExponent = 1.0;
+
+    // 한번의 JDBC batch 로 넣는 행 수
+    @Builder.Default
+    private final int batchSize = 5_000;
+
+    /**
+     * -Ddataset.days=30 처럼 넘긴 값으로 기본값을 덮어쓴다. (benchmark, loadTest 태스크에서 사용)
+     */
+    public static DatasetSpec fromSystemProperties() {
+        return DatasetSpec.builder()
+                .seed(Long.getLong("dataset.seed", 42L))
+                .productCount(Integer.getInteger("dataset.products", 50))
+                .initialStock(Integer.getInteger("dataset.stock", 10_000))
+                .startDate(LocalDate.parse(System.getProperty("dataset.start-date", "2024-01-01")))
+                .days(Integer.getInteger("dataset.days", 365))
+                .ordersPerDay(Integer.getInteger("dataset.orders-per-day", 3_000))
+                .zipfExponent(Double.parseDouble(System.getProperty("dataset.zipf", "1.0")))
+                .batchSize(Integer.getInteger("dataset.batch-size", 5_000))
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package sample.cafekiosk.spring.dataset;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * 0 ~ n-1 중 앞쪽 번호가 더 자주 나오는 Zipf 분포 샘플러 (인기 상품 쏠림 재현)
+ * exponent 가 0 이면 균등 분포, 클수록 소수의 상품에 몰린다.
+ */
+public class ZipfianGenerator {
+
+    private final double[] cumulative;
+
+    public ZipfianGenerator(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n 은 양수여야 합니다.");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    public int next() {
+        return next(ThreadLocalRandom.current());
+    }
+
+    /**
+     * 같은 seed 의 random 을 넘기면 같은 순서로 나온다. (데이터셋 재현용)
+     */
+    public int next(RandomGenerator random) {
+        double u = random.nextDouble();
+        int index = Arrays.binarySearch(cumulative, u);
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
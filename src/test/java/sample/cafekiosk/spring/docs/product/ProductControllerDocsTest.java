@@ -6,6 +6,7 @@ import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 import sample.cafekiosk.spring.api.controller.product.ProductController;
 import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
+import sample.cafekiosk.spring.api.service.product.ProductImportService;
 import sample.cafekiosk.spring.api.service.product.ProductService;
 import sample.cafekiosk.spring.api.service.product.request.ProductCreateServiceRequest;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
@@ -26,10 +27,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class ProductControllerDocsTest extends RestDocsSupport {
 
     private final ProductService productService = mock(ProductService.class);
+    private final ProductImportService productImportService = mock(ProductImportService.class);
 
     @Override
     protected Object initController(){
-        return new ProductController(productService);
+        return new ProductController(productService, productImportService);
     }
 
     @DisplayName("신규 상품을 등록하는 API")
@@ -6,9 +6,13 @@ import sample.cafekiosk.spring.domain.order.Order;
 import sample.cafekiosk.spring.domain.order.OrderStatus;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static sample.cafekiosk.spring.domain.ProductSellingStatus.SELLING;
 import static sample.cafekiosk.spring.domain.ProductType.HANDMADE;
 
@@ -34,6 +38,72 @@ class OrderTest {
         assertThat(order.getTotalPrice()).isEqualTo(3000);
     }
 
+    @DisplayName("주문 생성 시 상품별 수량으로 주문의 총 금액을 계산한다.")
+    @Test
+    void calculateTotalPriceWithQuantity(){
+
+        //given
+        Map<Product, Integer> productQuantities = new LinkedHashMap<>();
+        productQuantities.put(createProduct("001", 1000), 3);
+        productQuantities.put(createProduct("002", 2000), 2);
+
+        //when
+        Order order = Order.create(productQuantities, LocalDateTime.now());
+
+        //then
+        assertThat(order.getTotalPrice()).isEqualTo(7000);
+        assertThat(order.getOrderProducts()).hasSize(2)
+                .extracting("quantity")
+                .containsExactly(3, 2);
+    }
+
+    @DisplayName("같은 상품이 여러번 담긴 상품 리스트로 주문하면 수량을 합쳐 한 줄로 만든다.")
+    @Test
+    void createWithDuplicateProducts(){
+
+        //given
+        Product product = createProduct("001", 1000);
+
+        //when
+        Order order = Order.create(List.of(product, product, product), LocalDateTime.now());
+
+        //then
+        assertThat(order.getTotalPrice()).isEqualTo(3000);
+        assertThat(order.getOrderProducts()).hasSize(1)
+                .extracting("quantity")
+                .containsExactly(3);
+    }
+
+    @DisplayName("주문 생성 시 주문 줄에 주문 시점의 상품 정보를 복사해 둔다.")
+    @Test
+    void snapshotProduct(){
+
+        //given
+        Product product = createProduct("001", 1000);
+
+        //when
+        Order order = Order.create(List.of(product), LocalDateTime.now());
+
+        //then
+        assertThat(order.getOrderProducts()).hasSize(1)
+                .extracting("productNumber", "productName", "productType", "productPrice")
+                .containsExactly(tuple("001", "메뉴 이름", HANDMADE, 1000));
+    }
+
+    @DisplayName("주문 총액이 int 범위를 넘으면 음수로 저장하지 않고 예외가 발생한다.")
+    @Test
+    void createWithOverflowingTotalPrice(){
+
+        //given
+        Map<Product, Integer> productQuantities = new LinkedHashMap<>();
+        productQuantities.put(createProduct("001", 4000), 600000);
+
+        //when //then
+        assertThatThrownBy(() -> Order.create(productQuantities, LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 총액이 허용 범위를 넘습니다.");
+    }
+
     @DisplayName("주문 생성 시 주문 상태는 INIT이다.")
     @Test
     void init(){
@@ -69,6 +139,34 @@ class OrderTest {
         assertThat(order.getRegisteredDateTime()).isEqualTo(registeredDateTime);
     }
 
+    @DisplayName("주문 상태를 변경한다.")
+    @Test
+    void changeOrderStatus(){
+
+        //given
+        Order order = Order.create(List.of(createProduct("001", 1000)), LocalDateTime.now());
+
+        //when
+        order.changeOrderStatus(OrderStatus.PAYMENT_COMPLETED);
+
+        //then
+        assertThat(order.getOrderStatus()).isEqualByComparingTo(OrderStatus.PAYMENT_COMPLETED);
+    }
+
+    @DisplayName("정해진 방향이 아닌 주문 상태로는 변경할 수 없다.")
+    @Test
+    void changeOrderStatusWithInvalidStatus(){
+
+        //given
+        Order order = Order.create(List.of(createProduct("001", 1000)), LocalDateTime.now());
+        order.changeOrderStatus(OrderStatus.CANCELED);
+
+        //when //then
+        assertThatThrownBy(() -> order.changeOrderStatus(OrderStatus.PAYMENT_COMPLETED))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("변경할 수 없는 주문 상태입니다.");
+    }
+
     // product 를 생성하기 위한 메서드
     private Product createProduct(String productNumber, int price){
         return Product.builder()
@@ -51,36 +51,35 @@ class ProductRepositoryTest extends IntegrationTestSupport {
                 );
     }
 
-    @DisplayName("가장 마지막으로 저장한 상품의 상품번호를 읽어온다.")
+    @DisplayName("숫자로 된 상품번호 중 가장 큰 값을 읽어오고, 숫자가 아닌 상품번호는 제외한다.")
     @Test
-    void findLatestProduct(){
-        String targetProductNumber = "003";
+    void findMaxProductNumber(){
         //given
-        Product product1 = createProduct("001", HANDMADE, SELLING, "아메리카노", 4000);
-        Product product2 = createProduct("002", HANDMADE, HOLD, "카페라떼", 4500);
-        Product product3 = createProduct(targetProductNumber, HANDMADE, STOP_SELLING, "팥빙수", 7000);
+        Product product1 = createProduct("009", HANDMADE, SELLING, "아메리카노", 4000);
+        Product product2 = createProduct("1000", HANDMADE, HOLD, "카페라떼", 4500);
+        Product product3 = createProduct("R001", HANDMADE, STOP_SELLING, "팥빙수", 7000);
         productRepository.saveAll(List.of(product1,product2,product3));
 
         //when
-        String latestProductNumber = productRepository.findLatestProductNumber();
+        Long maxProductNumber = productRepository.findMaxProductNumber();
 
         //then
-        assertThat(latestProductNumber).isEqualTo(targetProductNumber);
+        assertThat(maxProductNumber).isEqualTo(1000L);
     }
 
-    @DisplayName("가장 마지막으로 저장한 상품의 상품번호를 읽어올때, 상품이 하나도 없는 경우에는 null을 반환한다.")
+    @DisplayName("숫자로 된 상품번호가 하나도 없는 경우에는 null을 반환한다.")
     @Test
-    void findLatestProductNumberWhenProductEmpty(){
+    void findMaxProductNumberWhenProductEmpty(){
+        //given
+        productRepository.save(createProduct("R001", HANDMADE, SELLING, "아메리카노", 4000));
 
         //when
-        String latestProductNumber = productRepository.findLatestProductNumber();
+        Long maxProductNumber = productRepository.findMaxProductNumber();
 
         //then
-        assertThat(latestProductNumber).isNull();
+        assertThat(maxProductNumber).isNull();
     }
 
-
-
     @DisplayName("상품번호 리스트로 상품들을 조회한다.")
     @Test
     void findAllByProductNumber(){
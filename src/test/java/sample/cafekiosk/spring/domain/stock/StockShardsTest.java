@@ -0,0 +1,86 @@
+package sample.cafekiosk.spring.domain.stock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StockShardsTest {
+
+    @DisplayName("여러 bucket 으로 나뉜 재고의 전체 수량은 bucket 수량의 합이다.")
+    @Test
+    void getQuantity() {
+        //given
+        StockShards stock = StockShards.of("001", List.of(
+                Stock.createBucket("001", 0, 1),
+                Stock.createBucket("001", 1, 2),
+                Stock.createBucket("001", 2, 3)
+        ));
+
+        //when
+        int quantity = stock.getQuantity();
+
+        //then
+        assertThat(quantity).isEqualTo(6);
+        assertThat(stock.getBucketCount()).isEqualTo(3);
+    }
+
+    @DisplayName("재고의 수량이 제공된 수량보다 작은지 전체 bucket 을 합쳐서 확인한다.")
+    @Test
+    void isQuantityLessThan() {
+        //given
+        StockShards stock = StockShards.of("001", List.of(
+                Stock.createBucket("001", 0, 1),
+                Stock.createBucket("001", 1, 1)
+        ));
+
+        //when //then
+        assertThat(stock.isQuantityLessThan(2)).isFalse();
+        assertThat(stock.isQuantityLessThan(3)).isTrue();
+    }
+
+    @DisplayName("한 bucket 으로 부족한 수량은 앞쪽 bucket 부터 비워가며 차감한다.")
+    @Test
+    void deductQuantity() {
+        //given
+        Stock bucket0 = Stock.createBucket("001", 0, 2);
+        Stock bucket1 = Stock.createBucket("001", 1, 2);
+        StockShards stock = StockShards.of("001", List.of(bucket1, bucket0));
+
+        //when
+        stock.deductQuantity(3);
+
+        //then
+        assertThat(bucket0.getQuantity()).isZero();
+        assertThat(bucket1.getQuantity()).isEqualTo(1);
+    }
+
+    @DisplayName("전체 재고보다 많은 수의 수량으로 차감 시도하는 경우 예외가 발생한다.")
+    @Test
+    void deductQuantityWithNoStock() {
+        //given
+        StockShards stock = StockShards.of("001", List.of(
+                Stock.createBucket("001", 0, 1),
+                Stock.createBucket("001", 1, 1)
+        ));
+
+        //when //then
+        assertThatThrownBy(() -> stock.deductQuantity(3))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("차감할 재고 수량이 없습니다.");
+    }
+
+    @DisplayName("전체 수량을 bucket 수로 나누고 나머지는 앞쪽 bucket 부터 하나씩 더 가진다.")
+    @Test
+    void shareOf() {
+        //when //then
+        assertThat(List.of(
+                StockShards.shareOf(10, 3, 0),
+                StockShards.shareOf(10, 3, 1),
+                StockShards.shareOf(10, 3, 2)
+        )).containsExactly(4, 3, 3);
+    }
+}
@@ -0,0 +1,340 @@
+package sample.cafekiosk.spring.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sample.cafekiosk.spring.api.service.stock.StockLedger;
+import sample.cafekiosk.spring.client.mail.MailSendClient;
+import sample.cafekiosk.spring.dataset.DatasetGenerator;
+import sample.cafekiosk.spring.dataset.DatasetSpec;
+import sample.cafekiosk.spring.dataset.ZipfianGenerator;
+import sample.cafekiosk.spring.domain.Product;
+import sample.cafekiosk.spring.domain.ProductRepository;
+import sample.cafekiosk.spring.domain.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.ProductType;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HTTP 부하 테스트 (내장 톰캣 + 인메모리 H2)
+ *
+ * POST /api/v1/orders/new 와 GET /api/v1/products/selling 을 섞어 보내고 처리량과 지연시간 분포(HdrHistogram)를 출력한다.
+ * 끝나면 성공한 주문의 상품별 수량 합이 (시작 재고 - 남은 재고) 와 같은지 확인한다. (초과 판매 검출)
+ *
+ * ./gradlew loadTest -Dloadtest.mode=open -Dloadtest.rate=500 -Dloadtest.duration=30
+ *
+ * loadtest.mode        closed(동시 사용자 수 고정) / open(초당 요청 수 고정, 응답을 기다리지 않음)
+ * loadtest.concurrency closed 모드의 동시 사용자 수
+ * loadtest.rate        open 모드의 초당 요청 수. 지연시간은 예정된 발송 시각부터 잰다. (coordinated omission 보정)
+ * loadtest.duration    실행 시간 (초)
+ * loadtest.products    상품 수, loadtest.stock 상품별 시작 재고
+ * loadtest.zipf        상품 쏠림 정도 (0 이면 균등)
+ * loadtest.read-ratio  전체 요청 중 판매 상품 조회 비율
+ * loadtest.history     true 면 시작 전에 DatasetGenerator 로 주문 이력을 채운다. (크기는 -Ddataset.days 등, DatasetSpec 참고)
+ * 재고 차감 방식 등 애플리케이션 설정은 -Dcafekiosk.stock.deduction-mode=LEDGER 처럼 그대로 넘길 수 있다.
+ */
+@Tag("loadtest")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.datasource.hikari.maximum-pool-size=32",
+                "spring.jpa.hibernate.ddl-auto=create",
+                "spring.jpa.show-sql=false",
+                "spring.sql.init.mode=never",
+                "server.tomcat.threads.max=200",
+                "server.error.include-message=always", // 재고 부족 거절을 다른 오류와 구분하기 위해
+                "cafekiosk.stock.reservation.ttl=1h", // 실행 중 예약이 만료되어 재고가 돌아오지 않도록
+                "logging.level.root=warn"
+        }
+)
+class OrderLoadTest {
+
+    private static final String MODE = System.getProperty("loadtest.mode", "closed");
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final int RATE = Integer.getInteger("loadtest.rate", 500);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration", 20);
+    private static final int PRODUCTS = Integer.getInteger("loadtest.products", 50);
+    private static final int STOCK = Integer.getInteger("loadtest.stock", 2_000);
+    private static final double ZIPF = Double.parseDouble(System.getProperty("loadtest.zipf", "1.1"));
+    private static final double READ_RATIO = Double.parseDouble(System.getProperty("loadtest.read-ratio", "0.3"));
+    private static final boolean HISTORY = Boolean.getBoolean("loadtest.history");
+    private static final int MAX_ITEMS_PER_ORDER = 3;
+    private static final String STOCK_SHORTAGE_MESSAGE = "재고가 부족한 상품이 있습니다.";
+
+    @MockBean
+    private MailSendClient mailSendClient;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private StockLedger stockLedger;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(Math.max(4, CONCURRENCY)))
+            .build();
+
+    // 범위를 넘는 지연시간도 기록할 수 있도록 자동으로 늘어나는 histogram 을 쓴다.
+    private final Histogram orderLatency = new ConcurrentHistogram(3);
+    private final Histogram readLatency = new ConcurrentHistogram(3);
+    private final LongAdder orderSuccesses = new LongAdder();
+    private final LongAdder orderRejections = new LongAdder();
+    private final LongAdder readSuccesses = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> errorCauses = new ConcurrentHashMap<>(); // "order 500" 처럼 요청 종류 + 상태 코드(또는 예외)
+    private final Map<String, LongAdder> orderedQuantities = new ConcurrentHashMap<>();
+
+    private List<Product> products;
+    private ZipfianGenerator productSampler;
+
+    @DisplayName("부하를 주는 동안 성공한 주문 수량만큼만 재고가 줄어든다.")
+    @Test
+    void load() throws Exception {
+        //given
+        setUpCatalog();
+        long startingStock = totalStock();
+
+        //when
+        long started = System.nanoTime();
+        if ("open".equals(MODE)) {
+            runOpenLoop();
+        } else {
+            runClosedLoop();
+        }
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        //then
+        stockLedger.flush();
+        report(elapsedSeconds);
+
+        long ordered = 0;
+        for (Product product : products) {
+            if (!ProductType.containsStockType(product.getType())) {
+                continue;
+            }
+            LongAdder quantity = orderedQuantities.get(product.getProductNumber());
+            long expected = quantity == null ? 0 : quantity.sum();
+            long deducted = STOCK - stockRepository.sumQuantityByProductNumber(product.getProductNumber());
+            assertThat(deducted)
+                    .as("상품 %s 의 재고 차감량", product.getProductNumber())
+                    .isEqualTo(expected);
+            ordered += expected;
+        }
+        assertThat(startingStock - totalStock()).isEqualTo(ordered);
+        assertThat(errors.sum()).isZero();
+    }
+
+    private void setUpCatalog() {
+        ProductType[] types = {ProductType.BOTTLE, ProductType.BAKERY, ProductType.HANDMADE};
+        List<Product> catalog = new ArrayList<>();
+        List<Stock> stocks = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            String productNumber = String.format("%03d", i + 1);
+            ProductType type = types[i % types.length];
+            catalog.add(Product.builder()
+                    .productNumber(productNumber)
+                    .type(type)
+                    .sellingStatus(ProductSellingStatus.SELLING)
+                    .name("상품" + i)
+                    .price(1000 + i * 10)
+                    .build());
+            if (ProductType.containsStockType(type)) {
+                stocks.add(Stock.create(productNumber, STOCK));
+            }
+        }
+        products = productRepository.saveAll(catalog);
+        stockRepository.saveAll(stocks);
+        if (HISTORY) {
+            // 이력 주문은 재고를 차감하지 않으므로 재고 검증에 영향을 주지 않는다.
+            new DatasetGenerator(jdbcTemplate).generateOrders(DatasetSpec.fromSystemProperties(), products);
+        }
+        productSampler = new ZipfianGenerator(PRODUCTS, ZIPF);
+    }
+
+    private long totalStock() {
+        long total = 0;
+        for (Product product : products) {
+            total += stockRepository.sumQuantityByProductNumber(product.getProductNumber());
+        }
+        return total;
+    }
+
+    /**
+     * 동시 사용자 수만큼의 스레드가 응답을 받을 때마다 다음 요청을 보낸다.
+     */
+    private void runClosedLoop() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+        ExecutorService users = Executors.newFixedThreadPool(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            users.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    send(start).join();
+                }
+            });
+        }
+        users.shutdown();
+        users.awaitTermination(DURATION_SECONDS + 60L, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 응답과 관계없이 정해진 간격으로 요청을 보낸다.
+     * 서버가 밀려도 발송 간격이 늘어나지 않으므로 지연시간에 대기 시간이 그대로 드러난다.
+     */
+    private void runOpenLoop() {
+        long interval = TimeUnit.SECONDS.toNanos(1) / RATE;
+        long total = (long) RATE * DURATION_SECONDS;
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * interval;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.add(send(intended));
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private CompletableFuture<Void> send(long intendedStart) {
+        if (ThreadLocalRandom.current().nextDouble() < READ_RATIO) {
+            return sendRead(intendedStart);
+        }
+        return sendOrder(intendedStart);
+    }
+
+    private CompletableFuture<Void> sendRead(long intendedStart) {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/products/selling")).GET().build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, failure) -> {
+                    readLatency.recordValue(elapsedMicros(intendedStart));
+                    if (failure == null && response.statusCode() == 200) {
+                        readSuccesses.increment();
+                    } else {
+                        recordError("read", response, failure);
+                    }
+                    return null;
+                });
+    }
+
+    private CompletableFuture<Void> sendOrder(long intendedStart) {
+        List<String> productNumbers = new ArrayList<>();
+        int items = 1 + ThreadLocalRandom.current().nextInt(MAX_ITEMS_PER_ORDER);
+        for (int i = 0; i < items; i++) {
+            productNumbers.add(products.get(productSampler.next()).getProductNumber());
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/orders/new"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(Map.of("productNumbers", productNumbers))))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, failure) -> {
+                    orderLatency.recordValue(elapsedMicros(intendedStart));
+                    if (failure == null && response.statusCode() == 200) {
+                        orderSuccesses.increment();
+                        productNumbers.forEach(productNumber ->
+                                orderedQuantities.computeIfAbsent(productNumber, key -> new LongAdder()).increment());
+                    } else if (failure == null && isStockShortage(response)) {
+                        orderRejections.increment();
+                    } else {
+                        recordError("order", response, failure);
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * 재고 부족은 IllegalArgumentException 으로 끝나 500 응답의 message 로만 구분된다.
+     */
+    private static boolean isStockShortage(HttpResponse<String> response) {
+        return response.statusCode() == 500 && response.body().contains(STOCK_SHORTAGE_MESSAGE);
+    }
+
+    private void recordError(String requestName, HttpResponse<?> response, Throwable failure) {
+        errors.increment();
+        String cause = failure != null ? failure.getClass().getSimpleName() : String.valueOf(response.statusCode());
+        errorCauses.computeIfAbsent(requestName + " " + cause, key -> new LongAdder()).increment();
+    }
+
+    private void report(double elapsedSeconds) {
+        long requests = orderLatency.getTotalCount() + readLatency.getTotalCount();
+        System.out.printf("%n=== load test (%s, %.1fs) ===%n", MODE, elapsedSeconds);
+        System.out.printf("throughput  %.1f req/s (orders ok %d, rejected %d, reads ok %d, errors %d)%n",
+                requests / elapsedSeconds, orderSuccesses.sum(), orderRejections.sum(), readSuccesses.sum(), errors.sum());
+        errorCauses.forEach((cause, count) -> System.out.printf("error       %s x%d%n", cause, count.sum()));
+        printLatency("order", orderLatency);
+        printLatency("selling", readLatency);
+    }
+
+    private static void printLatency(String name, Histogram histogram) {
+        System.out.printf("%-8s latency(us) p50=%d p90=%d p99=%d p99.9=%d max=%d (n=%d)%n",
+                name,
+                histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(90),
+                histogram.getValueAtPercentile(99),
+                histogram.getValueAtPercentile(99.9),
+                histogram.getMaxValue(),
+                histogram.getTotalCount());
+    }
+
+    private static long elapsedMicros(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}